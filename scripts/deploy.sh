@@ -59,6 +59,12 @@ echo ""
 
 # 4. 새 컨테이너 시작
 echo -e "${YELLOW}[4/5] 새 컨테이너 시작 중...${NC}"
+# RabbitMQ를 먼저 띄워 큐 정책(DLX/재시도 TTL)을 적용한 뒤 애플리케이션을 시작합니다.
+docker compose -f docker-compose.prod.yml up -d rabbitmq
+until docker exec rabbitmq rabbitmq-diagnostics -q ping >/dev/null 2>&1; do
+    sleep 2
+done
+"${SCRIPT_DIR}/rabbitmq-policies.sh"
 docker compose -f docker-compose.prod.yml up -d
 echo -e "${GREEN}✓ 새 컨테이너 시작 완료${NC}"
 echo ""
@@ -0,0 +1,68 @@
+#!/bin/bash
+#===============================================================================
+# RabbitMQ 정책(policy) 적용 스크립트
+# - 큐별 DLX(파킹 큐)와 재시도 큐 TTL은 큐 인자(x-arguments) 대신 정책으로 지정합니다.
+#   요청 큐는 AI 서버도 인자 없이 선언하므로, 인자를 넣으면 한쪽 선언이 PRECONDITION_FAILED로 실패합니다.
+#   정책은 큐를 다시 만들지 않고 바로 반영되며, 값을 바꿀 때도 이 스크립트만 다시 실행하면 됩니다.
+# - 큐 목록과 이름 규칙은 RabbitConfig(RETRYABLE_QUEUES, REQUEST_QUEUES, parkingLotQueue, retryQueue)와 같아야 합니다.
+# - 재시도 단계 수(RETRY_TIERS)는 애플리케이션의 rabbitmq.retry.tiers 와 같아야 합니다. 지연 값은 이 스크립트에서만 지정합니다.
+# 사용법: ./rabbitmq-policies.sh  (RABBITMQ_CONTAINER, RABBITMQ_VHOST, RETRY_INITIAL_DELAY_MS, RETRY_MULTIPLIER, RETRY_TIERS)
+#===============================================================================
+
+set -e
+
+RABBITMQ_CONTAINER="${RABBITMQ_CONTAINER:-rabbitmq}"
+RABBITMQ_VHOST="${RABBITMQ_VHOST:-/}"
+RETRY_INITIAL_DELAY_MS="${RETRY_INITIAL_DELAY_MS:-1000}"
+RETRY_MULTIPLIER="${RETRY_MULTIPLIER:-5}"
+RETRY_TIERS="${RETRY_TIERS:-3}"
+
+DEAD_LETTER_EXCHANGE="myroom.dlx"
+
+# 이 서버가 소비하는 큐 (RabbitConfig.RETRYABLE_QUEUES)
+RETRYABLE_QUEUES=(
+    "model3d.response.queue"
+    "model3d.dimensions.response.queue"
+    "recommand.response.queue"
+    "room3d.response.queue"
+)
+
+# AI 서버가 소비하는 요청 큐 (RabbitConfig.REQUEST_QUEUES)
+REQUEST_QUEUES=(
+    "model3d.upload.queue"
+    "model3d.dimensions.request.queue"
+    "model3d.metadata.update.queue"
+    "model3d.delete.queue"
+    "recommand.request.queue"
+    "room3d.request.queue"
+)
+
+rabbitmqctl() {
+    docker exec "$RABBITMQ_CONTAINER" rabbitmqctl -q "$@"
+}
+
+# 큐 이름을 정확히 일치시키는 정책 패턴 (. 이스케이프)
+exact_pattern() {
+    echo "^${1//./\\.}\$"
+}
+
+# 모든 큐: 거절된 메시지를 myroom.dlx 를 통해 {queue}.parking-lot 으로 보냅니다.
+for queue in "${RETRYABLE_QUEUES[@]}" "${REQUEST_QUEUES[@]}"; do
+    rabbitmqctl set_policy -p "$RABBITMQ_VHOST" --apply-to queues \
+        "myroom-dlx-${queue}" "$(exact_pattern "$queue")" \
+        "{\"dead-letter-exchange\":\"${DEAD_LETTER_EXCHANGE}\",\"dead-letter-routing-key\":\"${queue}.parking-lot\"}"
+    echo "  정책 적용: ${queue} -> ${queue}.parking-lot"
+done
+
+# 재시도 큐: TTL(initial-delay * multiplier^단계)이 지나면 기본 교환기를 통해 원래 큐로 돌아갑니다.
+for queue in "${RETRYABLE_QUEUES[@]}"; do
+    delay="$RETRY_INITIAL_DELAY_MS"
+    for ((tier = 0; tier < RETRY_TIERS; tier++)); do
+        retry_queue="${queue}.retry.${tier}"
+        rabbitmqctl set_policy -p "$RABBITMQ_VHOST" --apply-to queues \
+            "myroom-retry-${retry_queue}" "$(exact_pattern "$retry_queue")" \
+            "{\"message-ttl\":${delay},\"dead-letter-exchange\":\"\",\"dead-letter-routing-key\":\"${queue}\"}"
+        echo "  정책 적용: ${retry_queue} (ttl=${delay}ms) -> ${queue}"
+        delay=$((delay * RETRY_MULTIPLIER))
+    done
+done
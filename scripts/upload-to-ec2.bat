@@ -60,6 +60,7 @@ echo.
 echo [3/4] 배포 스크립트 업로드 중...
 scp -i "%PEM_FILE%" scripts\deploy.sh %EC2_HOST%:%REMOTE_DIR%/
 scp -i "%PEM_FILE%" scripts\rollback.sh %EC2_HOST%:%REMOTE_DIR%/
+scp -i "%PEM_FILE%" scripts\rabbitmq-policies.sh %EC2_HOST%:%REMOTE_DIR%/
 echo.
 
 echo [4/4] 스크립트 실행 권한 설정 중...
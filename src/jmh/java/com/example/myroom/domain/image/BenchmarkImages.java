@@ -0,0 +1,38 @@
+package com.example.myroom.domain.image;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력 이미지 생성 (사진과 비슷하도록 그라디언트 + 도형 + 노이즈, 시드 고정)
+ */
+final class BenchmarkImages {
+    private BenchmarkImages() {
+    }
+
+    static BufferedImage render(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setPaint(new GradientPaint(0, 0, new Color(200, 180, 150), width, height, new Color(60, 70, 90)));
+        g2d.fillRect(0, 0, width, height);
+
+        // 압축률이 비현실적으로 높아지지 않도록 무작위 도형과 노이즈를 추가합니다.
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            g2d.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256), 160));
+            g2d.fillOval(random.nextInt(width), random.nextInt(height), 20 + random.nextInt(width / 4), 20 + random.nextInt(height / 4));
+        }
+        g2d.dispose();
+        for (int i = 0; i < width * height / 20; i++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            image.setRGB(x, y, image.getRGB(x, y) ^ (random.nextInt(0x20) * 0x010101));
+        }
+        return image;
+    }
+}
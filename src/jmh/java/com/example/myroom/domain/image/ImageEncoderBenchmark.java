@@ -0,0 +1,50 @@
+package com.example.myroom.domain.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.myroom.global.util.ByteArrayOutputStreamPool;
+
+/**
+ * 캔버스 크기별 썸네일 인코딩 벤치마크 (리사이즈 제외, 인코딩만 측정)
+ * - 이미 캔버스 크기로 만들어진 ARGB 이미지를 썸네일 정책(PNG/JPEG)으로 인코딩합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageEncoderBenchmark {
+
+    @Param({"512", "1024"})
+    public int canvasSize;
+
+    @Param({"png", "jpeg"})
+    public String thumbnailFormat;
+
+    private ImageEncoder imageEncoder;
+    private BufferedImage canvas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ByteArrayOutputStreamPool bufferPool = new ByteArrayOutputStreamPool(4, 262_144, 8_388_608);
+        imageEncoder = new ImageEncoder(bufferPool, thumbnailFormat, 1, 0.85f, 4);
+        canvas = BenchmarkImages.render(canvasSize, canvasSize, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Benchmark
+    public int encodeThumbnail() throws IOException {
+        try (EncodedImage image = imageEncoder.encodeThumbnail(canvas)) {
+            return image.size();
+        }
+    }
+}
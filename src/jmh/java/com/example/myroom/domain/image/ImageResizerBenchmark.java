@@ -0,0 +1,91 @@
+package com.example.myroom.domain.image;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.myroom.global.util.ByteArrayOutputStreamPool;
+
+/**
+ * ImageResizer 리사이즈 + 인코딩 벤치마크 (썸네일 출력 포맷 PNG/JPEG 비교 포함)
+ * - Throughput: 초당 처리 수, SampleTime: 지연시간 백분위(p50/p90/p99...)
+ * - 할당률은 build.gradle의 gc 프로파일러(gc.alloc.rate.norm)로 확인합니다.
+ * - 캔버스 크기별 인코딩 비용은 ImageEncoderBenchmark에서 따로 측정합니다.
+ *
+ * 입력 이미지는 실행 시 코드로 생성합니다. WebP는 런타임 인코더가 없어(TwelveMonkeys는 디코딩 전용) 입력으로 만들 수 없으므로 제외합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageResizerBenchmark {
+
+    @Param({"jpeg", "png"})
+    public String format;
+
+    @Param({"800x600", "3000x2000", "6000x4000"})
+    public String sourceSize;
+
+    @Param({"png", "jpeg"})
+    public String thumbnailFormat;
+
+    private ImageResizer imageResizer;
+    private byte[] sourceBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ByteArrayOutputStreamPool bufferPool = new ByteArrayOutputStreamPool(4, 262_144, 8_388_608);
+        imageResizer = new ImageResizer(new ImageEncoder(bufferPool, thumbnailFormat, 1, 0.85f, 4), 100_000_000L, 8_388_608L);
+        sourceBytes = encodeSource();
+    }
+
+    /**
+     * 단일 캔버스 리사이즈 + 썸네일 정책 인코딩 (게시글 썸네일/프로필 경로)
+     */
+    @Benchmark
+    public int resizeToThumbnail() throws IOException {
+        try (EncodedImage image = imageResizer.resizeToThumbnail(new ByteArrayInputStream(sourceBytes),
+                ImageResizer.THUMBNAIL_CANVAS_SIZE)) {
+            return image.size();
+        }
+    }
+
+    /**
+     * 3D 업로드 경로 (1024 학습용 + 512 썸네일)
+     */
+    @Benchmark
+    public int resizeFor3D() throws IOException {
+        try (Model3DImageBytes imageBytes = imageResizer.resizeFor3D(new ByteArrayInputStream(sourceBytes))) {
+            return imageBytes.thumbnailImage().size() + imageBytes.trainingImage().size();
+        }
+    }
+
+    private byte[] encodeSource() throws IOException {
+        String[] size = sourceSize.split("x");
+        int width = Integer.parseInt(size[0]);
+        int height = Integer.parseInt(size[1]);
+
+        // JPEG은 알파 채널을 쓸 수 없으므로 RGB, PNG는 투명 배경 업로드를 가정해 ARGB로 생성합니다.
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage image = BenchmarkImages.render(width, height, type);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "jpeg".equals(format) ? "jpg" : "png", baos)) {
+            throw new IllegalStateException("인코더를 찾을 수 없습니다: " + format);
+        }
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.myroom.admin.messaging.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.example.myroom.admin.messaging.dto.response.MessageLatencyResponseDto;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "⚙️ 관리자 - 메시지 큐", description = "관리자 전용 RabbitMQ 파킹 큐 관리 및 AI 서버 왕복 지연 조회 API (ADMIN 권한 필요)")
+public interface AdminMessageLatencyApi {
+
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "왕복 지연 통계 조회 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = MessageLatencyResponseDto.class)),
+                    examples = @ExampleObject(
+                        name = "왕복 지연 통계 응답",
+                        value = """
+                            [
+                                {
+                                    "flow": "model3d-upload",
+                                    "stage": "request_queue",
+                                    "count": 120,
+                                    "mean_ms": 5230.4,
+                                    "max_ms": 41200.0,
+                                    "p50_ms": 3100.0,
+                                    "p95_ms": 18500.0,
+                                    "p99_ms": 36000.0
+                                }
+                            ]
+                            """
+                    )
+                )
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "관리자 권한 필요",
+                content = @Content(schema = @Schema(hidden = true))
+            )
+        }
+    )
+    @Operation(
+        summary = "AI 서버 왕복 지연 통계 조회 (관리자)",
+        description = """
+            요청 발행부터 WebSocket 알림까지의 구간별 지연 통계를 flow별로 조회합니다.
+            
+            **인증 필요:** Bearer Token (ADMIN 권한)
+            
+            **구간:**
+            - request_queue: 요청 발행 ~ AI 처리 시작
+            - processing: AI 처리
+            - response_queue: AI 처리 완료 ~ 응답 수신
+            - handling: 응답 수신 ~ 처리 완료 (DB 저장, 알림 포함)
+            - websocket: WebSocket 알림 발송
+            - end_to_end: 요청 발행 ~ 처리 완료
+            
+            AI 서버가 시작/완료 시각을 보내지 않은 응답은 request_queue/processing이 측정되지 않을 수 있습니다.
+            """
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/latencies")
+    ResponseEntity<List<MessageLatencyResponseDto>> getLatencies(
+            @Parameter(
+                description = "조회할 flow (생략 시 전체)",
+                example = "model3d-upload"
+            )
+            @RequestParam(name = "flow", required = false) String flow
+    );
+}
@@ -0,0 +1,29 @@
+package com.example.myroom.admin.messaging.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.myroom.admin.messaging.dto.response.MessageLatencyResponseDto;
+import com.example.myroom.admin.messaging.service.AdminMessageLatencyService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/messaging")
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class AdminMessageLatencyController implements AdminMessageLatencyApi {
+    private final AdminMessageLatencyService adminMessageLatencyService;
+
+    @GetMapping("/latencies")
+    public ResponseEntity<List<MessageLatencyResponseDto>> getLatencies(
+            @RequestParam(name = "flow", required = false) String flow) {
+        return ResponseEntity.ok(adminMessageLatencyService.getLatencies(flow));
+    }
+}
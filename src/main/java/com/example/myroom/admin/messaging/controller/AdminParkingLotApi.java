@@ -0,0 +1,128 @@
+package com.example.myroom.admin.messaging.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.example.myroom.admin.messaging.dto.response.ParkingLotReplayResponseDto;
+import com.example.myroom.admin.messaging.dto.response.ParkingLotStatusResponseDto;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "⚙️ 관리자 - 메시지 큐", description = "관리자 전용 RabbitMQ 파킹 큐 관리 및 AI 서버 왕복 지연 조회 API (ADMIN 권한 필요)")
+public interface AdminParkingLotApi {
+
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "파킹 큐 상태 조회 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = ParkingLotStatusResponseDto.class)),
+                    examples = @ExampleObject(
+                        name = "파킹 큐 목록 응답",
+                        value = """
+                            [
+                                {
+                                    "queue": "model3d.response.queue",
+                                    "parking_lot_queue": "model3d.response.queue.parking-lot",
+                                    "message_count": 3
+                                }
+                            ]
+                            """
+                    )
+                )
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "관리자 권한 필요",
+                content = @Content(schema = @Schema(hidden = true))
+            )
+        }
+    )
+    @Operation(
+        summary = "파킹 큐 상태 조회 (관리자)",
+        description = """
+            재시도를 모두 소진했거나 변환할 수 없어 파킹 큐로 이동한 메시지 수를 큐별로 조회합니다.
+            
+            **인증 필요:** Bearer Token (ADMIN 권한)
+            """
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/parking-lots")
+    ResponseEntity<List<ParkingLotStatusResponseDto>> getParkingLots();
+
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "파킹 큐 재처리 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ParkingLotReplayResponseDto.class),
+                    examples = @ExampleObject(
+                        name = "재처리 결과 응답",
+                        value = """
+                            {
+                                "queue": "model3d.response.queue",
+                                "replayed": 3,
+                                "remaining": 0
+                            }
+                            """
+                    )
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "관리 대상이 아닌 큐이거나 재처리 개수가 잘못됨",
+                content = @Content(schema = @Schema(hidden = true))
+            ),
+            @ApiResponse(
+                responseCode = "403",
+                description = "관리자 권한 필요",
+                content = @Content(schema = @Schema(hidden = true))
+            )
+        }
+    )
+    @Operation(
+        summary = "파킹 큐 일괄 재처리 (관리자)",
+        description = """
+            파킹 큐의 메시지를 원래 큐로 다시 보냅니다. 재시도 횟수는 초기화됩니다.
+            
+            **인증 필요:** Bearer Token (ADMIN 권한)
+            
+            **특징:**
+            - 원래 큐로의 발행이 확인된 메시지만 파킹 큐에서 제거됩니다.
+            - 한 번에 최대 1000개까지 재처리할 수 있습니다.
+            """
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/parking-lots/{queue}/replay")
+    ResponseEntity<ParkingLotReplayResponseDto> replayParkingLot(
+            @Parameter(
+                description = "원래 큐 이름",
+                required = true,
+                example = "model3d.response.queue"
+            )
+            @PathVariable(name = "queue") String queue,
+            @Parameter(
+                description = "재처리할 최대 메시지 수",
+                example = "100"
+            )
+            @RequestParam(name = "limit", defaultValue = "100") int limit
+    );
+}
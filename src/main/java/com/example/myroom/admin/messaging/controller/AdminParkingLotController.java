@@ -0,0 +1,38 @@
+package com.example.myroom.admin.messaging.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.myroom.admin.messaging.dto.response.ParkingLotReplayResponseDto;
+import com.example.myroom.admin.messaging.dto.response.ParkingLotStatusResponseDto;
+import com.example.myroom.admin.messaging.service.AdminParkingLotService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/messaging")
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class AdminParkingLotController implements AdminParkingLotApi {
+    private final AdminParkingLotService adminParkingLotService;
+
+    @GetMapping("/parking-lots")
+    public ResponseEntity<List<ParkingLotStatusResponseDto>> getParkingLots() {
+        return ResponseEntity.ok(adminParkingLotService.getParkingLots());
+    }
+
+    @PostMapping("/parking-lots/{queue}/replay")
+    public ResponseEntity<ParkingLotReplayResponseDto> replayParkingLot(
+            @PathVariable(name = "queue") String queue,
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return ResponseEntity.ok(adminParkingLotService.replay(queue, limit));
+    }
+}
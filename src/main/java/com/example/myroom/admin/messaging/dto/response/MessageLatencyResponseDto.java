@@ -0,0 +1,51 @@
+package com.example.myroom.admin.messaging.dto.response;
+
+import com.example.myroom.global.messaging.MessageLatencyTracker.StageSummary;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@Schema(description = "AI 서버 왕복 구간별 지연 통계 응답 DTO")
+@JsonNaming(SnakeCaseStrategy.class)
+public record MessageLatencyResponseDto(
+        @Schema(
+            description = "메시지 흐름",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "model3d-upload",
+            allowableValues = {"model3d-upload", "dimensions", "recommand", "room3d"}
+        )
+        String flow,
+
+        @Schema(
+            description = "구간",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "request_queue",
+            allowableValues = {"request_queue", "processing", "response_queue", "handling", "websocket", "end_to_end"}
+        )
+        String stage,
+
+        @Schema(description = "측정 건수 (서버 시작 이후 누적)", requiredMode = RequiredMode.REQUIRED, example = "120")
+        long count,
+
+        @Schema(description = "평균 (ms)", requiredMode = RequiredMode.REQUIRED, example = "5230.4")
+        double meanMs,
+
+        @Schema(description = "최근 최댓값 (ms)", requiredMode = RequiredMode.REQUIRED, example = "41200.0")
+        double maxMs,
+
+        @Schema(description = "50 백분위 (ms)", requiredMode = RequiredMode.REQUIRED, example = "3100.0")
+        double p50Ms,
+
+        @Schema(description = "95 백분위 (ms)", requiredMode = RequiredMode.REQUIRED, example = "18500.0")
+        double p95Ms,
+
+        @Schema(description = "99 백분위 (ms)", requiredMode = RequiredMode.REQUIRED, example = "36000.0")
+        double p99Ms
+) {
+    public static MessageLatencyResponseDto from(StageSummary summary) {
+        return new MessageLatencyResponseDto(summary.flow(), summary.stage(), summary.count(), summary.meanMillis(),
+                summary.maxMillis(), summary.p50Millis(), summary.p95Millis(), summary.p99Millis());
+    }
+}
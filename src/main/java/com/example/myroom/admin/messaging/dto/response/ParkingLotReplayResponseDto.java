@@ -0,0 +1,33 @@
+package com.example.myroom.admin.messaging.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@Schema(description = "파킹 큐 재처리 결과 응답 DTO")
+@JsonNaming(SnakeCaseStrategy.class)
+public record ParkingLotReplayResponseDto(
+        @Schema(
+            description = "메시지를 다시 보낸 원래 큐 이름",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "model3d.response.queue"
+        )
+        String queue,
+
+        @Schema(
+            description = "원래 큐로 다시 보낸 메시지 수",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "3"
+        )
+        int replayed,
+
+        @Schema(
+            description = "재처리 후 파킹 큐에 남은 메시지 수",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "0"
+        )
+        long remaining
+) {
+}
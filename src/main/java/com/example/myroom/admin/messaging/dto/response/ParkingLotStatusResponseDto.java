@@ -0,0 +1,33 @@
+package com.example.myroom.admin.messaging.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@Schema(description = "파킹 큐 상태 응답 DTO")
+@JsonNaming(SnakeCaseStrategy.class)
+public record ParkingLotStatusResponseDto(
+        @Schema(
+            description = "원래 큐 이름",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "model3d.response.queue"
+        )
+        String queue,
+
+        @Schema(
+            description = "파킹 큐 이름",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "model3d.response.queue.parking-lot"
+        )
+        String parkingLotQueue,
+
+        @Schema(
+            description = "파킹 큐에 쌓인 메시지 수 (큐가 없으면 0)",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "3"
+        )
+        long messageCount
+) {
+}
@@ -0,0 +1,30 @@
+package com.example.myroom.admin.messaging.service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.myroom.admin.messaging.dto.response.MessageLatencyResponseDto;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 서버 왕복 지연 통계 조회 (관리자)
+ * - 워커 수와 컨슈머 동시성 조정에 사용합니다. 같은 값은 Micrometer(myroom.mq.roundtrip)로도 노출됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminMessageLatencyService {
+    private final MessageLatencyTracker messageLatencyTracker;
+
+    public List<MessageLatencyResponseDto> getLatencies(String flow) {
+        return messageLatencyTracker.summarize().stream()
+                .filter(summary -> flow == null || flow.equals(summary.flow()))
+                .sorted(Comparator.comparing(MessageLatencyTracker.StageSummary::flow)
+                        .thenComparing(MessageLatencyTracker.StageSummary::stage))
+                .map(MessageLatencyResponseDto::from)
+                .toList();
+    }
+}
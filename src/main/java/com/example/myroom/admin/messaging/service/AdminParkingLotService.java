@@ -0,0 +1,114 @@
+package com.example.myroom.admin.messaging.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.stereotype.Service;
+
+import com.example.myroom.admin.messaging.dto.response.ParkingLotReplayResponseDto;
+import com.example.myroom.admin.messaging.dto.response.ParkingLotStatusResponseDto;
+import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.RabbitMessagePublisher;
+import com.rabbitmq.client.GetResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파킹 큐 관리 (관리자)
+ * - 파킹 큐의 메시지를 원래 큐로 일괄 재발행합니다. 재시도 횟수 헤더는 초기화됩니다.
+ * - 메시지는 수동 ack로 꺼내고, 원래 큐로의 발행 컨펌을 받은 뒤에만 ack하므로 재처리 중 유실되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminParkingLotService {
+    private static final String EXCEPTION_HEADER = "x-exception-message";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitMessagePublisher rabbitMessagePublisher;
+
+    private final MessagePropertiesConverter messagePropertiesConverter = new DefaultMessagePropertiesConverter();
+
+    public List<ParkingLotStatusResponseDto> getParkingLots() {
+        List<ParkingLotStatusResponseDto> parkingLots = new ArrayList<>();
+        for (String queue : managedQueues()) {
+            parkingLots.add(new ParkingLotStatusResponseDto(queue, RabbitConfig.parkingLotQueue(queue),
+                    messageCount(RabbitConfig.parkingLotQueue(queue))));
+        }
+        return parkingLots;
+    }
+
+    public ParkingLotReplayResponseDto replay(String queue, int limit) {
+        if (!managedQueues().contains(queue)) {
+            throw new IllegalArgumentException("재처리할 수 없는 큐입니다: " + queue);
+        }
+        if (limit <= 0 || limit > 1000) {
+            throw new IllegalArgumentException("재처리 개수는 1~1000 사이여야 합니다.");
+        }
+
+        String parkingLotQueue = RabbitConfig.parkingLotQueue(queue);
+        Integer replayed = rabbitTemplate.execute(channel -> {
+            int count = 0;
+            while (count < limit) {
+                GetResponse response = channel.basicGet(parkingLotQueue, false);
+                if (response == null) {
+                    break;
+                }
+                long deliveryTag = response.getEnvelope().getDeliveryTag();
+                MessageProperties properties = messagePropertiesConverter.toMessageProperties(
+                        response.getProps(), response.getEnvelope(), "UTF-8");
+                properties.setHeader(RabbitConfig.RETRY_ATTEMPT_HEADER, 0);
+                properties.getHeaders().remove(EXCEPTION_HEADER);
+
+                try {
+                    // 기본 교환기로 큐 이름을 라우팅 키로 사용하여 원래 큐에 직접 넣습니다.
+                    rabbitMessagePublisher.republish("", queue, new Message(response.getBody(), properties))
+                            .get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException | TimeoutException e) {
+                    channel.basicNack(deliveryTag, false, true);
+                    log.error("❌ 파킹 큐 재처리 중단: queue={}, replayed={}, error={}", queue, count, e.getMessage());
+                    break;
+                } catch (InterruptedException e) {
+                    channel.basicNack(deliveryTag, false, true);
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                channel.basicAck(deliveryTag, false);
+                count++;
+            }
+            return count;
+        });
+
+        int replayedCount = replayed != null ? replayed : 0;
+        log.info("♻️ 파킹 큐 재처리: queue={}, replayed={}", queue, replayedCount);
+        return new ParkingLotReplayResponseDto(queue, replayedCount, messageCount(parkingLotQueue));
+    }
+
+    private List<String> managedQueues() {
+        List<String> queues = new ArrayList<>(RabbitConfig.RETRYABLE_QUEUES);
+        queues.addAll(RabbitConfig.REQUEST_QUEUES);
+        return queues;
+    }
+
+    private long messageCount(String queue) {
+        Properties properties = amqpAdmin.getQueueProperties(queue);
+        if (properties == null) {
+            return 0;
+        }
+        Object count = properties.get(RabbitAdmin.QUEUE_MESSAGE_COUNT);
+        return count instanceof Number number ? number.longValue() : 0;
+    }
+}
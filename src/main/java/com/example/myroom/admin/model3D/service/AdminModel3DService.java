@@ -11,6 +11,7 @@ import com.example.myroom.admin.model3D.dto.request.AdminModel3DUpdateRequestDto
 import com.example.myroom.admin.model3D.dto.response.AdminModel3DResponseDto;
 import com.example.myroom.domain.bookmark.repository.Model3DBookmarkRepository;
 import com.example.myroom.domain.comment.repository.CommentRepository;
+import com.example.myroom.domain.model3D.messaging.Model3DMetadataUpdateBuffer;
 import com.example.myroom.domain.model3D.model.Model3D;
 import com.example.myroom.domain.model3D.repository.ModelDimensionsRepository;
 import com.example.myroom.domain.model3D.repository.Model3DRepository;
@@ -30,6 +31,7 @@ public class AdminModel3DService {
     private final CommentRepository commentRepository;
     private final PostLikeRepository postLikeRepository;
     private final RecommandResultRepository recommandResultRepository;
+    private final Model3DMetadataUpdateBuffer model3DMetadataUpdateBuffer;
 
     public AdminModel3DResponseDto getModel3DById(Long model3dId) {
         Model3D model3D = model3DRepository.findById(model3dId)
@@ -71,6 +73,16 @@ public class AdminModel3DService {
                 updateRequestDto.shopPageLink());
 
         Model3D updatedModel3D = model3DRepository.save(model3D);
+
+        // VectorDB에 학습된 모델이면 관리자 수정도 메타데이터에 반영합니다.
+        if (Boolean.TRUE.equals(updatedModel3D.getIsVectorDbTrained())) {
+            model3DMetadataUpdateBuffer.add(
+                    updatedModel3D.getId(),
+                    updatedModel3D.getCreatorId(),
+                    updatedModel3D.getName(),
+                    updatedModel3D.getDescription(),
+                    updatedModel3D.getIsShared());
+        }
         return AdminModel3DResponseDto.from(updatedModel3D);
     }
 
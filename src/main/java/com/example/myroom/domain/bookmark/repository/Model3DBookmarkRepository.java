@@ -1,10 +1,12 @@
 package com.example.myroom.domain.bookmark.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -32,4 +34,8 @@ public interface Model3DBookmarkRepository extends JpaRepository<Model3DBookmark
     void deleteByMemberId(Long memberId);
 
     void deleteByModel3DId(Long model3dId);
+
+    @Modifying
+    @Query("DELETE FROM Model3DBookmark b WHERE b.model3D.id IN :model3dIds")
+    int bulkDeleteByModel3DIdIn(@Param("model3dIds") List<Long> model3dIds);
 }
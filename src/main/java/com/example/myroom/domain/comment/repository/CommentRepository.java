@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -47,12 +48,29 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
        long countByMemberId(Long memberId);
 
-       @Query("SELECT c.post.id, COUNT(c) FROM Comment c WHERE c.post.id IN :postIds GROUP BY c.post.id")
-       List<Object[]> countByPostIds(@Param("postIds") List<Long> postIds);
+       // 댓글을 지우면 ON DELETE CASCADE로 함께 지워지는 하위 댓글 수 (대댓글의 대댓글까지 포함)
+       @Query(value = """
+               WITH RECURSIVE descendant (id) AS (
+                   SELECT id FROM comment WHERE parent_comment_id = :commentId
+                   UNION ALL
+                   SELECT c.id FROM comment c JOIN descendant d ON c.parent_comment_id = d.id
+               )
+               SELECT COUNT(*) FROM descendant
+               """, nativeQuery = true)
+       long countDescendantsById(@Param("commentId") Long commentId);
 
        void deleteByPostId(Long postId);
 
        void deleteByPostIdIn(List<Long> postIds);
 
        void deleteByMemberId(Long memberId);
+
+       // 대댓글의 부모 참조를 먼저 끊어야 한 번의 DELETE로 지워도 self FK 제약에 걸리지 않습니다.
+       @Modifying
+       @Query("UPDATE Comment c SET c.parentComment = null WHERE c.post.id IN :postIds")
+       int detachRepliesByPostIdIn(@Param("postIds") List<Long> postIds);
+
+       @Modifying
+       @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds")
+       int bulkDeleteByPostIdIn(@Param("postIds") List<Long> postIds);
 }
\ No newline at end of file
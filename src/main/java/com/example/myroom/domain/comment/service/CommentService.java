@@ -56,6 +56,7 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        postRepository.addCommentCount(post.getId(), 1);
         log.info("댓글이 생성되었습니다. 댓글 ID: {}, 게시글 ID: {}, 작성자 ID: {}, 부모 댓글 ID: {}", 
                 savedComment.getId(), post.getId(), member.getId(),
                 parentComment != null ? parentComment.getId() : null);
@@ -112,8 +113,11 @@ public class CommentService {
             throw new IllegalArgumentException("댓글을 삭제할 권한이 없습니다.");
         }
 
+        // 대댓글은 DB에서 함께 삭제되므로(ON DELETE CASCADE) 삭제 전에 세어 댓글 수에서 같이 뺍니다.
+        long deletedCount = 1 + commentRepository.countDescendantsById(commentId);
         commentRepository.delete(comment);
-        log.info("댓글이 삭제되었습니다. 댓글 ID: {}", commentId);
+        postRepository.addCommentCount(comment.getPost().getId(), -deletedCount);
+        log.info("댓글이 삭제되었습니다. 댓글 ID: {}, 함께 삭제된 대댓글 수: {}", commentId, deletedCount - 1);
     }
 
     public long getCommentCountByPostId(Long postId) {
@@ -0,0 +1,24 @@
+package com.example.myroom.domain.image;
+
+import java.io.InputStream;
+
+import com.example.myroom.global.util.PooledByteArrayOutputStream;
+
+/**
+ * 인코딩된 이미지 - 풀 버퍼를 그대로 들고 있으므로 업로드/저장 후 close()로 반환해야 합니다.
+ */
+public record EncodedImage(PooledByteArrayOutputStream buffer, ImageOutputFormat format, long encodeNanos) implements AutoCloseable {
+
+    public int size() {
+        return buffer.size();
+    }
+
+    public InputStream newInputStream() {
+        return buffer.newInputStream();
+    }
+
+    @Override
+    public void close() {
+        buffer.close();
+    }
+}
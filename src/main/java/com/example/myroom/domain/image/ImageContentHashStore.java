@@ -0,0 +1,82 @@
+package com.example.myroom.domain.image;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.domain.image.model.ImageContentHash;
+import com.example.myroom.domain.image.repository.ImageContentHashRepository;
+import com.example.myroom.global.util.LruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 원본 해시 → 변환 이미지 URL 조회/저장
+ * - 프로세스 내 LRU를 먼저 조회하고, 없으면 image_content_hash 테이블을 조회합니다.
+ * - 같은 해시의 동시 저장은 키가 같으므로 충돌이 나도 결과는 동일하며, 무시합니다.
+ */
+@Slf4j
+@Component
+public class ImageContentHashStore {
+    private final ImageContentHashRepository imageContentHashRepository;
+    private final LruCache<String, Model3DImageUrls> cache;
+
+    public ImageContentHashStore(ImageContentHashRepository imageContentHashRepository,
+                                 @Value("${image.content-hash.cache-size:1024}") int cacheSize) {
+        this.imageContentHashRepository = imageContentHashRepository;
+        this.cache = new LruCache<>(cacheSize);
+    }
+
+    /**
+     * 썸네일/학습용 이미지가 모두 있는 경우에만 반환합니다.
+     */
+    public Optional<Model3DImageUrls> findModel3DImages(String contentHash) {
+        return find(contentHash).filter(imageUrls -> imageUrls.trainingImageUrl() != null);
+    }
+
+    public Optional<String> findThumbnailUrl(String contentHash) {
+        return find(contentHash).map(Model3DImageUrls::thumbnailUrl);
+    }
+
+    public void saveModel3DImages(String contentHash, Model3DImageUrls imageUrls) {
+        save(contentHash, imageUrls.thumbnailUrl(), imageUrls.trainingImageUrl());
+    }
+
+    public void saveThumbnailUrl(String contentHash, String thumbnailUrl) {
+        save(contentHash, thumbnailUrl, null);
+    }
+
+    private Optional<Model3DImageUrls> find(String contentHash) {
+        Model3DImageUrls cached = cache.get(contentHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Model3DImageUrls> stored = imageContentHashRepository.findById(contentHash)
+                .map(entry -> new Model3DImageUrls(entry.getThumbnailUrl(), entry.getTrainingImageUrl()));
+        stored.ifPresent(imageUrls -> cache.put(contentHash, imageUrls));
+        return stored;
+    }
+
+    private void save(String contentHash, String thumbnailUrl, String trainingImageUrl) {
+        try {
+            ImageContentHash entry = imageContentHashRepository.findById(contentHash)
+                    .orElseGet(() -> ImageContentHash.builder()
+                            .contentHash(contentHash)
+                            .thumbnailUrl(thumbnailUrl)
+                            .trainingImageUrl(trainingImageUrl)
+                            .createdAt(LocalDateTime.now())
+                            .build());
+            entry.updateImageUrls(thumbnailUrl, trainingImageUrl);
+            ImageContentHash saved = imageContentHashRepository.save(entry);
+            cache.put(contentHash, new Model3DImageUrls(saved.getThumbnailUrl(), saved.getTrainingImageUrl()));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 원본이 동시에 업로드된 경우 - 다른 요청이 같은 키로 이미 저장했습니다.
+            log.debug("이미지 해시 인덱스 중복 저장 무시: contentHash={}", contentHash);
+            cache.remove(contentHash);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.myroom.domain.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.global.util.ByteArrayOutputStreamPool;
+import com.example.myroom.global.util.PooledByteArrayOutputStream;
+
+/**
+ * 변환 이미지 인코더 (대상별 출력 정책)
+ * - 학습용 1024 이미지: 무손실 PNG, deflate 레벨 설정 가능 (image.output.training.png-level)
+ * - 썸네일 512 이미지: 빠른 PNG 레벨 또는 JPEG (image.output.thumbnail.format)
+ *   JPEG는 알파 채널이 없으므로 투명 여백을 흰색으로 채워서 인코딩합니다.
+ * - 결과는 풀 버퍼에 담겨 반환되며, 사용 측에서 close()로 반환합니다.
+ */
+@Component
+public class ImageEncoder {
+    private static final int MAX_PNG_LEVEL = 9;
+
+    private final ByteArrayOutputStreamPool bufferPool;
+    private final ImageOutputFormat thumbnailFormat;
+    private final float thumbnailQuality;
+    private final float trainingQuality;
+
+    public ImageEncoder(ByteArrayOutputStreamPool bufferPool,
+                        @Value("${image.output.thumbnail.format:png}") String thumbnailFormat,
+                        @Value("${image.output.thumbnail.png-level:1}") int thumbnailPngLevel,
+                        @Value("${image.output.thumbnail.jpeg-quality:0.85}") float thumbnailJpegQuality,
+                        @Value("${image.output.training.png-level:4}") int trainingPngLevel) {
+        this.bufferPool = bufferPool;
+        this.thumbnailFormat = ImageOutputFormat.fromString(thumbnailFormat);
+        this.thumbnailQuality = this.thumbnailFormat == ImageOutputFormat.JPEG
+                ? thumbnailJpegQuality
+                : pngQuality(thumbnailPngLevel);
+        this.trainingQuality = pngQuality(trainingPngLevel);
+    }
+
+    public EncodedImage encodeThumbnail(BufferedImage image) throws IOException {
+        return encode(image, thumbnailFormat, thumbnailQuality);
+    }
+
+    public EncodedImage encodeTraining(BufferedImage image) throws IOException {
+        return encode(image, ImageOutputFormat.PNG, trainingQuality);
+    }
+
+    private EncodedImage encode(BufferedImage image, ImageOutputFormat format, float quality) throws IOException {
+        long start = System.nanoTime();
+        BufferedImage target = format == ImageOutputFormat.JPEG ? flattenToRgb(image) : image;
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format.getFormatName());
+        if (!writers.hasNext()) {
+            throw new IOException("이미지 인코더를 찾을 수 없습니다: " + format);
+        }
+
+        ImageWriter writer = writers.next();
+        PooledByteArrayOutputStream buffer = bufferPool.acquire();
+        // ImageIO.createImageOutputStream은 기본 설정에서 임시 파일 캐시를 사용하므로 메모리 캐시를 직접 사용합니다.
+        try (ImageOutputStream ios = new MemoryCacheImageOutputStream(buffer)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(target, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            buffer.close();
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        return new EncodedImage(buffer, format, System.nanoTime() - start);
+    }
+
+    /**
+     * PNG 라이터는 compressionQuality를 deflate 레벨로 변환합니다. (1.0 = 레벨 0, 0.0 = 레벨 9)
+     */
+    private float pngQuality(int deflateLevel) {
+        int level = Math.max(0, Math.min(MAX_PNG_LEVEL, deflateLevel));
+        return 1.0f - (float) level / MAX_PNG_LEVEL;
+    }
+
+    private BufferedImage flattenToRgb(BufferedImage image) {
+        BufferedImage rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = rgbImage.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return rgbImage;
+    }
+}
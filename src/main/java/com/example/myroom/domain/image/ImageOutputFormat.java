@@ -0,0 +1,41 @@
+package com.example.myroom.domain.image;
+
+/**
+ * 변환 이미지 출력 포맷
+ * - WebP는 TwelveMonkeys 플러그인이 디코딩만 지원하므로 출력 포맷에 포함하지 않습니다.
+ */
+public enum ImageOutputFormat {
+    PNG("png", "image/png", "png"),
+    JPEG("jpeg", "image/jpeg", "jpg");
+
+    private final String formatName;
+    private final String contentType;
+    private final String extension;
+
+    ImageOutputFormat(String formatName, String contentType, String extension) {
+        this.formatName = formatName;
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getFormatName() {
+        return formatName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ImageOutputFormat fromString(String value) {
+        for (ImageOutputFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 출력 포맷입니다: " + value);
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.myroom.domain.image;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 3D 모델용 이미지 리사이즈 파이프라인
+ * - 원본 이미지는 요청당 한 번만 디코딩합니다.
+ * - 1024 학습용 캔버스를 먼저 만들고, 512 썸네일은 1024 캔버스를 축소해서 만듭니다.
+ * - 원본은 헤더의 해상도를 먼저 읽고, 캔버스 이상을 유지하는 가장 작은 해상도로 서브샘플링해서 디코딩합니다.
+ * - ARGB 캔버스는 스레드별로 재사용하여 요청마다 새로 할당하지 않습니다.
+ * - 스레드 수가 제한된 imageProcessingExecutor에서 호출되어야 재사용 캔버스 메모리도 제한됩니다.
+ */
+@Component
+public class ImageResizer {
+    public static final int THUMBNAIL_CANVAS_SIZE = 512;
+    public static final int TRAINING_CANVAS_SIZE = 1024;
+
+    // 캔버스 크기별 재사용 버퍼 (스레드 간 공유하지 않음)
+    private final ThreadLocal<Map<Integer, BufferedImage>> scratchCanvases = ThreadLocal.withInitial(HashMap::new);
+
+    // 헤더 기준 원본 해상도 상한 (이보다 크면 디코딩하지 않고 거절)
+    private final long maxSourcePixels;
+    // 서브샘플링 후 실제로 디코딩되는 픽셀 수 상한
+    private final long maxDecodedPixels;
+
+    private final ImageEncoder imageEncoder;
+
+    public ImageResizer(ImageEncoder imageEncoder,
+                        @Value("${image.decode.max-source-pixels:100000000}") long maxSourcePixels,
+                        @Value("${image.decode.max-decoded-pixels:8388608}") long maxDecodedPixels) {
+        this.imageEncoder = imageEncoder;
+        this.maxSourcePixels = maxSourcePixels;
+        this.maxDecodedPixels = maxDecodedPixels;
+    }
+
+    /**
+     * 원본을 한 번 디코딩하여 512 썸네일과 1024 학습용 이미지를 함께 생성합니다.
+     * 출력 포맷은 ImageEncoder의 대상별 정책을 따릅니다. (학습용: PNG, 썸네일: 설정값)
+     */
+    public Model3DImageBytes resizeFor3D(InputStream source) throws IOException {
+        BufferedImage originalImage = decode(source, TRAINING_CANVAS_SIZE);
+
+        BufferedImage trainingCanvas = drawCentered(originalImage, TRAINING_CANVAS_SIZE);
+        EncodedImage trainingImage = imageEncoder.encodeTraining(trainingCanvas);
+
+        // 1024 캔버스는 이미 중앙 정렬되어 있으므로 그대로 절반 크기로 축소합니다.
+        try {
+            BufferedImage thumbnailCanvas = drawScaled(trainingCanvas, THUMBNAIL_CANVAS_SIZE);
+            EncodedImage thumbnailImage = imageEncoder.encodeThumbnail(thumbnailCanvas);
+            return new Model3DImageBytes(thumbnailImage, trainingImage);
+        } catch (IOException | RuntimeException e) {
+            trainingImage.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 원본을 canvasSize x canvasSize 투명 캔버스에 맞춰 썸네일 정책으로 인코딩합니다.
+     */
+    public EncodedImage resizeToThumbnail(InputStream source, int canvasSize) throws IOException {
+        BufferedImage originalImage = decode(source, canvasSize);
+        return imageEncoder.encodeThumbnail(drawCentered(originalImage, canvasSize));
+    }
+
+    /**
+     * 헤더에서 해상도를 먼저 읽고, 긴 변이 canvasSize 이상으로 남는 범위에서 서브샘플링하여 디코딩합니다.
+     * 예) 6000x4000 원본, 1024 캔버스 → 5배 서브샘플링 → 1200x800 으로 디코딩
+     */
+    private BufferedImage decode(InputStream source, int canvasSize) throws IOException {
+        try (InputStream is = source; ImageInputStream iis = ImageIO.createImageInputStream(is)) {
+            if (iis == null) {
+                throw new IOException("Invalid image file");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IOException("Invalid image file");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다. (" + width + "x" + height + ")");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsamplingFor(width, height, canvasSize);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+
+                BufferedImage originalImage = reader.read(0, param);
+                if (originalImage == null) {
+                    throw new IOException("Invalid image file");
+                }
+                return originalImage;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 캔버스 품질을 유지하는 최대 서브샘플링 배율을 구하고, 디코딩 픽셀 상한을 넘으면 배율을 더 올립니다.
+     */
+    int subsamplingFor(int width, int height, int canvasSize) {
+        int subsampling = Math.max(1, Math.max(width, height) / canvasSize);
+        while (decodedPixels(width, height, subsampling) > maxDecodedPixels) {
+            subsampling++;
+        }
+        return subsampling;
+    }
+
+    private long decodedPixels(int width, int height, int subsampling) {
+        long decodedWidth = (width + subsampling - 1) / subsampling;
+        long decodedHeight = (height + subsampling - 1) / subsampling;
+        return decodedWidth * decodedHeight;
+    }
+
+    private BufferedImage drawCentered(BufferedImage originalImage, int canvasSize) {
+        int originalWidth = originalImage.getWidth();
+        int originalHeight = originalImage.getHeight();
+
+        // 종횡비를 유지하면서 canvasSize x canvasSize에 맞는 크기 계산
+        double aspectRatio = (double) originalWidth / originalHeight;
+        int newWidth, newHeight;
+        if (aspectRatio > 1.0) { // 가로가 더 긴 경우
+            newWidth = canvasSize;
+            newHeight = (int) (canvasSize / aspectRatio);
+        } else { // 세로가 더 길거나 정사각형인 경우
+            newHeight = canvasSize;
+            newWidth = (int) (canvasSize * aspectRatio);
+        }
+
+        // 이미지를 중앙에 배치
+        int x = (canvasSize - newWidth) / 2;
+        int y = (canvasSize - newHeight) / 2;
+
+        BufferedImage canvas = acquireCanvas(canvasSize);
+        Graphics2D g2d = createGraphics(canvas);
+        g2d.drawImage(originalImage, x, y, newWidth, newHeight, null);
+        g2d.dispose();
+        return canvas;
+    }
+
+    private BufferedImage drawScaled(BufferedImage sourceCanvas, int canvasSize) {
+        BufferedImage canvas = acquireCanvas(canvasSize);
+        Graphics2D g2d = createGraphics(canvas);
+        g2d.drawImage(sourceCanvas, 0, 0, canvasSize, canvasSize, null);
+        g2d.dispose();
+        return canvas;
+    }
+
+    /**
+     * 재사용 캔버스를 꺼내 투명하게 초기화합니다.
+     */
+    private BufferedImage acquireCanvas(int canvasSize) {
+        BufferedImage canvas = scratchCanvases.get().computeIfAbsent(canvasSize,
+                size -> new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB));
+
+        Graphics2D g2d = canvas.createGraphics();
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, canvasSize, canvasSize);
+        g2d.dispose();
+        return canvas;
+    }
+
+    private Graphics2D createGraphics(BufferedImage canvas) {
+        Graphics2D g2d = canvas.createGraphics();
+
+        // 고품질 렌더링 설정
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        return g2d;
+    }
+}
@@ -1,9 +1,5 @@
 package com.example.myroom.domain.image;
 
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -11,19 +7,21 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 
-import javax.imageio.ImageIO;
-
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 @Service
 @Log4j2
+@RequiredArgsConstructor
 public class ImageUploadService {
     private static final String UPLOAD_DIR = "C:/uploads/";
     private static final List<String> ALLOWED_MIME_TYPES = List.of("image/jpeg", "image/jpg", "image/png", "image/webp");
 
+    private final ImageResizer imageResizer;
+
     public String uploadImage(MultipartFile file) throws IOException {
         return uploadModel3DImages(file).thumbnailUrl();
     }
@@ -40,19 +38,18 @@ public class ImageUploadService {
                 throw new IOException("Invalid file name");
             }
             
-            byte[] thumbnailImageBytes = processImageFor3D(file, 512);
-            byte[] trainingImageBytes = processImageFor3D(file, 1024);
-            
-            long timestamp = System.currentTimeMillis();
-            String thumbnailFileName = timestamp + "_512.png";
-            String trainingFileName = timestamp + "_1024.png";
+            try (Model3DImageBytes imageBytes = imageResizer.resizeFor3D(file.getInputStream())) {
+                long timestamp = System.currentTimeMillis();
+                String thumbnailFileName = timestamp + "_512." + imageBytes.thumbnailImage().format().getExtension();
+                String trainingFileName = timestamp + "_1024." + imageBytes.trainingImage().format().getExtension();
 
-            Files.write(Paths.get(UPLOAD_DIR + thumbnailFileName), thumbnailImageBytes);
-            Files.write(Paths.get(UPLOAD_DIR + trainingFileName), trainingImageBytes);
+                Files.copy(imageBytes.thumbnailImage().newInputStream(), Paths.get(UPLOAD_DIR + thumbnailFileName));
+                Files.copy(imageBytes.trainingImage().newInputStream(), Paths.get(UPLOAD_DIR + trainingFileName));
 
-            String thumbnailUrl = "http://localhost:8080/images/" + thumbnailFileName;
-            String trainingImageUrl = "http://localhost:8080/images/" + trainingFileName;
-            return new Model3DImageUrls(thumbnailUrl, trainingImageUrl);
+                String thumbnailUrl = "http://localhost:8080/images/" + thumbnailFileName;
+                String trainingImageUrl = "http://localhost:8080/images/" + trainingFileName;
+                return new Model3DImageUrls(thumbnailUrl, trainingImageUrl);
+            }
         } catch (IOException e) {
             log.error("File upload failed", e);
             throw new IOException("Image Upload Fail", e);
@@ -90,50 +87,4 @@ public class ImageUploadService {
         }
         return "";
     }
-    
-    private byte[] processImageFor3D(MultipartFile originalFile, int canvasSize) throws IOException {
-        BufferedImage originalImage = ImageIO.read(originalFile.getInputStream());
-        if (originalImage == null) {
-            throw new IOException("Invalid image file");
-        }
-        
-        int originalWidth = originalImage.getWidth();
-        int originalHeight = originalImage.getHeight();
-        
-        // 종횡비 계산
-        double aspectRatio = (double) originalWidth / originalHeight;
-        
-        // 종횡비를 유지하면서 canvasSize x canvasSize에 맞는 크기 계산
-        int newWidth, newHeight;
-        if (aspectRatio > 1.0) { // 가로가 더 긴 경우
-            newWidth = canvasSize;
-            newHeight = (int) (canvasSize / aspectRatio);
-        } else { // 세로가 더 길거나 정사각형인 경우
-            newHeight = canvasSize;
-            newWidth = (int) (canvasSize * aspectRatio);
-        }
-        
-        // PNG 투명 배경 캔버스 생성
-        BufferedImage processedImage = new BufferedImage(canvasSize, canvasSize, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = processedImage.createGraphics();
-        
-        // 고품질 렌더링 설정
-        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        // 투명 배경 (기본값이므로 별도 설정 불필요)
-        
-        // 이미지를 중앙에 배치
-        int x = (canvasSize - newWidth) / 2;
-        int y = (canvasSize - newHeight) / 2;
-        
-        g2d.drawImage(originalImage, x, y, newWidth, newHeight, null);
-        g2d.dispose();
-        
-        // PNG로 변환
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(processedImage, "png", baos);
-        return baos.toByteArray();
-    }
-}
\ No newline at end of file
+}
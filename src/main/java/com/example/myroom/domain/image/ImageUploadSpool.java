@@ -0,0 +1,54 @@
+package com.example.myroom.domain.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.myroom.global.util.ContentHashUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 원본 스풀 디렉토리
+ * - 요청이 끝나면 Multipart 임시 파일이 삭제되므로, 비동기 파이프라인이 읽을 원본을 로컬 디스크에 복사해둡니다.
+ * - 힙에 원본 바이트를 올리지 않고 NIO 스트림으로 바로 파일에 씁니다.
+ */
+@Slf4j
+@Component
+public class ImageUploadSpool {
+    private final Path spoolDirectory;
+
+    public ImageUploadSpool(@Value("${image.spool.dir:${java.io.tmpdir}/myroom-upload-spool}") String spoolDirectory) {
+        this.spoolDirectory = Paths.get(spoolDirectory);
+    }
+
+    /**
+     * 원본을 스풀 파일로 복사하면서 SHA-256 해시를 함께 계산합니다. (원본을 한 번만 읽음)
+     */
+    public SpooledImage spool(MultipartFile file) throws IOException {
+        Files.createDirectories(spoolDirectory);
+        Path target = spoolDirectory.resolve(System.currentTimeMillis() + "_" + UUID.randomUUID() + ".upload");
+        MessageDigest digest = ContentHashUtil.newSha256();
+        try (InputStream is = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(is, target);
+        }
+        return new SpooledImage(target, ContentHashUtil.toHex(digest));
+    }
+
+    public void delete(Path spooledFile) {
+        try {
+            Files.deleteIfExists(spooledFile);
+        } catch (IOException e) {
+            log.warn("스풀 파일 삭제 실패: path={}, error={}", spooledFile, e.getMessage());
+        }
+    }
+}
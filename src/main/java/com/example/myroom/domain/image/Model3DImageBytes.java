@@ -0,0 +1,10 @@
+package com.example.myroom.domain.image;
+
+public record Model3DImageBytes(EncodedImage thumbnailImage, EncodedImage trainingImage) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        thumbnailImage.close();
+        trainingImage.close();
+    }
+}
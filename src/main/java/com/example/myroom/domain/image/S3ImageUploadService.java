@@ -1,22 +1,27 @@
 package com.example.myroom.domain.image;
 
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
-import javax.imageio.ImageIO;
-
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import lombok.RequiredArgsConstructor;
+import com.example.myroom.global.util.ContentHashUtil;
+
 import lombok.extern.log4j.Log4j2;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -24,75 +29,211 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @Service
 @Log4j2
-@RequiredArgsConstructor
 public class S3ImageUploadService {
     private final S3Client s3Client;
+    private final ImageResizer imageResizer;
+    private final ImageContentHashStore imageContentHashStore;
+    private final Executor imageProcessingExecutor;
+    private final Executor imageUploadExecutor;
+
+    public S3ImageUploadService(S3Client s3Client,
+                                ImageResizer imageResizer,
+                                ImageContentHashStore imageContentHashStore,
+                                @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+                                @Qualifier("imageUploadExecutor") Executor imageUploadExecutor) {
+        this.s3Client = s3Client;
+        this.imageResizer = imageResizer;
+        this.imageContentHashStore = imageContentHashStore;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.imageUploadExecutor = imageUploadExecutor;
+    }
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
     private static final List<String> ALLOWED_MIME_TYPES = List.of("image/jpeg", "image/jpg", "image/png", "image/webp");
 
+    /**
+     * 512 썸네일 업로드 - 같은 원본이 이미 변환된 적이 있으면 기존 URL을 재사용합니다.
+     */
     public String uploadImage(MultipartFile file) throws IOException {
-        return uploadResizedPng(file, 512, "images/thumbnails/");
+        validateUploadFile(file);
+
+        String contentHash = ContentHashUtil.sha256Hex(file.getInputStream());
+        Optional<String> cachedThumbnailUrl = imageContentHashStore.findThumbnailUrl(contentHash);
+        if (cachedThumbnailUrl.isPresent()) {
+            log.info("이미지 해시 캐시 적중 (썸네일): contentHash={}", contentHash);
+            return cachedThumbnailUrl.get();
+        }
+
+        String thumbnailUrl = uploadResizedThumbnail(file, 512, thumbnailKeyBase(contentHash));
+        imageContentHashStore.saveThumbnailUrl(contentHash, thumbnailUrl);
+        return thumbnailUrl;
     }
 
     public String uploadProfileImage(MultipartFile file) throws IOException {
-        return uploadResizedPng(file, 512, "images/profile/");
+        validateUploadFile(file);
+        return uploadResizedThumbnail(file, 512, "images/profile/" + System.currentTimeMillis() + "_" + UUID.randomUUID() + "_512");
     }
 
     public Model3DImageUrls uploadModel3DImages(MultipartFile file) throws IOException {
+        return uploadModel3DImagesInOrder(List.of(file)).get(0);
+    }
+
+    /**
+     * 여러 장의 3D 모델용 이미지를 동시에 리사이즈/업로드하고, 입력 순서대로 결과를 반환합니다.
+     * - 리사이즈는 imageProcessingExecutor(CPU 제한), S3 PUT은 imageUploadExecutor에서 실행됩니다.
+     * - 파일별 썸네일/학습용 PUT도 동시에 실행되므로 전체 소요 시간은 가장 느린 업로드에 가까워집니다.
+     */
+    public List<Model3DImageUrls> uploadModel3DImagesInOrder(List<MultipartFile> files) throws IOException {
+        // 작업을 제출하기 전에 모든 파일을 먼저 검증하여 일부만 업로드되는 상황을 줄입니다.
+        List<String> contentHashes = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            validateModel3DImage(file);
+            contentHashes.add(ContentHashUtil.sha256Hex(file.getInputStream()));
+        }
+
+        List<CompletableFuture<Model3DImageUrls>> futures = new ArrayList<>(files.size());
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                futures.add(uploadModel3DImagesAsync(files.get(i), contentHashes.get(i)));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 처리 대기열이 가득 찼습니다: submitted={}", futures.size());
+            throw new IOException("Image Upload Fail", e);
+        }
+
+        List<Model3DImageUrls> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<Model3DImageUrls> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    /**
+     * 원본 해시로 기존 변환 결과를 먼저 찾고, 없을 때만 리사이즈/업로드합니다.
+     */
+    public CompletableFuture<Model3DImageUrls> uploadModel3DImagesAsync(InputStreamSource source, String contentHash) {
+        Optional<Model3DImageUrls> cachedImageUrls = imageContentHashStore.findModel3DImages(contentHash);
+        if (cachedImageUrls.isPresent()) {
+            log.info("이미지 해시 캐시 적중 (3D): contentHash={}", contentHash);
+            return CompletableFuture.completedFuture(cachedImageUrls.get());
+        }
+        return resizeModel3DImageAsync(source)
+                .thenCompose(imageBytes -> uploadModel3DImageBytesAsync(imageBytes, contentHash));
+    }
+
+    public Optional<Model3DImageUrls> findUploadedModel3DImages(String contentHash) {
+        return imageContentHashStore.findModel3DImages(contentHash);
+    }
+
+    /**
+     * 3D 모델용 이미지 검증 (비동기 파이프라인 접수 전 요청 스레드에서 호출)
+     */
+    public void validateModel3DImage(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             throw new IOException("Image file is empty");
         }
         validateImageFile(file);
+        if (file.getOriginalFilename() == null) {
+            throw new IOException("Invalid file name");
+        }
+    }
 
-        try {
-            String originalFileName = file.getOriginalFilename();
-            if (originalFileName == null) {
-                throw new IOException("Invalid file name");
+    /**
+     * 리사이즈 단계: imageProcessingExecutor에서 512 썸네일/1024 학습용 이미지를 생성합니다.
+     * source는 MultipartFile 또는 스풀 파일(FileSystemResource) 등 다시 열 수 있는 스트림 소스입니다.
+     */
+    public CompletableFuture<Model3DImageBytes> resizeModel3DImageAsync(InputStreamSource source) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return imageResizer.resizeFor3D(source.getInputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
+        }, imageProcessingExecutor);
+    }
 
-            byte[] thumbnailImageBytes = processImageFor3D(file, 512);
-            byte[] trainingImageBytes = processImageFor3D(file, 1024);
+    /**
+     * 업로드 단계: 썸네일/학습용 이미지를 imageUploadExecutor에서 동시에 S3에 PUT 하고 해시 인덱스에 기록합니다.
+     * 키는 원본 해시에서 만들어지므로 같은 원본의 동시 업로드도 같은 객체를 덮어쓸 뿐 충돌하지 않습니다.
+     * 인코딩 버퍼는 두 업로드가 모두 끝난 뒤(성공/실패 무관) 풀로 반환됩니다.
+     */
+    public CompletableFuture<Model3DImageUrls> uploadModel3DImageBytesAsync(Model3DImageBytes imageBytes, String contentHash) {
+        String thumbnailKeyBase = thumbnailKeyBase(contentHash);
+        String trainingKeyBase = "images/training/" + contentHash + "_1024";
 
-            long timestamp = System.currentTimeMillis();
-            String thumbnailKey = "images/thumbnails/" + timestamp + "_512.png";
-            String trainingKey = "images/training/" + timestamp + "_1024.png";
+        CompletableFuture<String> thumbnailUrl = CompletableFuture.supplyAsync(
+                () -> uploadEncodedImage(thumbnailKeyBase, imageBytes.thumbnailImage()), imageUploadExecutor);
+        CompletableFuture<String> trainingImageUrl = CompletableFuture.supplyAsync(
+                () -> uploadEncodedImage(trainingKeyBase, imageBytes.trainingImage()), imageUploadExecutor);
+        CompletableFuture.allOf(thumbnailUrl, trainingImageUrl).whenComplete((ignored, ex) -> imageBytes.close());
+        return thumbnailUrl.thenCombine(trainingImageUrl, Model3DImageUrls::new)
+                .thenApply(imageUrls -> {
+                    imageContentHashStore.saveModel3DImages(contentHash, imageUrls);
+                    return imageUrls;
+                });
+    }
 
-            String thumbnailUrl = uploadPngBytes(thumbnailKey, thumbnailImageBytes);
-            String trainingImageUrl = uploadPngBytes(trainingKey, trainingImageBytes);
+    private String thumbnailKeyBase(String contentHash) {
+        return "images/thumbnails/" + contentHash + "_512";
+    }
 
-            return new Model3DImageUrls(thumbnailUrl, trainingImageUrl);
-        } catch (IOException e) {
-            log.error("File upload failed", e);
-            throw new IOException("Image Upload Fail", e);
+    private <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("File upload failed", cause);
+            if (cause instanceof IllegalArgumentException illegalArgumentException) {
+                throw illegalArgumentException;
+            }
+            throw new IOException("Image Upload Fail", cause);
         }
     }
 
-    private String uploadPngBytes(String key, byte[] imageBytes) {
+    /**
+     * 인코딩된 이미지를 포맷에 맞는 확장자/Content-Type으로 업로드하고, 업로드별 코덱/인코딩 시간을 기록합니다.
+     * 본문은 풀 버퍼를 복사 없이 스트림으로 읽으며, SDK 재시도 시에도 새 스트림을 다시 엽니다.
+     */
+    private String uploadEncodedImage(String keyBase, EncodedImage image) {
+        String key = keyBase + "." + image.format().getExtension();
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
             .bucket(bucketName)
             .key(key)
-            .contentType("image/png")
+            .contentType(image.format().getContentType())
             .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
+        long start = System.nanoTime();
+        s3Client.putObject(putObjectRequest,
+            RequestBody.fromContentProvider(image::newInputStream, image.size(), image.format().getContentType()));
+        log.info("이미지 업로드: key={}, codec={}, bytes={}, encodeMs={}, uploadMs={}",
+            key, image.format(), image.size(),
+            TimeUnit.NANOSECONDS.toMillis(image.encodeNanos()), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         return "https://" + bucketName + ".s3.amazonaws.com/" + key;
     }
 
-    private String uploadResizedPng(MultipartFile file, int canvasSize, String directory) throws IOException {
+    private void validateUploadFile(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             throw new IOException("Image file is empty");
         }
         validateImageFile(file);
+    }
 
+    private String uploadResizedThumbnail(MultipartFile file, int canvasSize, String keyBase) throws IOException {
         try {
-            byte[] imageBytes = processImageFor3D(file, canvasSize);
-            String key = directory + System.currentTimeMillis() + "_" + UUID.randomUUID() + "_" + canvasSize + ".png";
-            return uploadPngBytes(key, imageBytes);
-        } catch (IOException e) {
-            log.error("File upload failed", e);
+            // 리사이즈는 요청 스레드가 아닌 imageProcessingExecutor에서 실행하여 동시 실행 수를 제한합니다.
+            try (EncodedImage image = await(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return imageResizer.resizeToThumbnail(file.getInputStream(), canvasSize);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, imageProcessingExecutor))) {
+                return uploadEncodedImage(keyBase, image);
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 처리 대기열이 가득 찼습니다: key={}", keyBase);
             throw new IOException("Image Upload Fail", e);
         }
     }
@@ -120,51 +261,4 @@ public class S3ImageUploadService {
             throw new IllegalArgumentException("파일 검증 중 오류가 발생했습니다.", e);
         }
     }
-
-    private byte[] processImageFor3D(MultipartFile originalFile, int canvasSize) throws IOException {
-        BufferedImage originalImage = ImageIO.read(originalFile.getInputStream());
-        if (originalImage == null) {
-            throw new IOException("Invalid image file");
-        }
-        
-        int originalWidth = originalImage.getWidth();
-        int originalHeight = originalImage.getHeight();
-        
-        // 종횡비 계산
-        double aspectRatio = (double) originalWidth / originalHeight;
-        
-        // 종횡비를 유지하면서 canvasSize x canvasSize에 맞는 크기 계산
-        int newWidth, newHeight;
-        if (aspectRatio > 1.0) { // 가로가 더 긴 경우
-            newWidth = canvasSize;
-            newHeight = (int) (canvasSize / aspectRatio);
-        } else { // 세로가 더 길거나 정사각형인 경우
-            newHeight = canvasSize;
-            newWidth = (int) (canvasSize * aspectRatio);
-        }
-        
-        // PNG 투명 배경 캔버스 생성
-        BufferedImage processedImage = new BufferedImage(canvasSize, canvasSize, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = processedImage.createGraphics();
-        
-        // 고품질 렌더링 설정
-        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        // 투명 배경 (기본값이므로 별도 설정 불필요)
-        
-        // 이미지를 중앙에 배치
-        int x = (canvasSize - newWidth) / 2;
-        int y = (canvasSize - newHeight) / 2;
-        
-        g2d.drawImage(originalImage, x, y, newWidth, newHeight, null);
-        g2d.dispose();
-        
-        // PNG로 변환
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(processedImage, "png", baos);
-        return baos.toByteArray();
-    }
 }
-
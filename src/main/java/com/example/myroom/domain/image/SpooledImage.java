@@ -0,0 +1,6 @@
+package com.example.myroom.domain.image;
+
+import java.nio.file.Path;
+
+public record SpooledImage(Path path, String contentHash) {
+}
@@ -0,0 +1,51 @@
+package com.example.myroom.domain.image.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 원본 SHA-256 → 변환된 이미지 URL 인덱스
+ * - 썸네일만 생성된 항목은 trainingImageUrl이 null이며, 3D 업로드 시 학습용 이미지를 다시 생성합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_content_hash")
+public class ImageContentHash {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String thumbnailUrl;
+
+    private String trainingImageUrl;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ImageContentHash(String contentHash, String thumbnailUrl, String trainingImageUrl, LocalDateTime createdAt) {
+        this.contentHash = contentHash;
+        this.thumbnailUrl = thumbnailUrl;
+        this.trainingImageUrl = trainingImageUrl;
+        this.createdAt = createdAt;
+    }
+
+    public void updateImageUrls(String thumbnailUrl, String trainingImageUrl) {
+        if (thumbnailUrl != null) {
+            this.thumbnailUrl = thumbnailUrl;
+        }
+        if (trainingImageUrl != null) {
+            this.trainingImageUrl = trainingImageUrl;
+        }
+    }
+}
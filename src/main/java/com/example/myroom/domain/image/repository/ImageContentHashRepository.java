@@ -0,0 +1,8 @@
+package com.example.myroom.domain.image.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.myroom.domain.image.model.ImageContentHash;
+
+public interface ImageContentHashRepository extends JpaRepository<ImageContentHash, String> {
+}
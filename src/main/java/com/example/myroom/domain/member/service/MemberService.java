@@ -19,6 +19,7 @@ import com.example.myroom.domain.model3D.service.Model3DService;
 import com.example.myroom.domain.model3D.repository.Model3DRepository;
 import com.example.myroom.domain.post.like.repository.PostLikeRepository;
 import com.example.myroom.domain.post.repository.PostRepository;
+import com.example.myroom.domain.post.service.PostSearchIndex;
 import com.example.myroom.domain.recommand.repository.RecommandHistoryRepository;
 import com.example.myroom.domain.room3D.repository.Room3DRepository;
 
@@ -37,6 +38,7 @@ public class MemberService {
     private final Room3DRepository room3DRepository;
     private final RecommandHistoryRepository recommandHistoryRepository;
     private final Model3DService model3DService;
+    private final PostSearchIndex postSearchIndex;
 
 
     public MemberResponseDto getMemberById(Long memberId) {
@@ -95,18 +97,23 @@ public class MemberService {
             throw new IllegalArgumentException("회원 " + memberId + "을 찾을 수 없습니다.");
         }
 
+        // 회원의 모든 3D 모델과 연관 데이터를 일괄 삭제하고, VectorDB 삭제 메시지도 모아서 발송합니다.
         List<Long> model3dIds = model3DRepository.findIdsByCreatorId(memberId);
-        for (Long model3dId : model3dIds) {
-            model3DService.deleteModel3D(model3dId, memberId);
-        }
+        model3DService.deleteModel3Ds(model3dIds, memberId);
 
         List<Long> postIds = postRepository.findIdsByMemberId(memberId);
         if (!postIds.isEmpty()) {
-            commentRepository.deleteByPostIdIn(postIds);
-            postLikeRepository.deleteByPostIdIn(postIds);
-            postRepository.deleteByMemberId(memberId);
+            commentRepository.detachRepliesByPostIdIn(postIds);
+            commentRepository.bulkDeleteByPostIdIn(postIds);
+            postLikeRepository.bulkDeleteByPostIdIn(postIds);
+            postRepository.deleteImageUrlsByPostIdIn(postIds);
+            postRepository.deleteAllByIdInBatch(postIds);
+            postSearchIndex.removeAfterCommit(postIds);
         }
 
+        // 다른 회원의 게시글에 남긴 댓글/좋아요 수를 삭제 전에 차감합니다.
+        postRepository.subtractCommentCountsByMemberId(memberId);
+        postRepository.subtractLikeCountsByMemberId(memberId);
         commentRepository.deleteByMemberId(memberId);
         postLikeRepository.deleteByMemberId(memberId);
         model3DBookmarkRepository.deleteByMemberId(memberId);
@@ -22,6 +22,8 @@ import com.example.myroom.domain.model3D.dto.request.Model3DUpdateRequestDto;
 import com.example.myroom.domain.model3D.dto.request.Model3DUpdateRequestV2Dto;
 import com.example.myroom.domain.model3D.dto.request.Model3DUpdateRequestV3Dto;
 import com.example.myroom.domain.model3D.dto.response.Model3DResponseDto;
+import com.example.myroom.domain.model3D.dto.response.Model3DUploadAcceptedResponseDto;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
 import com.example.myroom.global.jwt.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -340,13 +342,19 @@ public interface Model3DApi {
     @ApiResponses(
         value = {
             @ApiResponse(
-                responseCode = "200", 
-                description = "파일 업로드 및 3D 모델 생성 요청 성공 - 처리 중 상태로 생성됨",
+                responseCode = "202", 
+                description = "업로드 접수 성공 - UPLOADING 상태로 생성되고 이후 단계는 백그라운드에서 진행됨",
                 content = @Content(
-                    mediaType = "text/plain",
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Model3DUploadAcceptedResponseDto.class),
                     examples = @ExampleObject(
-                        name = "업로드 성공 응답",
-                        value = "3D 모델 생성이 요청되었습니다. 모델 ID: 1"
+                        name = "업로드 접수 응답",
+                        value = """
+                            {
+                                "model3d_id": 1,
+                                "status": "UPLOADING"
+                            }
+                            """
                     )
                 )
             ),
@@ -374,10 +382,11 @@ public interface Model3DApi {
             - 기타 가구 유형
             
             **처리 과정:**
-            1. 이미지 업로드 → S3 저장
-            2. 3D 모델 생성 요청 (PROCESSING 상태)
-            3. AI 서버에서 3D 모델 생성
-            4. 완료 시 WebSocket으로 알림 (SUCCESS/FAILED 상태)
+            1. 이미지 검증 후 접수 → 202 응답 (UPLOADING 상태)
+            2. 백그라운드에서 리사이즈 → S3 저장 (진행 상황은 `MODEL_UPLOAD_PROGRESS` 알림)
+            3. 3D 모델 생성 요청 (PROCESSING 상태)
+            4. AI 서버에서 3D 모델 생성
+            5. 완료 시 WebSocket으로 알림 (SUCCESS/FAILED 상태)
             
             ### 📡 WebSocket 알림 정보
             
@@ -415,6 +424,20 @@ public interface Model3DApi {
             }
             ```
             
+            #### 🚚 업로드 진행 WebSocket 응답
+            ```json
+            {
+                "notificationType": "MODEL_UPLOAD_PROGRESS",
+                "memberId": 1,
+                "model3dId": 1,
+                "thumbnailUrl": null,
+                "status": "UPLOADING",
+                "message": "이미지를 업로드하고 있습니다.",
+                "timestamp": 1705312240000
+            }
+            ```
+            - 업로드 실패 시 `notificationType`은 `MODEL_UPLOAD_FAILED`, `status`는 `FAILED`입니다.
+
             #### ⚙️ 처리 중 상태 WebSocket 응답 (선택적)
             ```json
             {
@@ -438,7 +461,7 @@ public interface Model3DApi {
     )
     @SecurityRequirement(name = "Bearer Authentication")
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    ResponseEntity<String> uploadModel3DFile(
+    ResponseEntity<Model3DUploadAcceptedResponseDto> uploadModel3DFile(
             @Parameter(
                 description = "3D 모델 생성에 사용할 가구 이미지 파일 (JPG, PNG 지원)",
                 required = true
@@ -753,6 +776,54 @@ public interface Model3DApi {
             Pageable pageable
     );
 
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "공유된 3D 모델 검색 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CursorSliceResponseDto.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 커서",
+                content = @Content(schema = @Schema(hidden = true))
+            )
+        }
+    )
+    @Operation(
+        summary = "공유된 3D 모델 검색 (커서 페이지네이션)", 
+        description = """
+            공유 상태(is_shared=true)인 3D 모델을 최신순으로 조회합니다. 전체 개수를 세지 않아 무한 스크롤에서 깊은 페이지도 빠르게 조회됩니다.
+            
+            **인증 필요:** Bearer Token
+            
+            **커서 파라미터:**
+            - `cursor`: 이전 응답의 `next_cursor` (첫 페이지는 생략)
+            - `size`: 페이지 크기 (1~100, 기본 20)
+            
+            **검색:**
+            - `name` 파라미터로 모델 이름 검색 (부분 일치)
+            - `category` 파라미터로 가구 카테고리 필터
+            """
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/shared/cursor")
+    ResponseEntity<CursorSliceResponseDto<Model3DResponseDto>> getSharedModel3DsByCursor(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member,
+            @Parameter(description = "검색할 모델 이름 (부분 일치)", example = "소파")
+            @RequestParam(required = false, name = "name") String name,
+            @Parameter(description = "가구 카테고리")
+            @RequestParam(required = false, name = "category") String category,
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지는 생략)")
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(required = false, name = "size") Integer size
+    );
+
     @ApiResponses(
         value = {
             @ApiResponse(
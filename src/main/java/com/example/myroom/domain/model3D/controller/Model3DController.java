@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -25,8 +26,10 @@ import com.example.myroom.domain.model3D.dto.request.Model3DUpdateRequestV2Dto;
 import com.example.myroom.domain.model3D.dto.request.Model3DUpdateRequestV3Dto;
 import com.example.myroom.domain.model3D.dto.request.Model3DUploadRequestDto;
 import com.example.myroom.domain.model3D.dto.response.Model3DResponseDto;
+import com.example.myroom.domain.model3D.dto.response.Model3DUploadAcceptedResponseDto;
 import com.example.myroom.domain.model3D.model.FurnitureCategory;
 import com.example.myroom.domain.model3D.service.Model3DService;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
 import com.example.myroom.global.jwt.CustomUserDetails;
 
 import jakarta.validation.Valid;
@@ -96,7 +99,7 @@ public class Model3DController implements Model3DApi {
 
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
-    public ResponseEntity<String> uploadModel3DFile(
+    public ResponseEntity<Model3DUploadAcceptedResponseDto> uploadModel3DFile(
             @RequestPart(value = "image", required = true) MultipartFile imageFile,
             @RequestParam(value = "furniture_type", required = true) String furnitureType,
             @RequestParam(value = "name", required = true) String name,
@@ -109,8 +112,8 @@ public class Model3DController implements Model3DApi {
             description, 
             isShared
         );
-        String fileUrl = model3DService.uploadModel3DFile(imageFile, uploadRequestDto, member.getId());
-        return ResponseEntity.ok(fileUrl);
+        Model3DUploadAcceptedResponseDto responseDto = model3DService.acceptModel3DUpload(imageFile, uploadRequestDto, member.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(responseDto);
     }
 
     @PostMapping(value = "/upload-multi", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -186,6 +189,19 @@ public class Model3DController implements Model3DApi {
         return ResponseEntity.ok(responseDtos);
     }
 
+    @GetMapping("/shared/cursor")
+    public ResponseEntity<CursorSliceResponseDto<Model3DResponseDto>> getSharedModel3DsByCursor(
+            @AuthenticationPrincipal CustomUserDetails member,
+            @RequestParam(required = false, name = "name") String name,
+            @RequestParam(required = false, name = "category") String category,
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(required = false, name = "size") Integer size) {
+        FurnitureCategory furnitureCategory = (category == null || category.isBlank())
+            ? null
+            : FurnitureCategory.fromString(category);
+        return ResponseEntity.ok(model3DService.getSharedModel3DsByCursor(name, furnitureCategory, cursor, size));
+    }
+
     @GetMapping("/untrained")
     public ResponseEntity<List<Model3DResponseDto>> getNotVectorDbTrainedModel3Ds() {
         List<Model3DResponseDto> responseDtos = model3DService.getNotVectorDbTrainedModel3Ds();
@@ -0,0 +1,27 @@
+package com.example.myroom.domain.model3D.dto.message;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * VectorDB 메타데이터 일괄 업데이트 메시지 DTO
+ * - 짧은 시간 안에 여러 번 수정된 모델은 마지막 메타데이터만 담겨, 모델당 한 번만 재색인됩니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Model3DMetadataBatchUpdateMessage {
+
+    @JsonProperty("updates")
+    private List<Model3DMetadataUpdateMessage> updates;
+
+    @JsonProperty("timestamp")
+    private Long timestamp;
+}
@@ -23,6 +23,10 @@ public class Model3DUploadMessage {
     private Long model3dId;
     private FurnitureCategory furnitureType;
     private Boolean isShared;
+    // 요청 종류 (interactive, multi-view, retry, bulk) - 생성 서버가 lane별 처리 시간을 기록할 때 사용
+    private String lane;
+    // 아웃박스 발행 우선순위와 같은 값 (회원별 공정성 조정이 반영된 값)
+    private Integer priority;
     private long timestamp;
 }
 
@@ -90,10 +90,10 @@ public record Model3DResponseDto(
         Boolean isVectorDbTrained,
 
         @Schema(
-            description = "3D 모델 생성 상태 (PROCESSING: 처리중, SUCCESS: 완료, FAILED: 실패)", 
+            description = "3D 모델 생성 상태 (UPLOADING: 이미지 업로드중, PROCESSING: 처리중, SUCCESS: 완료, FAILED: 실패)", 
             requiredMode = RequiredMode.REQUIRED,
             example = "SUCCESS",
-            allowableValues = {"PROCESSING", "SUCCESS", "FAILED"}
+            allowableValues = {"UPLOADING", "PROCESSING", "SUCCESS", "FAILED"}
         )
         String status,
 
@@ -0,0 +1,26 @@
+package com.example.myroom.domain.model3D.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@Schema(description = "3D 모델 업로드 접수 응답 DTO")
+@JsonNaming(SnakeCaseStrategy.class)
+public record Model3DUploadAcceptedResponseDto(
+        @Schema(
+            description = "접수된 3D 모델 고유 식별자",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "1"
+        )
+        Long model3dId,
+
+        @Schema(
+            description = "접수 시점의 3D 모델 상태",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "UPLOADING"
+        )
+        String status
+) {
+}
@@ -1,5 +1,6 @@
 package com.example.myroom.domain.model3D.messaging;
 
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +11,10 @@ import com.example.myroom.domain.model3D.service.ModelDimensionsService;
 import com.example.myroom.domain.model3D.service.Model3DService;
 import com.example.myroom.domain.socket.service.WebSocketNotificationService;
 import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.IdempotentMessageGuard;
+import com.example.myroom.global.messaging.MessageFlow;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.example.myroom.global.messaging.MessageLatencyTracker.LatencySample;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +31,9 @@ public class Model3DConsumer {
     private final Model3DService model3DService;
     private final ModelDimensionsService modelDimensionsService;
     private final WebSocketNotificationService webSocketNotificationService;
+    private final IdempotentMessageGuard idempotentMessageGuard;
+    private final MessageLatencyTracker messageLatencyTracker;
+    private final Model3DUploadQueueMetrics uploadQueueMetrics;
 
     /**
      * 3D 모델 생성 완료 메시지 처리
@@ -36,8 +44,19 @@ public class Model3DConsumer {
      * 
      * @param response 3D 모델 생성 서버로부터 받은 응답 메시지
      */
-    @RabbitListener(queues = RabbitConfig.MODEL3D_RESPONSE_QUEUE)
-    public void handleModel3DGenerationResponse(Model3DGenerationResponse response) {
+    @RabbitListener(queues = RabbitConfig.MODEL3D_RESPONSE_QUEUE, containerFactory = "model3dResponseListenerFactory")
+    public void handleModel3DGenerationResponse(Model3DGenerationResponse response, Message message) {
+        LatencySample latency = messageLatencyTracker.received(MessageFlow.MODEL3D_UPLOAD, response.getModel3dId(), message,
+                response.getTimestamp(),
+                response.getProcessingTimeSeconds() != null ? response.getProcessingTimeSeconds() * 1000L : null);
+        // 같은 모델의 응답은 컨슈머 1개가 도착 순서대로 처리하고(RabbitListenerConfig), 재전달된 메시지는 다시 저장/알림하지 않습니다.
+        idempotentMessageGuard.runOnce(message, () -> {
+            processModel3DGenerationResponse(response, latency);
+            latency.finish();
+        });
+    }
+
+    private void processModel3DGenerationResponse(Model3DGenerationResponse response, LatencySample latency) {
         log.info("========================================");
         log.info("3D 모델 생성 완료 메시지 수신");
         log.info("========================================");
@@ -60,19 +79,16 @@ public class Model3DConsumer {
                 log.info("🎨 저장할 3D 모델 URL: {}", response.getModel3dUrl());
                 log.info("📝 모델 ID: {}", response.getModel3dId());
                 
-                try {
-                    model3DService.saveGeneratedModel(response);
-                    log.info("✅ DB 저장 완료: model3dId={}", response.getModel3dId());
-                } catch (Exception e) {
-                    log.error("❌ DB 저장 실패: model3dId={}, error={}", 
-                        response.getModel3dId(), e.getMessage(), e);
-                }
+                // DB 저장 실패 시 예외를 그대로 던져 재시도 큐로 보냅니다. (성공 알림을 먼저 보내지 않음)
+                model3DService.saveGeneratedModel(response);
+                log.info("✅ DB 저장 완료: model3dId={}", response.getModel3dId());
+                uploadQueueMetrics.recordCompleted(response, latency);
                 
                 // WebSocket으로 클라이언트에게 실시간 알림 전송
                 log.info("📤 WebSocket 알림 발송 시작 - 회원 {}에게 전송", response.getMemberId());
                 log.info("📤 전송할 이미지 정보: originalImageUrl={}", response.getOriginalImageUrl());
                 log.info("📤 전송할 3D 모델 정보: model3dUrl={}", response.getModel3dUrl());
-                webSocketNotificationService.sendModel3DGenerationNotification(response);
+                latency.deliver(() -> webSocketNotificationService.sendModel3DGenerationNotification(response));
                 log.info("✅ WebSocket 알림 발송 완료");
                 
             } else if ("FAILED".equalsIgnoreCase(response.getStatus())) {
@@ -82,18 +98,14 @@ public class Model3DConsumer {
                 log.error("❌ 실패한 이미지 URL: {}", response.getOriginalImageUrl());
                 log.error("❌ 모델 ID: {}", response.getModel3dId());
                 
-                try {
-                    model3DService.handleGenerationFailure(response);
-                    log.info("✅ DB 상태 업데이트 완료: model3dId={}, status=FAILED", response.getModel3dId());
-                } catch (Exception e) {
-                    log.error("❌ DB 상태 업데이트 실패: model3dId={}, error={}", 
-                        response.getModel3dId(), e.getMessage(), e);
-                }
+                model3DService.handleGenerationFailure(response);
+                log.info("✅ DB 상태 업데이트 완료: model3dId={}, status=FAILED", response.getModel3dId());
+                uploadQueueMetrics.recordCompleted(response, latency);
                 
                 // 실패 시에도 WebSocket으로 알림 전송
                 log.info("📤 WebSocket 실패 알림 발송 시작 - 회원 {}에게 전송", response.getMemberId());
                 log.info("📤 실패한 이미지 정보: originalImageUrl={}", response.getOriginalImageUrl());
-                webSocketNotificationService.sendModel3DGenerationNotification(response);
+                latency.deliver(() -> webSocketNotificationService.sendModel3DGenerationNotification(response));
                 log.info("✅ WebSocket 실패 알림 발송 완료");
                 
             } else {
@@ -101,16 +113,12 @@ public class Model3DConsumer {
                 log.warn("⚠️ 알 수 없는 상태: {}", response.getStatus());
             }
             
-        } catch (Exception e) {
-            // 메시지 처리 중 에러 발생 시 로그 기록
-            log.error("❌ 3D 모델 생성 응답 처리 중 오류 발생", e);
-            log.error("에러 메시지: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // 메시지 처리 중 에러 발생 시 로그 기록 후 다시 던집니다.
+            // ListenerRetryAdvice가 재시도 큐(지수 백오프)로 보내고, 재시도를 모두 소진하면 파킹 큐로 이동합니다.
+            log.error("❌ 3D 모델 생성 응답 처리 중 오류 발생: model3dId={}, error={}", response.getModel3dId(), e.getMessage());
             log.error("응답 데이터: {}", response);
-            
-            // 실제 운영 환경에서는:
-            // 1. Dead Letter Queue로 메시지 이동
-            // 2. 알림 서비스를 통해 관리자에게 알림
-            // 3. 재시도 로직 구현
+            throw e;
         }
     }
 
@@ -126,8 +134,17 @@ public class Model3DConsumer {
     /**
      * 가구 치수 추출 결과 메시지 처리
      */
-    @RabbitListener(queues = RabbitConfig.MODEL3D_DIMENSIONS_RESPONSE_QUEUE)
-    public void handleModelDimensionsResponse(ModelDimensionsImageResponseMessage response) {
+    @RabbitListener(queues = RabbitConfig.MODEL3D_DIMENSIONS_RESPONSE_QUEUE, containerFactory = "dimensionsResponseListenerFactory")
+    public void handleModelDimensionsResponse(ModelDimensionsImageResponseMessage response, Message message) {
+        LatencySample latency = messageLatencyTracker.received(MessageFlow.DIMENSIONS, response.getModel3dId(), message,
+                response.getTimestamp(), null);
+        idempotentMessageGuard.runOnce(message, () -> {
+            processModelDimensionsResponse(response, latency);
+            latency.finish();
+        });
+    }
+
+    private void processModelDimensionsResponse(ModelDimensionsImageResponseMessage response, LatencySample latency) {
         log.info("========================================");
         log.info("가구 치수 추출 결과 메시지 수신");
         log.info("========================================");
@@ -155,12 +172,13 @@ public class Model3DConsumer {
                         response.getModel3dId(), response.getStatus(), response.getMessage());
             }
 
-            webSocketNotificationService.sendModelDimensionsNotification(response);
+            latency.deliver(() -> webSocketNotificationService.sendModelDimensionsNotification(response));
             log.info("✅ 치수 분석 결과 WebSocket 전송 완료: memberId={}", response.getMemberId());
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.error("❌ 치수 분석 결과 처리 실패: model3dId={}, error={}",
-                    response.getModel3dId(), e.getMessage(), e);
+                    response.getModel3dId(), e.getMessage());
+            throw e;
         }
     }
 }
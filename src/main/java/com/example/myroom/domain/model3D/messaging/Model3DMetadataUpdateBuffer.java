@@ -0,0 +1,135 @@
+package com.example.myroom.domain.model3D.messaging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.myroom.domain.model3D.dto.message.Model3DMetadataUpdateMessage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * VectorDB 메타데이터 업데이트 병합 버퍼
+ * - model3dId별로 마지막 메타데이터만 보관하고, 아래 조건 중 하나를 만족하면 한 번에 일괄 메시지로 발행합니다.
+ *   1) 마지막 변경 후 quiet-period-ms 동안 새 변경이 없음
+ *   2) 대기 중인 모델 수가 batch-size 이상
+ *   3) 가장 오래된 변경이 max-delay-ms 이상 대기 (계속 수정되는 경우에도 반영이 무한정 밀리지 않도록)
+ * - 변경은 트랜잭션 커밋 이후에만 버퍼에 들어가므로 롤백된 수정은 발행되지 않습니다.
+ * - 발행(아웃박스 저장)은 항상 스케줄러 스레드에서 합니다. afterCommit 콜백 안에서는 끝난 트랜잭션의 리소스가 아직
+ *   바인딩되어 있어 REQUIRED 트랜잭션이 커밋되지 않으므로, 버퍼가 가득 차도 발행 예약만 해 둡니다.
+ * - 버퍼는 메모리에만 있으므로 종료 시 남은 변경을 발행합니다. (비정상 종료 시 마지막 몇 초의 변경은 유실될 수 있음)
+ */
+@Slf4j
+@Component
+public class Model3DMetadataUpdateBuffer {
+    private final Model3DProducer model3DProducer;
+    private final long quietPeriodMillis;
+    private final long maxDelayMillis;
+    private final int batchSize;
+
+    // 삽입 순서 유지 - 같은 모델을 다시 수정해도 처음 들어온 위치를 유지합니다.
+    private final Map<Long, Model3DMetadataUpdateMessage> pending = new LinkedHashMap<>();
+    private long firstChangeAt;
+    private long lastChangeAt;
+    // batch-size에 도달하여 다음 점검 때 바로 발행해야 함
+    private boolean flushRequested;
+
+    public Model3DMetadataUpdateBuffer(Model3DProducer model3DProducer,
+                                       @Value("${model3d.metadata.quiet-period-ms:2000}") long quietPeriodMillis,
+                                       @Value("${model3d.metadata.max-delay-ms:10000}") long maxDelayMillis,
+                                       @Value("${model3d.metadata.batch-size:100}") int batchSize) {
+        this.model3DProducer = model3DProducer;
+        this.quietPeriodMillis = quietPeriodMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 메타데이터 변경을 버퍼에 추가합니다. 트랜잭션 안에서 호출되면 커밋 이후에 추가됩니다.
+     */
+    public void add(Long model3dId, Long memberId, String name, String description, Boolean isShared) {
+        Model3DMetadataUpdateMessage message = Model3DMetadataUpdateMessage.builder()
+                .model3dId(model3dId)
+                .memberId(memberId)
+                .name(name)
+                .description(description)
+                .isShared(isShared)
+                .timestamp(System.currentTimeMillis())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(message);
+                }
+            });
+        } else {
+            put(message);
+        }
+    }
+
+    private void put(Model3DMetadataUpdateMessage message) {
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (pending.isEmpty()) {
+                firstChangeAt = now;
+            }
+            lastChangeAt = now;
+            pending.put(message.getModel3dId(), message);
+            if (pending.size() >= batchSize) {
+                flushRequested = true;
+            }
+        }
+        log.debug("VectorDB 메타데이터 변경 대기: model3dId={}", message.getModel3dId());
+    }
+
+    @Scheduled(fixedDelayString = "${model3d.metadata.flush-check-ms:500}")
+    public void flushIfDue() {
+        boolean due;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            due = !pending.isEmpty()
+                    && (flushRequested || now - lastChangeAt >= quietPeriodMillis || now - firstChangeAt >= maxDelayMillis);
+        }
+        if (due) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        List<Model3DMetadataUpdateMessage> updates;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            updates = new ArrayList<>(pending.values());
+            pending.clear();
+            flushRequested = false;
+        }
+
+        try {
+            model3DProducer.sendMetadataBatchUpdateMessage(updates);
+        } catch (RuntimeException e) {
+            // 발행(아웃박스 저장)에 실패하면 더 최신 변경이 없는 모델만 다시 버퍼에 넣습니다.
+            log.error("❌ VectorDB 메타데이터 일괄 발행 실패: count={}, error={}", updates.size(), e.getMessage(), e);
+            synchronized (this) {
+                for (Model3DMetadataUpdateMessage update : updates) {
+                    pending.putIfAbsent(update.getModel3dId(), update);
+                }
+                firstChangeAt = System.currentTimeMillis();
+                lastChangeAt = firstChangeAt;
+                flushRequested = pending.size() >= batchSize;
+            }
+        }
+    }
+}
@@ -2,91 +2,111 @@ package com.example.myroom.domain.model3D.messaging;
 
 import java.util.List;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.myroom.domain.model3D.dto.message.Model3DDeleteMessage;
 import com.example.myroom.domain.model3D.dto.message.ModelDimensionsImageRequestMessage;
+import com.example.myroom.domain.model3D.dto.message.Model3DMetadataBatchUpdateMessage;
 import com.example.myroom.domain.model3D.dto.message.Model3DMetadataUpdateMessage;
 import com.example.myroom.domain.model3D.dto.message.Model3DUploadMessage;
 import com.example.myroom.domain.model3D.model.FurnitureCategory;
+import com.example.myroom.domain.model3D.model.Model3DUploadPriority;
 import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.MessageFlow;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.example.myroom.global.outbox.OutboxService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 3D 모델 메시지 발송
+ * - 메시지는 아웃박스에 저장되어 호출 측 트랜잭션 커밋 이후 발행됩니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class Model3DProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
+    private final Model3DUploadPriorityPolicy uploadPriorityPolicy;
+    private final MessageLatencyTracker messageLatencyTracker;
+
+    @Value("${model3d.delete.message-chunk-size:200}")
+    private int deleteMessageChunkSize;
 
     /**
      * 3D 모델 업로드 메시지 발송
+     * - 요청 종류별 우선순위에 회원별 공정성 조정을 반영한 값을 아웃박스 발행 우선순위로 지정합니다.
      */
-    public void sendModel3DUploadMessage(String trainingImageUrl, Long memberId, Long model3dId, FurnitureCategory furnitureType, Boolean isShared) {
+    public void sendModel3DUploadMessage(String trainingImageUrl, Long memberId, Long model3dId, FurnitureCategory furnitureType,
+            Boolean isShared, Model3DUploadPriority uploadPriority) {
+        int priority = uploadPriorityPolicy.resolve(memberId, uploadPriority);
         Model3DUploadMessage message = Model3DUploadMessage.builder()
                 .imageUrl(trainingImageUrl)
                 .memberId(memberId)
                 .model3dId(model3dId)
                 .furnitureType(furnitureType)
                 .isShared(isShared)
+                .lane(uploadPriority.getLane())
+                .priority(priority)
                 .timestamp(System.currentTimeMillis())
                 .build();
 
-        log.info("3D 모델 업로드 메시지 발송: imageUrl={}, memberId={}, model3dId={}, furnitureType={}, isShared={}", 
-            trainingImageUrl, memberId, model3dId, furnitureType, isShared);
+        log.info("3D 모델 업로드 메시지 발송: imageUrl={}, memberId={}, model3dId={}, furnitureType={}, isShared={}, lane={}, priority={}", 
+            trainingImageUrl, memberId, model3dId, furnitureType, isShared, uploadPriority.getLane(), priority);
 
-        rabbitTemplate.convertAndSend(
+        outboxService.enqueue(
                 RabbitConfig.MODEL3D_EXCHANGE, // 어느 교환기(우체국)로 보낼지
                 RabbitConfig.MODEL3D_ROUTING_KEY, // 어떤 주소(라우팅 키)로 보낼지
-                message // 보낼 내용(메시지 객체)
+                message, // 보낼 내용(메시지 객체)
+                priority,
+                messageLatencyTracker.begin(MessageFlow.MODEL3D_UPLOAD, model3dId, uploadPriority.getLane())
         );
     }
 
             public void sendModel3DMultiUploadMessage(List<String> trainingImageUrls, Long memberId, Long model3dId,
-                FurnitureCategory furnitureType, Boolean isShared) {
+                FurnitureCategory furnitureType, Boolean isShared, Model3DUploadPriority uploadPriority) {
+            int priority = uploadPriorityPolicy.resolve(memberId, uploadPriority);
             Model3DUploadMessage message = Model3DUploadMessage.builder()
                 .imageUrls(trainingImageUrls)
                 .memberId(memberId)
                 .model3dId(model3dId)
                 .furnitureType(furnitureType)
                 .isShared(isShared)
+                .lane(uploadPriority.getLane())
+                .priority(priority)
                 .timestamp(System.currentTimeMillis())
                 .build();
 
-            log.info("3D 멀티뷰 업로드 메시지 발송: imageUrlsCount={}, memberId={}, model3dId={}, furnitureType={}, isShared={}",
-                trainingImageUrls.size(), memberId, model3dId, furnitureType, isShared);
+            log.info("3D 멀티뷰 업로드 메시지 발송: imageUrlsCount={}, memberId={}, model3dId={}, furnitureType={}, isShared={}, priority={}",
+                trainingImageUrls.size(), memberId, model3dId, furnitureType, isShared, priority);
 
-            rabbitTemplate.convertAndSend(
+            outboxService.enqueue(
                 RabbitConfig.MODEL3D_EXCHANGE,
                 RabbitConfig.MODEL3D_ROUTING_KEY,
-                message
+                message,
+                priority,
+                messageLatencyTracker.begin(MessageFlow.MODEL3D_UPLOAD, model3dId, uploadPriority.getLane())
             );
-            }
+                }
 
     /**
-     * VectorDB 메타데이터 업데이트 메시지 발송
+     * VectorDB 메타데이터 일괄 업데이트 메시지 발송
      * - 3D 모델 정보가 수정되면 VectorDB의 메타데이터도 함께 업데이트해야 합니다.
+     * - Model3DMetadataUpdateBuffer가 모델별 마지막 변경만 모아서 호출합니다.
      */
-    public void sendMetadataUpdateMessage(Long model3dId, Long memberId, String name, String description, Boolean isShared) {
-        Model3DMetadataUpdateMessage message = Model3DMetadataUpdateMessage.builder()
-                .model3dId(model3dId)
-                .memberId(memberId)
-                .name(name)
-                .description(description)
-                .isShared(isShared)
+    public void sendMetadataBatchUpdateMessage(List<Model3DMetadataUpdateMessage> updates) {
+        Model3DMetadataBatchUpdateMessage message = Model3DMetadataBatchUpdateMessage.builder()
+                .updates(updates)
                 .timestamp(System.currentTimeMillis())
                 .build();
 
-        log.info("📤 VectorDB 메타데이터 업데이트 메시지 발송: model3dId={}, memberId={}, name={}, description={}, isShared={}", 
-            model3dId, memberId, name, description, isShared);
+        log.info("📤 VectorDB 메타데이터 일괄 업데이트 메시지 발송: count={}, model3dIds={}",
+            updates.size(), updates.stream().map(Model3DMetadataUpdateMessage::getModel3dId).toList());
 
-        rabbitTemplate.convertAndSend(
+        outboxService.enqueue(
                 RabbitConfig.MODEL3D_EXCHANGE,
                 RabbitConfig.MODEL3D_METADATA_UPDATE_ROUTING_KEY,
                 message
@@ -96,21 +116,25 @@ public class Model3DProducer {
     /**
      * VectorDB 삭제 메시지 발송
      * - 3D 모델이 삭제되면 VectorDB에서도 해당 데이터를 삭제해야 합니다.
+     * - 모델 ID 목록을 model3d.delete.message-chunk-size 단위로 나누어 메시지 하나에 여러 모델을 담아 보냅니다.
      */
     public void sendDeleteMessage(List<Long> model3dIds, Long memberId) {
-        Model3DDeleteMessage message = Model3DDeleteMessage.builder()
-                .model3dIds(model3dIds)
-                .memberId(memberId)
-                .timestamp(System.currentTimeMillis())
-                .build();
-
-        log.info("🗑️ VectorDB 삭제 메시지 발송: model3dIds={}, memberId={}", model3dIds, memberId);
-
-        rabbitTemplate.convertAndSend(
-                RabbitConfig.MODEL3D_EXCHANGE,
-                RabbitConfig.MODEL3D_DELETE_ROUTING_KEY,
-                message
-        );
+        for (int from = 0; from < model3dIds.size(); from += deleteMessageChunkSize) {
+            List<Long> chunk = List.copyOf(model3dIds.subList(from, Math.min(from + deleteMessageChunkSize, model3dIds.size())));
+            Model3DDeleteMessage message = Model3DDeleteMessage.builder()
+                    .model3dIds(chunk)
+                    .memberId(memberId)
+                    .timestamp(System.currentTimeMillis())
+                    .build();
+
+            log.info("🗑️ VectorDB 삭제 메시지 발송: count={}, model3dIds={}, memberId={}", chunk.size(), chunk, memberId);
+
+            outboxService.enqueue(
+                    RabbitConfig.MODEL3D_EXCHANGE,
+                    RabbitConfig.MODEL3D_DELETE_ROUTING_KEY,
+                    message
+            );
+        }
     }
 
             /**
@@ -127,10 +151,12 @@ public class Model3DProducer {
             log.info("📏 치수 이미지 분석 요청 메시지 발송: model3dId={}, memberId={}, imageUrl={}",
                 model3dId, memberId, imageUrl);
 
-            rabbitTemplate.convertAndSend(
+            outboxService.enqueue(
                 RabbitConfig.MODEL3D_EXCHANGE,
                 RabbitConfig.MODEL3D_DIMENSIONS_REQUEST_ROUTING_KEY,
-                message
+                message,
+                null,
+                messageLatencyTracker.begin(MessageFlow.DIMENSIONS, model3dId)
             );
             }
 }
@@ -0,0 +1,56 @@
+package com.example.myroom.domain.model3D.messaging;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.domain.model3D.model.Model3DUploadPriority;
+import com.example.myroom.domain.model3D.repository.Model3DRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 3D 모델 생성 요청의 실제 메시지 priority 결정 (회원별 공정성)
+ * - 요청 종류별 기본 priority에서 시작하여, 회원이 이미 생성 대기/진행 중인 모델이 fair-share 개수를 넘으면
+ *   fair-share 개수마다 한 단계씩 낮춥니다. (한 계정의 연속 업로드가 다른 회원의 단일 업로드를 밀어내지 않도록)
+ * - BULK 우선순위보다 낮아지지는 않습니다.
+ * - 대기 개수는 UPLOADING/PROCESSING 상태의 모델 수로 계산하므로 서버 재시작 후에도 유지됩니다.
+ *   응답이 오지 않아 Model3DGenerationReaper가 정리할 모델은 리퍼와 같은 기준 시각(reaper.model3d.*-sla-minutes)으로 제외합니다.
+ */
+@Slf4j
+@Component
+public class Model3DUploadPriorityPolicy {
+    private final Model3DRepository model3DRepository;
+    private final int fairShare;
+    private final long processingSlaMinutes;
+    private final long uploadingSlaMinutes;
+
+    public Model3DUploadPriorityPolicy(Model3DRepository model3DRepository,
+                                       @Value("${model3d.upload.priority.fair-share:2}") int fairShare,
+                                       @Value("${reaper.model3d.processing-sla-minutes:30}") long processingSlaMinutes,
+                                       @Value("${reaper.model3d.uploading-sla-minutes:15}") long uploadingSlaMinutes) {
+        this.model3DRepository = model3DRepository;
+        this.fairShare = Math.max(1, fairShare);
+        this.processingSlaMinutes = processingSlaMinutes;
+        this.uploadingSlaMinutes = uploadingSlaMinutes;
+    }
+
+    /**
+     * 호출 시점에 저장된 요청 자신도 대기 개수에 포함됩니다.
+     */
+    public int resolve(Long memberId, Model3DUploadPriority requested) {
+        LocalDateTime now = LocalDateTime.now();
+        long pending = model3DRepository.countPendingByCreatorId(memberId,
+                now.minusMinutes(processingSlaMinutes), now.minusMinutes(uploadingSlaMinutes));
+        if (pending <= fairShare) {
+            return requested.getPriority();
+        }
+
+        int demotion = (int) Math.min(Integer.MAX_VALUE, (pending - 1) / fairShare);
+        int priority = Math.max(Model3DUploadPriority.BULK.getPriority(), requested.getPriority() - demotion);
+        log.debug("3D 생성 요청 우선순위 조정: memberId={}, lane={}, pending={}, priority={} -> {}",
+                memberId, requested.getLane(), pending, requested.getPriority(), priority);
+        return priority;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.myroom.domain.model3D.messaging;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.domain.model3D.dto.message.Model3DGenerationResponse;
+import com.example.myroom.domain.model3D.model.Model3DUploadPriority;
+import com.example.myroom.global.messaging.MessageFlow;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.example.myroom.global.messaging.MessageLatencyTracker.LatencySample;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 3D 모델 생성 요청 대기 시간 메트릭 (우선순위 lane별)
+ * - model3d.upload.turnaround: 요청 발행(커밋)부터 생성 응답 수신까지
+ * - model3d.upload.queue.wait: turnaround에서 생성 서버가 보고한 처리 시간(processing_time_seconds)을 뺀 큐 대기 시간
+ * - model3d.upload.pending: 응답을 기다리는 요청 수 (Gauge)
+ * - 요청 시각과 lane은 MessageLatencyTracker가 보관하며(Model3DProducer가 lane과 함께 begin), 여기서는 응답의
+ *   LatencySample에서 읽어 lane 태그로 기록만 합니다. 추적 기간/정리 주기는 messaging.latency.* 설정을 따릅니다.
+ */
+@Slf4j
+@Component
+public class Model3DUploadQueueMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public Model3DUploadQueueMetrics(MeterRegistry meterRegistry, MessageLatencyTracker messageLatencyTracker) {
+        this.meterRegistry = meterRegistry;
+        for (Model3DUploadPriority lane : Model3DUploadPriority.values()) {
+            Gauge.builder("model3d.upload.pending",
+                            () -> messageLatencyTracker.pendingCount(MessageFlow.MODEL3D_UPLOAD, lane.getLane()))
+                    .tag("lane", lane.getLane())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 생성 응답(성공/실패)을 받았을 때, 샘플의 finish() 전에 호출합니다.
+     */
+    public void recordCompleted(Model3DGenerationResponse response, LatencySample latency) {
+        Long requestedAt = latency.getRequestedAt();
+        String lane = latency.getLane();
+        if (requestedAt == null || lane == null) {
+            return;
+        }
+
+        long turnaroundMillis = Math.max(0, System.currentTimeMillis() - requestedAt);
+        Timer.builder("model3d.upload.turnaround")
+                .tag("lane", lane)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofMillis(turnaroundMillis));
+
+        if (response.getProcessingTimeSeconds() != null) {
+            long waitMillis = Math.max(0, turnaroundMillis - TimeUnit.SECONDS.toMillis(response.getProcessingTimeSeconds()));
+            Timer.builder("model3d.upload.queue.wait")
+                    .tag("lane", lane)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Duration.ofMillis(waitMillis));
+            log.debug("3D 생성 요청 대기 시간: model3dId={}, lane={}, waitMs={}, turnaroundMs={}",
+                    response.getModel3dId(), lane, waitMillis, turnaroundMillis);
+        }
+    }
+}
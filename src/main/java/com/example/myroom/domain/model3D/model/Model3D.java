@@ -2,19 +2,31 @@ package com.example.myroom.domain.model3D.model;
 
 import java.time.LocalDateTime;
 
+import com.example.myroom.domain.model3D.service.Model3DSearchIndexListener;
+
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(Model3DSearchIndexListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 생성 지연 작업 정리(Model3DGenerationReaper)가 status + created_at 범위로 조회하고,
+// 공유 모델 목록은 (is_shared, status) 안에서 created_at, id 순으로 커서 페이지네이션합니다.
+@Table(indexes = {
+    @Index(name = "idx_model3d_status_created_at", columnList = "status, created_at"),
+    @Index(name = "idx_model3d_shared_status_created_at", columnList = "is_shared, status, created_at, id")
+})
 public class Model3D {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,6 +49,10 @@ public class Model3D {
     private String errorMessage;
     private String shopPageLink;
 
+    // 생성 시간 초과로 요청을 다시 보낸 횟수와 마지막으로 다시 보낸 시각
+    private int generationAttempts;
+    private LocalDateTime resubmittedAt;
+
     @Builder
     public Model3D(String name, LocalDateTime createdAt, String link, Long creatorId, Boolean isShared, String description, String thumbnailUrl, String trainingImageUrl, String trainingImageUrls, Boolean isVectorDbTrained, FurnitureCategory furnitureType, String shopPageLink) {
         this.name = name;
@@ -123,7 +139,8 @@ public class Model3D {
     }
 
     public void updateStatus(String status) {
-        if (status != null && (status.equals("SUCCESS") || status.equals("FAILED"))) {
+        if (status != null && (status.equals("UPLOADING") || status.equals("PROCESSING")
+                || status.equals("SUCCESS") || status.equals("FAILED"))) {
             this.status = status;
         }
     }
@@ -132,6 +149,11 @@ public class Model3D {
         this.errorMessage = errorMessage;
     }
 
+    public void markResubmitted() {
+        this.generationAttempts++;
+        this.resubmittedAt = LocalDateTime.now();
+    }
+
     public void adminUpdate(String name, String link, Long creatorId, Boolean isShared, String description, String shopPageLink) {
         if (name != null) {
             this.name = name;
@@ -0,0 +1,31 @@
+package com.example.myroom.domain.model3D.model;
+
+/**
+ * 3D 모델 생성 요청 우선순위 (OutboxRelay가 model3d.upload.queue로 내보내는 순서)
+ * - INTERACTIVE: 사용자가 화면에서 기다리는 단일 이미지 업로드
+ * - MULTI_VIEW: 멀티뷰(2~4장) 업로드 - 처리 시간이 길어 단일 업로드보다 한 단계 낮습니다.
+ * - RETRY: 생성 SLA를 넘겨 다시 보내는 요청 (Model3DGenerationReaper)
+ * - BULK: 관리자 일괄 등록 등 대량 요청
+ */
+public enum Model3DUploadPriority {
+    INTERACTIVE("interactive", 8),
+    MULTI_VIEW("multi-view", 6),
+    RETRY("retry", 4),
+    BULK("bulk", 1);
+
+    private final String lane;      // 메트릭 태그/메시지에 사용하는 이름
+    private final int priority;     // 아웃박스 발행 우선순위 (클수록 먼저 발행)
+
+    Model3DUploadPriority(String lane, int priority) {
+        this.lane = lane;
+        this.priority = priority;
+    }
+
+    public String getLane() {
+        return lane;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+}
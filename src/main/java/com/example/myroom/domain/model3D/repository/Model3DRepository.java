@@ -1,16 +1,22 @@
 package com.example.myroom.domain.model3D.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.example.myroom.domain.model3D.model.FurnitureCategory;
 import com.example.myroom.domain.model3D.model.Model3D;
 
+import jakarta.persistence.LockModeType;
+
 public interface Model3DRepository extends JpaRepository<Model3D, Long> {
     Page<Model3D> findByCreatorIdAndNameContaining(Long creatorId, String name, Pageable pageable);
     Page<Model3D> findByCreatorId(Long creatorId, Pageable pageable);
@@ -27,10 +33,91 @@ public interface Model3DRepository extends JpaRepository<Model3D, Long> {
     Page<Model3D> findByIsSharedTrueAndFurnitureTypeAndStatus(FurnitureCategory furnitureType, String status, Pageable pageable);
     Page<Model3D> findByIsSharedTrueAndFurnitureTypeAndNameContainingAndStatus(FurnitureCategory furnitureType, String name, String status, Pageable pageable);
 
-    List<Model3D> findByIsVectorDbTrainedFalse();
+    // 공유 모델 커서 페이지네이션 - (createdAt, id) 보다 뒤의 모델을 최신순으로 조회합니다. (COUNT 없음, idx_model3d_shared_status_created_at)
+    @Query("""
+            SELECT m FROM Model3D m
+            WHERE m.isShared = true AND m.status = :status
+              AND (:category IS NULL OR m.furnitureType = :category)
+              AND (:name IS NULL OR m.name LIKE CONCAT('%', :name, '%'))
+              AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id))
+            ORDER BY m.createdAt DESC, m.id DESC
+            """)
+    Slice<Model3D> findSharedSlice(@Param("status") String status, @Param("category") FurnitureCategory category,
+                                   @Param("name") String name, @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id, Pageable pageable);
+
+    List<Model3D> findByIsVectorDbTrainedFalseAndStatusNot(String status);
     
     List<Model3D> findByCreatorIdAndStatus(Long creatorId, String status);
 
+    /**
+     * 회원의 생성 대기/진행 중인 모델 수 (idx_model3d_creator_status)
+     * Model3DGenerationReaper가 시간 초과로 정리할 대상(기준 시각 이전에 생성/재요청된 모델)은 세지 않습니다.
+     */
+    @Query("""
+            SELECT COUNT(m) FROM Model3D m
+            WHERE m.creatorId = :creatorId
+              AND ((m.status = 'PROCESSING' AND (m.createdAt >= :processingCutoff OR m.resubmittedAt >= :processingCutoff))
+                OR (m.status = 'UPLOADING' AND (m.createdAt >= :uploadingCutoff OR m.resubmittedAt >= :uploadingCutoff)))
+            """)
+    long countPendingByCreatorId(@Param("creatorId") Long creatorId,
+                                 @Param("processingCutoff") LocalDateTime processingCutoff,
+                                 @Param("uploadingCutoff") LocalDateTime uploadingCutoff);
+
+    /**
+     * 생성 시간이 초과된 모델을 id 순서로 한 페이지씩 조회합니다. (idx_model3d_status_created_at)
+     * 다시 요청을 보낸 모델은 마지막 재요청 시각도 기준 시각보다 이전이어야 합니다.
+     * 행 잠금(FOR UPDATE)으로 읽어, 처리 중에 업로드 파이프라인/응답 컨슈머가 같은 모델의 상태를 바꾸지 못하게 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT m FROM Model3D m
+            WHERE m.status = :status AND m.createdAt < :cutoff
+              AND (m.resubmittedAt IS NULL OR m.resubmittedAt < :cutoff)
+              AND m.id > :afterId
+            ORDER BY m.id
+            """)
+    List<Model3D> findTimedOut(@Param("status") String status, @Param("cutoff") LocalDateTime cutoff,
+                               @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 업로드가 끝난 모델을 PROCESSING으로 바꿉니다. 아직 UPLOADING인 경우에만 바뀌며 바뀐 행 수를 반환합니다.
+     * (그 사이 업로드 시간 초과로 FAILED 처리된 모델을 되살리지 않도록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Model3D m
+            SET m.thumbnailUrl = :thumbnailUrl, m.trainingImageUrl = :trainingImageUrl,
+                m.trainingImageUrls = :trainingImageUrls, m.status = 'PROCESSING'
+            WHERE m.id = :id AND m.status = 'UPLOADING'
+            """)
+    int markUploadedIfUploading(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl,
+                                @Param("trainingImageUrl") String trainingImageUrl,
+                                @Param("trainingImageUrls") String trainingImageUrls);
+
+    /**
+     * 업로드에 실패한 모델을 FAILED로 바꿉니다. 아직 UPLOADING인 경우에만 바뀌며 바뀐 행 수를 반환합니다.
+     * (그 사이 생성 요청이 나갔거나 리퍼가 먼저 정리한 모델의 상태를 덮어쓰지 않도록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Model3D m
+            SET m.status = 'FAILED', m.errorMessage = :errorMessage
+            WHERE m.id = :id AND m.status = 'UPLOADING'
+            """)
+    int markFailedIfUploading(@Param("id") Long id, @Param("errorMessage") String errorMessage);
+
+    // 검색 색인 재구축용 - 공유된 생성 완료 모델의 id, 이름, 카테고리를 id 순서로 나눠 읽습니다.
+    @Query("""
+            SELECT m.id, m.name, m.furnitureType FROM Model3D m
+            WHERE m.isShared = true AND m.status = 'SUCCESS' AND m.id > :afterId
+            ORDER BY m.id
+            """)
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @Query("SELECT m.id FROM Model3D m WHERE m.creatorId = :creatorId")
     List<Long> findIdsByCreatorId(@Param("creatorId") Long creatorId);
+
+    @Query("SELECT m.id FROM Model3D m WHERE m.id IN :ids AND m.isVectorDbTrained = true")
+    List<Long> findVectorDbTrainedIdsByIdIn(@Param("ids") List<Long> ids);
 }
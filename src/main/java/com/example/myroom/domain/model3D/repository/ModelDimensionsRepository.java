@@ -1,8 +1,12 @@
 package com.example.myroom.domain.model3D.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.myroom.domain.model3D.model.ModelDimensions;
@@ -12,4 +16,8 @@ public interface ModelDimensionsRepository extends JpaRepository<ModelDimensions
     Optional<ModelDimensions> findByModel3DId(Long model3dId);
     boolean existsByModel3DId(Long model3dId);
     void deleteByModel3DId(Long model3dId);
+
+    @Modifying
+    @Query("DELETE FROM ModelDimensions d WHERE d.model3D.id IN :model3dIds")
+    int bulkDeleteByModel3DIdIn(@Param("model3dIds") List<Long> model3dIds);
 }
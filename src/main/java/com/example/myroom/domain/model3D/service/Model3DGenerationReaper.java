@@ -0,0 +1,170 @@
+package com.example.myroom.domain.model3D.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.model3D.dto.message.Model3DGenerationResponse;
+import com.example.myroom.domain.model3D.messaging.Model3DProducer;
+import com.example.myroom.domain.model3D.model.Model3D;
+import com.example.myroom.domain.model3D.model.Model3DUploadPriority;
+import com.example.myroom.domain.model3D.repository.Model3DRepository;
+import com.example.myroom.domain.socket.service.WebSocketNotificationService;
+import com.example.myroom.global.scheduling.SchedulerLeaseLock;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 생성이 끝나지 않은 3D 모델 정리 (AI 서버 장애 등으로 응답이 오지 않은 작업)
+ * - PROCESSING: reaper.model3d.processing-sla-minutes가 지나면 재처리 우선순위(RETRY)로 생성 요청을 다시 보내고,
+ *   reaper.max-attempts 번 다시 보낸 뒤에도 응답이 없으면 FAILED로 바꾸고 WebSocket으로 알립니다.
+ * - UPLOADING: 스풀 파일이 남아 있지 않으므로 다시 보낼 수 없어 reaper.model3d.uploading-sla-minutes가 지나면 바로 FAILED 처리합니다.
+ * - (status, created_at) 인덱스 범위를 id 순서로 reaper.page-size씩 읽고, 페이지마다 트랜잭션을 나눕니다.
+ * - 여러 서버에서 동시에 실행되지 않도록 DB 리스를 잡고 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Model3DGenerationReaper {
+    private static final String LEASE_NAME = "model3d-generation-reaper";
+
+    private final Model3DRepository model3DRepository;
+    private final Model3DProducer model3DProducer;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final SchedulerLeaseLock schedulerLeaseLock;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reaper.model3d.processing-sla-minutes:30}")
+    private long processingSlaMinutes;
+
+    @Value("${reaper.model3d.uploading-sla-minutes:15}")
+    private long uploadingSlaMinutes;
+
+    @Value("${reaper.max-attempts:2}")
+    private int maxAttempts;
+
+    @Value("${reaper.page-size:100}")
+    private int pageSize;
+
+    @Value("${reaper.max-pages:20}")
+    private int maxPages;
+
+    @Value("${reaper.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${reaper.interval-ms:60000}", initialDelayString = "${reaper.initial-delay-ms:60000}")
+    public void reap() {
+        try {
+            schedulerLeaseLock.runExclusively(LEASE_NAME, Duration.ofSeconds(leaseSeconds), () -> {
+                LocalDateTime now = LocalDateTime.now();
+                reapTimedOut("PROCESSING", now.minusMinutes(processingSlaMinutes));
+                reapTimedOut("UPLOADING", now.minusMinutes(uploadingSlaMinutes));
+            });
+        } catch (RuntimeException e) {
+            log.error("❌ 3D 모델 생성 지연 작업 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void reapTimedOut(String status, LocalDateTime cutoff) {
+        long afterId = 0L;
+        for (int page = 0; page < maxPages; page++) {
+            long lastId = afterId;
+            ReapResult result = transactionTemplate.execute(tx -> reapPage(status, cutoff, lastId));
+            if (result == null || result.size() == 0) {
+                return;
+            }
+
+            // 실패 알림은 상태 변경이 커밋된 뒤에 보냅니다.
+            result.failed().forEach(model3D -> notifyFailed(status, model3D));
+            if (result.size() < pageSize) {
+                return;
+            }
+            afterId = result.lastId();
+        }
+        log.warn("⚠️ 3D 모델 생성 지연 작업이 한 번에 처리할 수 있는 양({}페이지)을 넘었습니다: status={}", maxPages, status);
+    }
+
+    private ReapResult reapPage(String status, LocalDateTime cutoff, long afterId) {
+        List<Model3D> timedOut = model3DRepository.findTimedOut(status, cutoff, afterId, PageRequest.ofSize(pageSize));
+        List<Model3D> failed = new ArrayList<>();
+        for (Model3D model3D : timedOut) {
+            if ("PROCESSING".equals(status) && model3D.getGenerationAttempts() < maxAttempts && resubmit(model3D)) {
+                continue;
+            }
+            model3D.updateStatus("FAILED");
+            model3D.updateErrorMessage("생성 시간이 초과되었습니다.");
+            failed.add(model3D);
+            meterRegistry.counter("generation.reaper.failed", "type", "model3d").increment();
+        }
+        long lastId = timedOut.isEmpty() ? afterId : timedOut.get(timedOut.size() - 1).getId();
+        return new ReapResult(timedOut.size(), lastId, failed);
+    }
+
+    /**
+     * 학습 이미지 URL로 생성 요청을 다시 보냅니다. 보낼 이미지가 없으면 false를 반환합니다.
+     */
+    private boolean resubmit(Model3D model3D) {
+        List<String> trainingImageUrls = readTrainingImageUrls(model3D);
+        if (trainingImageUrls.isEmpty()) {
+            return false;
+        }
+
+        model3D.markResubmitted();
+        if (trainingImageUrls.size() > 1) {
+            model3DProducer.sendModel3DMultiUploadMessage(trainingImageUrls, model3D.getCreatorId(), model3D.getId(),
+                    model3D.getFurnitureType(), model3D.getIsShared(), Model3DUploadPriority.RETRY);
+        } else {
+            model3DProducer.sendModel3DUploadMessage(trainingImageUrls.get(0), model3D.getCreatorId(), model3D.getId(),
+                    model3D.getFurnitureType(), model3D.getIsShared(), Model3DUploadPriority.RETRY);
+        }
+        meterRegistry.counter("generation.reaper.resubmitted", "type", "model3d").increment();
+        log.warn("♻️ 3D 모델 생성 요청 재전송: model3dId={}, attempt={}", model3D.getId(), model3D.getGenerationAttempts());
+        return true;
+    }
+
+    private List<String> readTrainingImageUrls(Model3D model3D) {
+        if (model3D.getTrainingImageUrls() != null && !model3D.getTrainingImageUrls().isBlank()) {
+            try {
+                return objectMapper.readValue(model3D.getTrainingImageUrls(), new TypeReference<List<String>>() {});
+            } catch (JsonProcessingException e) {
+                log.warn("학습 이미지 URL 목록 파싱 실패: model3dId={}, error={}", model3D.getId(), e.getMessage());
+            }
+        }
+        return model3D.getTrainingImageUrl() != null ? List.of(model3D.getTrainingImageUrl()) : List.of();
+    }
+
+    private void notifyFailed(String status, Model3D model3D) {
+        log.warn("⏱️ 3D 모델 생성 시간 초과로 실패 처리: model3dId={}, memberId={}, status={}, attempts={}",
+                model3D.getId(), model3D.getCreatorId(), status, model3D.getGenerationAttempts());
+        if ("UPLOADING".equals(status)) {
+            webSocketNotificationService.sendModel3DUploadProgressNotification(model3D.getCreatorId(), model3D.getId(),
+                    "FAILED", "이미지 업로드 시간이 초과되었습니다. 다시 시도해주세요.", null);
+            return;
+        }
+        webSocketNotificationService.sendModel3DGenerationNotification(Model3DGenerationResponse.builder()
+                .model3dId(model3D.getId())
+                .memberId(model3D.getCreatorId())
+                .thumbnailUrl(model3D.getThumbnailUrl())
+                .status("FAILED")
+                .message("3D 모델 생성 시간이 초과되었습니다. 다시 시도해주세요.")
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    private record ReapResult(int size, long lastId, List<Model3D> failed) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.myroom.domain.model3D.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.domain.model3D.model.FurnitureCategory;
+import com.example.myroom.domain.model3D.model.Model3D;
+import com.example.myroom.domain.model3D.repository.Model3DRepository;
+import com.example.myroom.global.search.InMemorySearchIndex;
+import com.example.myroom.global.search.NgramIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공유 3D 모델 이름 검색 색인
+ * - 공유되었고 생성이 끝난(SUCCESS) 모델의 이름만 색인하며, 가구 카테고리를 태그로 둡니다.
+ *   LIKE 검색(findByIsSharedTrueAndNameContainingAndStatus)과 같은 결과가 나오도록 설명은 색인하지 않습니다.
+ * - 모델 저장/삭제는 Model3DSearchIndexListener가 커밋 이후 반영하고,
+ *   search.index.rebuild-interval-ms 주기로 전체를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Model3DSearchIndex extends InMemorySearchIndex {
+    private final Model3DRepository model3DRepository;
+
+    @Value("${search.index.load-page-size:5000}")
+    private int loadPageSize;
+
+    @Scheduled(initialDelayString = "${search.index.initial-delay-ms:0}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("❌ 3D 모델 검색 색인 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public void onSaved(Model3D model3D) {
+        if (isSearchable(model3D)) {
+            putAfterCommit(model3D.getId(), tagOf(model3D.getFurnitureType()), model3D.getName());
+        } else {
+            removeAfterCommit(model3D.getId());
+        }
+    }
+
+    /**
+     * DB에서 다시 읽은 모델이 여전히 검색 조건에 맞는지 확인합니다.
+     */
+    public boolean stillMatches(Model3D model3D, String name, FurnitureCategory category) {
+        return isSearchable(model3D)
+                && (category == null || category == model3D.getFurnitureType())
+                && NgramIndex.matches(name, model3D.getName());
+    }
+
+    public static String tagOf(FurnitureCategory category) {
+        return category != null ? category.name() : null;
+    }
+
+    @Override
+    protected void loadAll(NgramIndex target) {
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = model3DRepository.findSearchDocumentsAfter(afterId, PageRequest.ofSize(loadPageSize));
+            for (Object[] row : rows) {
+                target.put((Long) row[0], tagOf((FurnitureCategory) row[2]), (String) row[1]);
+            }
+            if (rows.size() < loadPageSize) {
+                return;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    @Override
+    protected String indexName() {
+        return "model3d";
+    }
+
+    private boolean isSearchable(Model3D model3D) {
+        return Boolean.TRUE.equals(model3D.getIsShared()) && "SUCCESS".equals(model3D.getStatus());
+    }
+}
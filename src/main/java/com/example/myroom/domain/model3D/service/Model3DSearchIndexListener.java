@@ -0,0 +1,32 @@
+package com.example.myroom.domain.model3D.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.domain.model3D.model.Model3D;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Model3D 엔티티 변경을 검색 색인에 전달하는 JPA 엔티티 리스너
+ * - EntityManagerFactory 생성 중에 리스너가 만들어지므로, 리포지토리를 가진 색인은 처음 사용할 때 가져옵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class Model3DSearchIndexListener {
+    private final ObjectProvider<Model3DSearchIndex> model3DSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Model3D model3D) {
+        model3DSearchIndex.getObject().onSaved(model3D);
+    }
+
+    @PostRemove
+    public void onRemoved(Model3D model3D) {
+        model3DSearchIndex.getObject().removeAfterCommit(model3D.getId());
+    }
+}
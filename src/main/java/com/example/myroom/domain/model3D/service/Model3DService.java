@@ -4,32 +4,45 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.myroom.domain.image.ImageUploadService;
+import com.example.myroom.domain.image.ImageUploadSpool;
 import com.example.myroom.domain.image.Model3DImageUrls;
 import com.example.myroom.domain.image.S3ImageUploadService;
+import com.example.myroom.domain.image.SpooledImage;
 import com.example.myroom.domain.comment.repository.CommentRepository;
 import com.example.myroom.domain.bookmark.repository.Model3DBookmarkRepository;
 import com.example.myroom.domain.post.like.repository.PostLikeRepository;
 import com.example.myroom.domain.post.repository.PostRepository;
+import com.example.myroom.domain.post.service.PostSearchIndex;
 import com.example.myroom.domain.model3D.dto.message.Model3DGenerationResponse;
 import com.example.myroom.domain.model3D.dto.request.Model3DUpdateRequestDto;
 import com.example.myroom.domain.model3D.dto.request.Model3DUpdateRequestV2Dto;
 import com.example.myroom.domain.model3D.dto.request.Model3DUpdateRequestV3Dto;
 import com.example.myroom.domain.model3D.dto.request.Model3DUploadRequestDto;
 import com.example.myroom.domain.model3D.dto.response.Model3DResponseDto;
+import com.example.myroom.domain.model3D.dto.response.Model3DUploadAcceptedResponseDto;
+import com.example.myroom.domain.model3D.messaging.Model3DMetadataUpdateBuffer;
 import com.example.myroom.domain.model3D.messaging.Model3DProducer;
 import com.example.myroom.domain.model3D.model.Model3D;
+import com.example.myroom.domain.model3D.model.Model3DUploadPriority;
 import com.example.myroom.domain.model3D.model.FurnitureCategory;
 import com.example.myroom.domain.model3D.repository.ModelDimensionsRepository;
 import com.example.myroom.domain.model3D.repository.Model3DRepository;
 import com.example.myroom.domain.recommand.repository.RecommandResultRepository;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
+import com.example.myroom.global.search.InMemorySearchIndex;
+import com.example.myroom.global.util.CursorCodec;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -49,8 +62,17 @@ public class Model3DService {
     private final RecommandResultRepository recommandResultRepository;
     private final ImageUploadService imageUploadService;
     private final S3ImageUploadService s3ImageUploadService;
+    private final ImageUploadSpool imageUploadSpool;
+    private final Model3DUploadPipeline model3DUploadPipeline;
     private final Model3DProducer model3DProducer;
+    private final Model3DMetadataUpdateBuffer model3DMetadataUpdateBuffer;
+    private final Model3DSearchIndex model3DSearchIndex;
+    private final PostSearchIndex postSearchIndex;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${model3d.delete.in-chunk-size:500}")
+    private int deleteInChunkSize;
 
     public Model3DResponseDto getModel3DById(Long model3dId, Long memberId) {
         Model3D model3D = model3DRepository.findById(model3dId)
@@ -61,6 +83,7 @@ public class Model3DService {
         return Model3DResponseDto.from(model3D);
     }
 
+    @Transactional
     public Model3DResponseDto updateModel3D(Long model3dId, Model3DUpdateRequestDto updateRequestDto, Long memberId) {
         Model3D model3D = model3DRepository.findById(model3dId)
                 .orElseThrow(() -> new IllegalArgumentException("3D 모델 " + model3dId + "을 찾을 수 없습니다."));
@@ -78,9 +101,9 @@ public class Model3DService {
 
         Model3D updatedModel3D = model3DRepository.save(model3D);
         
-        // VectorDB에 학습된 모델인 경우에만 메타데이터 업데이트 메시지 발송
+        // VectorDB에 학습된 모델인 경우에만 메타데이터 업데이트 (짧은 시간 내 반복 수정은 병합되어 발송)
         if (updatedModel3D.getIsVectorDbTrained()) {
-            model3DProducer.sendMetadataUpdateMessage(
+            model3DMetadataUpdateBuffer.add(
                     updatedModel3D.getId(),
                     memberId,
                     updatedModel3D.getName(),
@@ -93,6 +116,7 @@ public class Model3DService {
         return Model3DResponseDto.from(updatedModel3D);
     }
 
+    @Transactional
     public Model3DResponseDto updateModel3Dv2(Long model3dId, Model3DUpdateRequestV2Dto updateRequestDto, Long memberId) {
         Model3D model3D = model3DRepository.findById(model3dId)
                 .orElseThrow(() -> new IllegalArgumentException("3D 모델 " + model3dId + "을 찾을 수 없습니다."));
@@ -111,9 +135,9 @@ public class Model3DService {
 
         Model3D updatedModel3D = model3DRepository.save(model3D);
         
-        // VectorDB에 학습된 모델인 경우에만 메타데이터 업데이트 메시지 발송
+        // VectorDB에 학습된 모델인 경우에만 메타데이터 업데이트 (짧은 시간 내 반복 수정은 병합되어 발송)
         if (updatedModel3D.getIsVectorDbTrained()) {
-            model3DProducer.sendMetadataUpdateMessage(
+            model3DMetadataUpdateBuffer.add(
                     updatedModel3D.getId(),
                     memberId,
                     updatedModel3D.getName(),
@@ -126,6 +150,7 @@ public class Model3DService {
         return Model3DResponseDto.from(updatedModel3D);
     }
 
+    @Transactional
     public Model3DResponseDto updateModel3Dv3(Long model3dId, Model3DUpdateRequestV3Dto updateRequestDto, Long memberId) {
         Model3D model3D = model3DRepository.findById(model3dId)
                 .orElseThrow(() -> new IllegalArgumentException("3D 모델 " + model3dId + "을 찾을 수 없습니다."));
@@ -143,9 +168,9 @@ public class Model3DService {
 
         Model3D updatedModel3D = model3DRepository.save(model3D);
 
-        // VectorDB에 학습된 모델인 경우에만 메타데이터 업데이트 메시지 발송
+        // VectorDB에 학습된 모델인 경우에만 메타데이터 업데이트 (짧은 시간 내 반복 수정은 병합되어 발송)
         if (updatedModel3D.getIsVectorDbTrained()) {
-            model3DProducer.sendMetadataUpdateMessage(
+            model3DMetadataUpdateBuffer.add(
                     updatedModel3D.getId(),
                     memberId,
                     updatedModel3D.getName(),
@@ -167,23 +192,49 @@ public class Model3DService {
             throw new IllegalArgumentException("3D 모델을 삭제할 권한이 없습니다.");
         }
 
-        // VectorDB에 학습된 모델인 경우 삭제 메시지 발송
-        if (model3D.getIsVectorDbTrained()) {
-            model3DProducer.sendDeleteMessage(List.of(model3dId), memberId);
-            log.info("🗑️ VectorDB 삭제 요청: model3dId={}", model3dId);
+        deleteModel3Ds(List.of(model3dId), memberId);
+    }
+
+    /**
+     * 여러 3D 모델과 연관 데이터를 IN 조건의 일괄 DELETE로 삭제합니다.
+     * - 모델 수와 관계없이 청크(model3d.delete.in-chunk-size)당 고정된 개수의 쿼리만 실행합니다.
+     * - VectorDB에 학습된 모델 ID를 모아 삭제 메시지를 한 번에 발송합니다. (아웃박스 - 커밋 이후 발행)
+     * - 호출 측에서 소유권을 검증해야 합니다.
+     */
+    @Transactional
+    public void deleteModel3Ds(List<Long> model3dIds, Long memberId) {
+        if (model3dIds.isEmpty()) {
+            return;
         }
 
-        List<Long> postIds = postRepository.findIdsByModel3DId(model3dId);
-        if (!postIds.isEmpty()) {
-            commentRepository.deleteByPostIdIn(postIds);
-            postLikeRepository.deleteByPostIdIn(postIds);
-            postRepository.deleteByModel3DId(model3dId);
+        List<Long> trainedModel3dIds = new ArrayList<>();
+        for (int from = 0; from < model3dIds.size(); from += deleteInChunkSize) {
+            List<Long> chunk = model3dIds.subList(from, Math.min(from + deleteInChunkSize, model3dIds.size()));
+            trainedModel3dIds.addAll(model3DRepository.findVectorDbTrainedIdsByIdIn(chunk));
+
+            List<Long> postIds = postRepository.findIdsByModel3DIdIn(chunk);
+            if (!postIds.isEmpty()) {
+                commentRepository.detachRepliesByPostIdIn(postIds);
+                commentRepository.bulkDeleteByPostIdIn(postIds);
+                postLikeRepository.bulkDeleteByPostIdIn(postIds);
+                postRepository.deleteImageUrlsByPostIdIn(postIds);
+                postRepository.deleteAllByIdInBatch(postIds);
+                postSearchIndex.removeAfterCommit(postIds);
+            }
+
+            model3DBookmarkRepository.bulkDeleteByModel3DIdIn(chunk);
+            recommandResultRepository.deleteModel3DLinksIn(chunk);
+            modelDimensionsRepository.bulkDeleteByModel3DIdIn(chunk);
+            model3DRepository.deleteAllByIdInBatch(chunk);
+            // 일괄 DELETE는 엔티티 리스너를 거치지 않으므로 검색 색인에서 직접 제거합니다.
+            model3DSearchIndex.removeAfterCommit(chunk);
         }
 
-        model3DBookmarkRepository.deleteByModel3DId(model3dId);
-        recommandResultRepository.deleteModel3DLinks(model3dId);
-        modelDimensionsRepository.deleteByModel3DId(model3dId);
-        model3DRepository.deleteById(model3dId);
+        // VectorDB에 학습된 모델인 경우 삭제 메시지 발송
+        if (!trainedModel3dIds.isEmpty()) {
+            model3DProducer.sendDeleteMessage(trainedModel3dIds, memberId);
+            log.info("🗑️ VectorDB 삭제 요청: count={}, model3dIds={}", trainedModel3dIds.size(), trainedModel3dIds);
+        }
     }
 
     public String uploadModel3DFile(MultipartFile file, Model3DUploadRequestDto uploadRequestDto, Long memberId) {
@@ -210,17 +261,68 @@ public class Model3DService {
                 .isVectorDbTrained(false)
                 .build();
 
-        Model3D savedModel = model3DRepository.save(model3D);
-        log.info("📝 3D 모델 임시 저장: model3dId={}, name={}, furnitureType={}", 
-            savedModel.getId(), savedModel.getName(), savedModel.getFurnitureType());
+        // S3 업로드는 트랜잭션 밖에서 끝내고, 저장과 메시지 적재만 하나의 트랜잭션으로 묶습니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            Model3D savedModel = model3DRepository.save(model3D);
+            log.info("📝 3D 모델 임시 저장: model3dId={}, name={}, furnitureType={}", 
+                savedModel.getId(), savedModel.getName(), savedModel.getFurnitureType());
 
-        // RabbitMQ로 메시지 전송 (학습용 1024x1024 이미지 URL 사용)
-        model3DProducer.sendModel3DUploadMessage(imageUrls.trainingImageUrl(), memberId, savedModel.getId(), 
-            uploadRequestDto.furnitureType(), uploadRequestDto.isShared());
+            // RabbitMQ로 메시지 전송 (학습용 1024x1024 이미지 URL 사용)
+            model3DProducer.sendModel3DUploadMessage(imageUrls.trainingImageUrl(), memberId, savedModel.getId(), 
+                uploadRequestDto.furnitureType(), uploadRequestDto.isShared(), Model3DUploadPriority.INTERACTIVE);
+        });
         
         return imageUrls.thumbnailUrl();
     }
 
+    /**
+     * 비동기 업로드 접수
+     * - 검증 후 원본을 스풀 디렉토리에 저장하고 UPLOADING 상태의 Model3D를 생성한 뒤 바로 반환합니다.
+     * - 리사이즈/S3 업로드/MQ 발행은 Model3DUploadPipeline이 백그라운드에서 진행합니다.
+     */
+    public Model3DUploadAcceptedResponseDto acceptModel3DUpload(MultipartFile file, Model3DUploadRequestDto uploadRequestDto, Long memberId) {
+        SpooledImage spooledImage;
+        try {
+            s3ImageUploadService.validateModel3DImage(file);
+            spooledImage = imageUploadSpool.spool(file);
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+
+        Model3D model3D = Model3D.builder()
+                .name(uploadRequestDto.name())
+                .furnitureType(uploadRequestDto.furnitureType())
+                .description(uploadRequestDto.description())
+                .isShared(uploadRequestDto.isShared() != null ? uploadRequestDto.isShared() : false)
+                .creatorId(memberId)
+                .link(null)
+                .createdAt(LocalDateTime.now())
+                .isVectorDbTrained(false)
+                .build();
+        model3D.updateStatus("UPLOADING");
+
+        Model3D savedModel;
+        try {
+            savedModel = model3DRepository.save(model3D);
+        } catch (RuntimeException e) {
+            imageUploadSpool.delete(spooledImage.path());
+            throw e;
+        }
+        log.info("📝 3D 모델 업로드 접수: model3dId={}, name={}, furnitureType={}",
+            savedModel.getId(), savedModel.getName(), savedModel.getFurnitureType());
+
+        try {
+            model3DUploadPipeline.start(savedModel.getId(), memberId, spooledImage);
+        } catch (RejectedExecutionException e) {
+            // 이미지 처리 대기열이 가득 찬 경우 접수를 실패로 기록합니다.
+            imageUploadSpool.delete(spooledImage.path());
+            model3DUploadPipeline.fail(savedModel.getId(), memberId, e);
+            throw new RuntimeException("이미지 처리 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        return new Model3DUploadAcceptedResponseDto(savedModel.getId(), savedModel.getStatus());
+    }
+
     public String uploadModel3DMultiFile(List<MultipartFile> files, Model3DUploadRequestDto uploadRequestDto, Long memberId) {
         validateMultiUploadFiles(files);
 
@@ -228,12 +330,10 @@ public class Model3DService {
         String thumbnailUrl;
 
         try {
-            Model3DImageUrls firstImageUrls = s3ImageUploadService.uploadModel3DImages(files.get(0));
-            thumbnailUrl = firstImageUrls.thumbnailUrl();
-            trainingImageUrls.add(firstImageUrls.trainingImageUrl());
-
-            for (int i = 1; i < files.size(); i++) {
-                Model3DImageUrls imageUrls = s3ImageUploadService.uploadModel3DImages(files.get(i));
+            // 모든 파일을 동시에 처리하고 입력 순서대로 결과를 받습니다.
+            List<Model3DImageUrls> imageUrlsList = s3ImageUploadService.uploadModel3DImagesInOrder(files);
+            thumbnailUrl = imageUrlsList.get(0).thumbnailUrl();
+            for (Model3DImageUrls imageUrls : imageUrlsList) {
                 trainingImageUrls.add(imageUrls.trainingImageUrl());
             }
         } catch (IOException e) {
@@ -254,12 +354,14 @@ public class Model3DService {
                 .isVectorDbTrained(false)
                 .build();
 
-        Model3D savedModel = model3DRepository.save(model3D);
-        log.info("📝 3D 멀티뷰 모델 임시 저장: model3dId={}, name={}, furnitureType={}, imageCount={}",
-                savedModel.getId(), savedModel.getName(), savedModel.getFurnitureType(), trainingImageUrls.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            Model3D savedModel = model3DRepository.save(model3D);
+            log.info("📝 3D 멀티뷰 모델 임시 저장: model3dId={}, name={}, furnitureType={}, imageCount={}",
+                    savedModel.getId(), savedModel.getName(), savedModel.getFurnitureType(), trainingImageUrls.size());
 
-        model3DProducer.sendModel3DMultiUploadMessage(trainingImageUrls, memberId, savedModel.getId(),
-                uploadRequestDto.furnitureType(), uploadRequestDto.isShared());
+            model3DProducer.sendModel3DMultiUploadMessage(trainingImageUrls, memberId, savedModel.getId(),
+                    uploadRequestDto.furnitureType(), uploadRequestDto.isShared(), Model3DUploadPriority.MULTI_VIEW);
+        });
 
         return thumbnailUrl;
     }
@@ -375,17 +477,38 @@ public class Model3DService {
         return model3Ds.map(Model3DResponseDto::from);
     }
 
+    /**
+     * 공유 모델 커서 페이지네이션 (최신순, COUNT 없음)
+     */
+    public CursorSliceResponseDto<Model3DResponseDto> getSharedModel3DsByCursor(String name, FurnitureCategory category,
+                                                                              String cursor, Integer size) {
+        CursorCodec.Cursor position = CursorCodec.decode(cursor);
+        Slice<Model3D> model3Ds = model3DRepository.findSharedSlice("SUCCESS", category,
+                name == null || name.isEmpty() ? null : name, position.createdAt(), position.id(), CursorCodec.pageOf(size));
+        return CursorSliceResponseDto.of(model3Ds, Model3DResponseDto::from, Model3D::getCreatedAt, Model3D::getId);
+    }
+
+    /**
+     * 공유 모델 목록/검색
+     * - 이름 검색은 검색 색인(Model3DSearchIndex)으로 이름이 일치하는 모델 id를 찾고 해당 페이지만 DB에서 읽습니다.
+     *   색인이 처리할 수 없는 요청(준비 전, 다른 정렬, 깊은 페이지)은 LIKE 검색을 사용하며, 두 경로 모두 정렬이 없으면 최신순입니다.
+     */
     public Page<Model3DResponseDto> getSharedModel3Ds(Long memberId, String name, FurnitureCategory category, Pageable pageable) {
         Page<Model3D> model3Ds;
 
-        boolean hasName = name != null && !name.isEmpty();
+        boolean hasName = name != null && !name.isBlank();
         boolean hasCategory = category != null;
 
-        if (hasName && hasCategory) {
+        if (hasName && model3DSearchIndex.canSearch(pageable)) {
+            model3Ds = model3DSearchIndex.searchPage(name, Model3DSearchIndex.tagOf(category), pageable,
+                    model3DRepository::findAllById, Model3D::getId,
+                    model3D -> model3DSearchIndex.stillMatches(model3D, name, category));
+        } else if (hasName && hasCategory) {
             model3Ds = model3DRepository.findByIsSharedTrueAndFurnitureTypeAndNameContainingAndStatus(
-                    category, name, "SUCCESS", pageable);
+                    category, name, "SUCCESS", InMemorySearchIndex.latestFirst(pageable));
         } else if (hasName) {
-            model3Ds = model3DRepository.findByIsSharedTrueAndNameContainingAndStatus(name, "SUCCESS", pageable);
+            model3Ds = model3DRepository.findByIsSharedTrueAndNameContainingAndStatus(
+                    name, "SUCCESS", InMemorySearchIndex.latestFirst(pageable));
         } else if (hasCategory) {
             model3Ds = model3DRepository.findByIsSharedTrueAndFurnitureTypeAndStatus(category, "SUCCESS", pageable);
         } else {
@@ -395,34 +518,21 @@ public class Model3DService {
     }
 
     public List<Model3DResponseDto> getNotVectorDbTrainedModel3Ds() {
-        List<Model3D> model3Ds = model3DRepository.findByIsVectorDbTrainedFalse();
+        // 생성에 실패한 모델은 학습 대상이 아니므로 제외합니다.
+        List<Model3D> model3Ds = model3DRepository.findByIsVectorDbTrainedFalseAndStatusNot("FAILED");
         return model3Ds.stream()
                 .map(Model3DResponseDto::from)
                 .toList();
     }
 
+    @Transactional
     public void deleteAllModel3Ds(Long memberId) {
-        List<Model3D> model3Ds = model3DRepository.findAll();
-        List<Model3D> userModel3Ds = model3Ds.stream()
-                .filter(model3D -> model3D.getCreatorId().equals(memberId))
-                .toList();
-        
-        if (userModel3Ds.isEmpty()) {
+        List<Long> model3dIds = model3DRepository.findIdsByCreatorId(memberId);
+        if (model3dIds.isEmpty()) {
             throw new IllegalArgumentException("삭제할 3D 모델이 없습니다.");
         }
 
-        // VectorDB에 학습된 모델들의 ID 추출하여 삭제 메시지 발송
-        List<Long> trainedModel3dIds = userModel3Ds.stream()
-                .filter(Model3D::getIsVectorDbTrained)
-                .map(Model3D::getId)
-                .toList();
-        
-        if (!trainedModel3dIds.isEmpty()) {
-            model3DProducer.sendDeleteMessage(trainedModel3dIds, memberId);
-            log.info("🗑️ VectorDB 일괄 삭제 요청: model3dIds={}", trainedModel3dIds);
-        }
-        
-        model3DRepository.deleteAll(userModel3Ds);
+        deleteModel3Ds(model3dIds, memberId);
     }
     
     private boolean isOwner(Long modelCreatorId, Long memberId) {
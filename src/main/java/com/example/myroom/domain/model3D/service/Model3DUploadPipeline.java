@@ -0,0 +1,140 @@
+package com.example.myroom.domain.model3D.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.image.ImageUploadSpool;
+import com.example.myroom.domain.image.Model3DImageUrls;
+import com.example.myroom.domain.image.S3ImageUploadService;
+import com.example.myroom.domain.image.SpooledImage;
+import com.example.myroom.domain.model3D.messaging.Model3DProducer;
+import com.example.myroom.domain.model3D.model.Model3D;
+import com.example.myroom.domain.model3D.model.Model3DUploadPriority;
+import com.example.myroom.domain.model3D.repository.Model3DRepository;
+import com.example.myroom.domain.socket.service.WebSocketNotificationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 3D 모델 비동기 업로드 파이프라인
+ * - 요청 스레드는 원본을 스풀하고 UPLOADING 상태의 Model3D만 저장한 뒤 바로 반환합니다.
+ * - 이후 단계는 이미지 전용 Executor에서 진행됩니다: 리사이즈 → S3 업로드 → DB 갱신/MQ 발행
+ * - 각 단계 진행 상황은 /topic/model3d/{memberId} 로 알립니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class Model3DUploadPipeline {
+    private final S3ImageUploadService s3ImageUploadService;
+    private final ImageUploadSpool imageUploadSpool;
+    private final Model3DRepository model3DRepository;
+    private final Model3DProducer model3DProducer;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 스풀된 원본으로 파이프라인을 시작합니다. 스풀 파일은 성공/실패와 관계없이 마지막에 삭제됩니다.
+     * 같은 원본이 이미 변환/업로드된 적이 있으면 리사이즈/업로드 단계를 건너뜁니다.
+     */
+    public void start(Long model3dId, Long memberId, SpooledImage spooledImage) {
+        log.info("🚚 업로드 파이프라인 시작: model3dId={}, memberId={}, contentHash={}",
+            model3dId, memberId, spooledImage.contentHash());
+
+        Optional<Model3DImageUrls> uploadedImageUrls = s3ImageUploadService.findUploadedModel3DImages(spooledImage.contentHash());
+        if (uploadedImageUrls.isPresent()) {
+            imageUploadSpool.delete(spooledImage.path());
+            try {
+                publish(model3dId, memberId, uploadedImageUrls.get());
+            } catch (RuntimeException e) {
+                fail(model3dId, memberId, e);
+            }
+            return;
+        }
+
+        webSocketNotificationService.sendModel3DUploadProgressNotification(
+                memberId, model3dId, "UPLOADING", "이미지를 변환하고 있습니다.", null);
+
+        s3ImageUploadService.resizeModel3DImageAsync(new FileSystemResource(spooledImage.path()))
+                .thenCompose(imageBytes -> {
+                    webSocketNotificationService.sendModel3DUploadProgressNotification(
+                            memberId, model3dId, "UPLOADING", "이미지를 업로드하고 있습니다.", null);
+                    return s3ImageUploadService.uploadModel3DImageBytesAsync(imageBytes, spooledImage.contentHash());
+                })
+                .thenAccept(imageUrls -> publish(model3dId, memberId, imageUrls))
+                .whenComplete((ignored, ex) -> {
+                    imageUploadSpool.delete(spooledImage.path());
+                    if (ex != null) {
+                        fail(model3dId, memberId, ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                    }
+                });
+    }
+
+    private void publish(Long model3dId, Long memberId, Model3DImageUrls imageUrls) {
+        // 상태 갱신과 메시지 적재를 한 트랜잭션으로 묶어, 둘 중 하나만 반영되는 경우가 없도록 합니다.
+        // 상태는 아직 UPLOADING일 때만 바꾸므로, 업로드가 늦어 리퍼가 FAILED 처리한 모델은 다시 요청하지 않습니다.
+        Boolean published = transactionTemplate.execute(status -> {
+            Model3D model3D = model3DRepository.findById(model3dId)
+                    .orElseThrow(() -> new IllegalArgumentException("3D 모델 " + model3dId + "을 찾을 수 없습니다."));
+
+            int updated = model3DRepository.markUploadedIfUploading(model3dId, imageUrls.thumbnailUrl(),
+                    imageUrls.trainingImageUrl(), serializeImageUrls(List.of(imageUrls.trainingImageUrl())));
+            if (updated == 0) {
+                return false;
+            }
+
+            // RabbitMQ로 메시지 전송 (학습용 1024x1024 이미지 URL 사용)
+            model3DProducer.sendModel3DUploadMessage(imageUrls.trainingImageUrl(), memberId, model3dId,
+                    model3D.getFurnitureType(), model3D.getIsShared(), Model3DUploadPriority.INTERACTIVE);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(published)) {
+            log.warn("⚠️ 업로드 완료 전에 상태가 바뀐 모델이라 생성 요청을 보내지 않습니다: model3dId={}", model3dId);
+            return;
+        }
+
+        log.info("✅ 업로드 파이프라인 완료: model3dId={}, thumbnailUrl={}", model3dId, imageUrls.thumbnailUrl());
+        webSocketNotificationService.sendModel3DUploadProgressNotification(
+                memberId, model3dId, "PROCESSING", "3D 모델 생성을 요청했습니다.", imageUrls.thumbnailUrl());
+    }
+
+    /**
+     * 스풀 단계 이후 실패한 작업을 FAILED로 기록하고 알립니다. (파이프라인 진입 실패 시에도 사용)
+     * 아직 UPLOADING인 모델만 바꾸고, 실제로 바꾼 경우에만 FAILED를 알립니다.
+     */
+    public void fail(Long model3dId, Long memberId, Throwable cause) {
+        log.error("❌ 업로드 파이프라인 실패: model3dId={}, error={}", model3dId, cause.getMessage(), cause);
+
+        Integer updated;
+        try {
+            updated = transactionTemplate.execute(status ->
+                    model3DRepository.markFailedIfUploading(model3dId, "이미지 업로드 실패: " + cause.getMessage()));
+        } catch (Exception e) {
+            log.error("❌ 업로드 실패 상태 저장 실패: model3dId={}, error={}", model3dId, e.getMessage(), e);
+            return;
+        }
+        if (updated == null || updated == 0) {
+            log.warn("⚠️ 이미 상태가 바뀐 모델이라 업로드 실패로 기록하지 않습니다: model3dId={}", model3dId);
+            return;
+        }
+
+        webSocketNotificationService.sendModel3DUploadProgressNotification(
+                memberId, model3dId, "FAILED", "이미지 업로드에 실패했습니다. 다시 시도해주세요.", null);
+    }
+
+    private String serializeImageUrls(List<String> imageUrls) {
+        try {
+            return objectMapper.writeValueAsString(imageUrls);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("학습 이미지 URL 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+}
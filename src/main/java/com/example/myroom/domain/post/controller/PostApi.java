@@ -19,6 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.example.myroom.domain.post.dto.response.PostResponseDto;
 import com.example.myroom.domain.post.model.Category;
 import com.example.myroom.domain.post.model.VisibilityScope;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
 import com.example.myroom.global.jwt.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -249,6 +250,43 @@ public interface PostApi {
             @AuthenticationPrincipal CustomUserDetails member
     );
 
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "공개 게시글 목록 조회 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CursorSliceResponseDto.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 커서",
+                content = @Content(schema = @Schema(hidden = true))
+            )
+        }
+    )
+    @Operation(
+        summary = "공개 게시글 목록 조회 (커서 페이지네이션)",
+        description = """
+            공개된 게시글 목록을 최신순으로 조회합니다. 무한 스크롤용으로 전체 개수를 세지 않아 깊은 페이지도 빠르게 조회됩니다.
+            
+            - 첫 요청은 `cursor` 없이 호출하고, 이후에는 응답의 `next_cursor`를 그대로 전달합니다.
+            - `has_next`가 false이면 마지막 페이지입니다.
+            """,
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @GetMapping("/public/cursor")
+    ResponseEntity<CursorSliceResponseDto<PostResponseDto>> getPublicPostsByCursor(
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지는 생략)")
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(required = false, name = "size") Integer size,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    );
+
     @ApiResponses(
         value = {
             @ApiResponse(
@@ -277,6 +315,41 @@ public interface PostApi {
             @AuthenticationPrincipal CustomUserDetails member
     );
 
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "카테고리별 게시글 목록 조회 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CursorSliceResponseDto.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 커서",
+                content = @Content(schema = @Schema(hidden = true))
+            )
+        }
+    )
+    @Operation(
+        summary = "카테고리별 게시글 목록 조회 (커서 페이지네이션)",
+        description = "특정 카테고리의 공개 게시글 목록을 최신순으로 조회합니다. 첫 요청은 cursor 없이, 이후에는 응답의 next_cursor를 전달합니다.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @GetMapping("/category/{category}/cursor")
+    ResponseEntity<CursorSliceResponseDto<PostResponseDto>> getPostsByCategoryByCursor(
+            @Parameter(description = "카테고리 (FURNITURE, INTERIOR, QUESTION, REVIEW, ETC)", 
+                      required = true, example = "QUESTION")
+            @PathVariable(name = "category") Category category,
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지는 생략)")
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(required = false, name = "size") Integer size,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    );
+
     @ApiResponses(
         value = {
             @ApiResponse(
@@ -26,6 +26,7 @@ import com.example.myroom.domain.post.dto.response.PostResponseDto;
 import com.example.myroom.domain.post.model.Category;
 import com.example.myroom.domain.post.model.VisibilityScope;
 import com.example.myroom.domain.post.service.PostService;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
 import com.example.myroom.global.jwt.CustomUserDetails;
 
 import lombok.RequiredArgsConstructor;
@@ -96,6 +97,15 @@ public class PostController implements PostApi {
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping("/public/cursor")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    public ResponseEntity<CursorSliceResponseDto<PostResponseDto>> getPublicPostsByCursor(
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(required = false, name = "size") Integer size,
+            @AuthenticationPrincipal CustomUserDetails member) {
+        return ResponseEntity.ok(postService.getPublicPostsByCursor(cursor, size));
+    }
+
     @GetMapping("/category/{category}")
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     public ResponseEntity<Page<PostResponseDto>> getPostsByCategory(
@@ -106,6 +116,16 @@ public class PostController implements PostApi {
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping("/category/{category}/cursor")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    public ResponseEntity<CursorSliceResponseDto<PostResponseDto>> getPostsByCategoryByCursor(
+            @PathVariable(value = "category") Category category,
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(required = false, name = "size") Integer size,
+            @AuthenticationPrincipal CustomUserDetails member) {
+        return ResponseEntity.ok(postService.getPostsByCategoryByCursor(category, cursor, size));
+    }
+
     @GetMapping("/my")
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     public ResponseEntity<Page<PostResponseDto>> getMyPosts(
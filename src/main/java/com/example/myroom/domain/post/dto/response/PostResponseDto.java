@@ -127,7 +127,15 @@ public record PostResponseDto(
         )
         LocalDateTime updatedAt
 ) {
-    public static PostResponseDto from(Post post, long likeCount, long commentCount) {
+    public static PostResponseDto from(Post post) {
+        return from(post, post.getViewCount() != null ? post.getViewCount() : 0L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 더한 값을 지정합니다. (PostViewCountBuffer)
+     * 좋아요/댓글 수는 게시글의 비정규화 컬럼 값을 사용합니다.
+     */
+    public static PostResponseDto from(Post post, long viewCount) {
         List<String> imageUrls = post.getImageUrls();
         if ((imageUrls == null || imageUrls.isEmpty()) && post.getImageUrl() != null) {
             imageUrls = List.of(post.getImageUrl());
@@ -145,9 +153,9 @@ public record PostResponseDto(
                 post.getContent(),
                 post.getCategory(),
                 post.getVisibilityScope(),
-                post.getViewCount() != null ? post.getViewCount() : 0L,
-                likeCount,
-                commentCount,
+                viewCount,
+                post.getLikeCount() != null ? post.getLikeCount() : 0L,
+                post.getCommentCount() != null ? post.getCommentCount() : 0L,
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
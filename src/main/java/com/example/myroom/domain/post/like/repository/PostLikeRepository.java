@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,9 +19,6 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     @Query("SELECT COUNT(pl) FROM PostLike pl WHERE pl.post.id = :postId")
     long countByPostId(@Param("postId") Long postId);
 
-    @Query("SELECT pl.post.id, COUNT(pl) FROM PostLike pl WHERE pl.post.id IN :postIds GROUP BY pl.post.id")
-    List<Object[]> countByPostIds(@Param("postIds") List<Long> postIds);
-
     // 특정 사용자가 특정 게시글에 좋아요를 눌렀는지 확인
     @Query("SELECT pl FROM PostLike pl WHERE pl.post.id = :postId AND pl.member.id = :memberId")
     Optional<PostLike> findByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
@@ -40,4 +38,8 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     void deleteByPostIdIn(List<Long> postIds);
 
     void deleteByMemberId(Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id IN :postIds")
+    int bulkDeleteByPostIdIn(@Param("postIds") List<Long> postIds);
 }
@@ -42,9 +42,10 @@ public class PostLikeService {
                 .build();
 
         postLikeRepository.save(postLike);
+        postRepository.addLikeCount(postId, 1);
         log.info("좋아요 등록 - 게시글 ID: {}, 회원 ID: {}", postId, memberId);
 
-        long likeCount = postLikeRepository.countByPostId(postId);
+        long likeCount = postRepository.findLikeCountById(postId);
         return PostLikeResponseDto.of(postId, likeCount, true);
     }
 
@@ -60,9 +61,10 @@ public class PostLikeService {
                 .orElseThrow(() -> new IllegalStateException("좋아요를 누르지 않은 게시글입니다."));
 
         postLikeRepository.delete(postLike);
+        postRepository.addLikeCount(postId, -1);
         log.info("좋아요 취소 - 게시글 ID: {}, 회원 ID: {}", postId, memberId);
 
-        long likeCount = postLikeRepository.countByPostId(postId);
+        long likeCount = postRepository.findLikeCountById(postId);
         return PostLikeResponseDto.of(postId, likeCount, false);
     }
 
@@ -6,30 +6,40 @@ import java.util.List;
 
 import com.example.myroom.domain.member.model.Member;
 import com.example.myroom.domain.model3D.model.Model3D;
+import com.example.myroom.domain.post.service.PostSearchIndexListener;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OrderColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(PostSearchIndexListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 공개 피드 커서 페이지네이션 (createdAt DESC, id DESC)
+@Table(indexes = {
+    @Index(name = "idx_post_scope_created_at", columnList = "visibility_scope, created_at, id"),
+    @Index(name = "idx_post_scope_category_created_at", columnList = "visibility_scope, category, created_at, id")
+})
 public class Post {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -52,7 +62,18 @@ public class Post {
     @Enumerated(EnumType.STRING)
     private VisibilityScope visibilityScope = VisibilityScope.PUBLIC;
 
-    private Long viewCount = 0L;  // 조회수 (기본값 0)
+    // 조회수 (기본값 0) - PostViewCountBuffer가 view_count = view_count + ? 로만 갱신합니다.
+    // 엔티티 수정 시 읽어둔 값으로 덮어써 누적분이 사라지지 않도록 UPDATE 대상에서 제외합니다.
+    @Column(updatable = false)
+    private Long viewCount = 0L;
+
+    // 좋아요/댓글 수 - 좋아요/댓글 생성·삭제 시 PostRepository의 원자적 UPDATE(±1)로만 갱신하고,
+    // 어긋난 값은 PostCounterReconciler가 주기적으로 실제 행 수로 맞춥니다.
+    @Column(nullable = false, updatable = false)
+    private Long likeCount = 0L;
+
+    @Column(nullable = false, updatable = false)
+    private Long commentCount = 0L;
 
     private String imageUrl;  // 게시글 이미지 (nullable)
 
@@ -84,6 +105,12 @@ public class Post {
         if (viewCount == null) {
             viewCount = 0L;
         }
+        if (likeCount == null) {
+            likeCount = 0L;
+        }
+        if (commentCount == null) {
+            commentCount = 0L;
+        }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
@@ -117,8 +144,4 @@ public class Post {
             this.imageUrl = imageUrl;
         }
     }
-
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.example.myroom.domain.post.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,7 +15,7 @@ import com.example.myroom.domain.post.model.Category;
 import com.example.myroom.domain.post.model.Post;
 import com.example.myroom.domain.post.model.VisibilityScope;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostViewCountRepository {
     
     // 내 게시글 조회 (모든 공개범위)
     Page<Post> findByMemberId(Long memberId, Pageable pageable);
@@ -23,12 +26,43 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query("SELECT p.id FROM Post p WHERE p.model3D.id = :model3dId")
     List<Long> findIdsByModel3DId(@Param("model3dId") Long model3dId);
+
+    @Query("SELECT p.id FROM Post p WHERE p.model3D.id IN :model3dIds")
+    List<Long> findIdsByModel3DIdIn(@Param("model3dIds") List<Long> model3dIds);
+
+    // 일괄 DELETE는 @ElementCollection을 정리하지 않으므로 게시글 이미지 목록을 먼저 삭제합니다.
+    @Modifying
+    @Query(value = "DELETE FROM post_images WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteImageUrlsByPostIdIn(@Param("postIds") List<Long> postIds);
     
     // 공개 게시글만 조회 
     Page<Post> findByVisibilityScope(VisibilityScope visibilityScope, Pageable pageable);
     
     // 카테고리별 공개 게시글 조회
     Page<Post> findByVisibilityScopeAndCategory(VisibilityScope visibilityScope, Category category, Pageable pageable);
+
+    // 커서 페이지네이션 - (createdAt, id) 보다 뒤의 게시글을 최신순으로 조회합니다. (COUNT 없음, idx_post_scope_created_at)
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.visibilityScope = :scope
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    Slice<Post> findSliceByVisibilityScope(@Param("scope") VisibilityScope scope,
+                                           @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                           Pageable pageable);
+
+    // idx_post_scope_category_created_at
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.visibilityScope = :scope AND p.category = :category
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    Slice<Post> findSliceByVisibilityScopeAndCategory(@Param("scope") VisibilityScope scope,
+                                                      @Param("category") Category category,
+                                                      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                      Pageable pageable);
     
     // 제목 검색 (공개 게시글)
     Page<Post> findByVisibilityScopeAndTitleContaining(VisibilityScope visibilityScope, String title, Pageable pageable);
@@ -40,7 +74,72 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByVisibilityScopeAndCategoryAndTitleContaining(
         VisibilityScope visibilityScope, Category category, String title, Pageable pageable);
 
+    // 검색 색인 재구축용 - 공개 게시글의 id, 제목, 카테고리를 id 순서로 나눠 읽습니다.
+    @Query("""
+            SELECT p.id, p.title, p.category FROM Post p
+            WHERE p.visibilityScope = :scope AND p.id > :afterId
+            ORDER BY p.id
+            """)
+    List<Object[]> findSearchDocumentsAfter(@Param("scope") VisibilityScope scope, @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
     void deleteByMemberId(Long memberId);
 
     void deleteByModel3DId(Long model3dId);
+
+    // 좋아요/댓글 수 원자적 갱신 - 행 전체를 읽고 쓰지 않고 컬럼만 ±delta 합니다. (영속성 컨텍스트의 Post 값은 갱신되지 않음)
+    // 보정 전 어긋난 값에서 차감해도 음수가 되지 않도록 0 아래로는 내리지 않습니다.
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = GREATEST(p.likeCount + :delta, 0) WHERE p.id = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = GREATEST(p.commentCount + :delta, 0) WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    long findLikeCountById(@Param("postId") Long postId);
+
+    // 회원 탈퇴 시 다른 회원 게시글에 남긴 좋아요/댓글 수만큼 게시글별로 한 번에 차감합니다. (삭제 전에 호출)
+    @Modifying
+    @Query(value = """
+            UPDATE post p
+            JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_like WHERE member_id = :memberId GROUP BY post_id) pl
+              ON pl.post_id = p.id
+            SET p.like_count = GREATEST(p.like_count - pl.cnt, 0)
+            """, nativeQuery = true)
+    int subtractLikeCountsByMemberId(@Param("memberId") Long memberId);
+
+    // 회원의 댓글에 달린 다른 회원의 대댓글도 ON DELETE CASCADE로 함께 삭제되므로 같이 셉니다. (중복 없이)
+    @Modifying
+    @Query(value = """
+            UPDATE post p
+            JOIN (
+                WITH RECURSIVE removed (id, post_id) AS (
+                    SELECT id, post_id FROM comment WHERE member_id = :memberId
+                    UNION
+                    SELECT r.id, r.post_id FROM comment r JOIN removed d ON r.parent_comment_id = d.id
+                )
+                SELECT post_id, COUNT(*) AS cnt FROM removed GROUP BY post_id
+            ) c ON c.post_id = p.id
+            SET p.comment_count = GREATEST(p.comment_count - c.cnt, 0)
+            """, nativeQuery = true)
+    int subtractCommentCountsByMemberId(@Param("memberId") Long memberId);
+
+    // 좋아요/댓글 수 보정 (PostCounterReconciler) - id 범위별로 실제 행 수와 다른 게시글만 갱신합니다.
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Long findMaxId();
+
+    @Modifying
+    @Query(value = """
+            UPDATE post p
+            LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_like
+                       WHERE post_id BETWEEN :fromId AND :toId GROUP BY post_id) pl ON pl.post_id = p.id
+            LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM comment
+                       WHERE post_id BETWEEN :fromId AND :toId GROUP BY post_id) c ON c.post_id = p.id
+            SET p.like_count = COALESCE(pl.cnt, 0), p.comment_count = COALESCE(c.cnt, 0)
+            WHERE p.id BETWEEN :fromId AND :toId
+              AND (p.like_count <> COALESCE(pl.cnt, 0) OR p.comment_count <> COALESCE(c.cnt, 0))
+            """, nativeQuery = true)
+    int reconcileCountersBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
\ No newline at end of file
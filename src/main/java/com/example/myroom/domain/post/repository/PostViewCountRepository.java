@@ -0,0 +1,16 @@
+package com.example.myroom.domain.post.repository;
+
+import java.util.Map;
+
+/**
+ * 조회수 일괄 반영 (PostRepository 확장)
+ */
+public interface PostViewCountRepository {
+
+    /**
+     * 게시글별 조회수 증가분을 JDBC 배치 UPDATE 한 번으로 반영합니다.
+     *
+     * @param increments postId → 증가분
+     */
+    void incrementViewCounts(Map<Long, Long> increments);
+}
@@ -0,0 +1,28 @@
+package com.example.myroom.domain.post.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PostViewCountRepositoryImpl implements PostViewCountRepository {
+    // 행 전체를 dirty checking 하지 않고 조회수 컬럼만 더합니다. (기존 행의 NULL은 0으로 취급)
+    private static final String INCREMENT_VIEW_COUNT_SQL =
+            "UPDATE post SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void incrementViewCounts(Map<Long, Long> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = increments.entrySet().stream()
+                .map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, batchArgs);
+    }
+}
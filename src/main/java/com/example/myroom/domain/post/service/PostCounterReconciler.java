@@ -0,0 +1,71 @@
+package com.example.myroom.domain.post.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.post.repository.PostRepository;
+import com.example.myroom.global.scheduling.SchedulerLeaseLock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 좋아요/댓글 수 보정
+ * - 좋아요/댓글 수는 ±1 UPDATE로 갱신되므로, 일괄 삭제 경로나 장애로 실제 행 수와 어긋날 수 있습니다.
+ * - post.counter.reconcile-cron 주기로 게시글 id 범위(post.counter.reconcile-chunk-size)마다 실제 행 수를 집계해
+ *   값이 다른 게시글만 고칩니다. 범위마다 트랜잭션을 나눠 긴 잠금을 피합니다.
+ * - 여러 서버에서 동시에 실행되지 않도록 DB 리스를 잡고 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterReconciler {
+    private static final String LEASE_NAME = "post-counter-reconciler";
+
+    private final PostRepository postRepository;
+    private final SchedulerLeaseLock schedulerLeaseLock;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.counter.reconcile-chunk-size:1000}")
+    private long chunkSize;
+
+    @Value("${post.counter.reconcile-lease-seconds:1800}")
+    private long leaseSeconds;
+
+    @Scheduled(cron = "${post.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            schedulerLeaseLock.runExclusively(LEASE_NAME, Duration.ofSeconds(leaseSeconds), this::reconcileAll);
+        } catch (RuntimeException e) {
+            log.error("❌ 게시글 좋아요/댓글 수 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void reconcileAll() {
+        Long maxId = postRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        long repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long from = fromId;
+            long to = fromId + chunkSize - 1;
+            Integer updated = transactionTemplate.execute(status -> postRepository.reconcileCountersBetween(from, to));
+            repaired += updated != null ? updated : 0;
+        }
+
+        meterRegistry.counter("post.counter.reconciled").increment(repaired);
+        if (repaired > 0) {
+            log.warn("🔧 게시글 좋아요/댓글 수 보정: {}건", repaired);
+        } else {
+            log.info("✅ 게시글 좋아요/댓글 수 보정 대상 없음: maxId={}", maxId);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.myroom.domain.post.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.domain.post.model.Category;
+import com.example.myroom.domain.post.model.Post;
+import com.example.myroom.domain.post.model.VisibilityScope;
+import com.example.myroom.domain.post.repository.PostRepository;
+import com.example.myroom.global.search.InMemorySearchIndex;
+import com.example.myroom.global.search.NgramIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개 게시글 제목 검색 색인
+ * - 공개(PUBLIC) 게시글만 색인하며, 게시글 카테고리를 태그로 둡니다.
+ * - 게시글 저장/삭제는 PostSearchIndexListener가 커밋 이후 반영하고,
+ *   search.index.rebuild-interval-ms 주기로 전체를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex extends InMemorySearchIndex {
+    private final PostRepository postRepository;
+
+    @Value("${search.index.load-page-size:5000}")
+    private int loadPageSize;
+
+    @Scheduled(initialDelayString = "${search.index.initial-delay-ms:0}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("❌ 게시글 검색 색인 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public void onSaved(Post post) {
+        if (post.getVisibilityScope() == VisibilityScope.PUBLIC) {
+            putAfterCommit(post.getId(), tagOf(post.getCategory()), post.getTitle());
+        } else {
+            removeAfterCommit(post.getId());
+        }
+    }
+
+    /**
+     * DB에서 다시 읽은 게시글이 여전히 검색 조건에 맞는지 확인합니다.
+     */
+    public boolean stillMatches(Post post, String title, Category category) {
+        return post.getVisibilityScope() == VisibilityScope.PUBLIC
+                && (category == null || category == post.getCategory())
+                && NgramIndex.matches(title, post.getTitle());
+    }
+
+    public static String tagOf(Category category) {
+        return category != null ? category.name() : null;
+    }
+
+    @Override
+    protected void loadAll(NgramIndex target) {
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = postRepository.findSearchDocumentsAfter(VisibilityScope.PUBLIC, afterId,
+                    PageRequest.ofSize(loadPageSize));
+            for (Object[] row : rows) {
+                target.put((Long) row[0], tagOf((Category) row[2]), (String) row[1]);
+            }
+            if (rows.size() < loadPageSize) {
+                return;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    @Override
+    protected String indexName() {
+        return "post";
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.myroom.domain.post.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.domain.post.model.Post;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Post 엔티티 변경을 검색 색인에 전달하는 JPA 엔티티 리스너 (Model3DSearchIndexListener와 같은 방식)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexListener {
+    private final ObjectProvider<PostSearchIndex> postSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Post post) {
+        postSearchIndex.getObject().onSaved(post);
+    }
+
+    @PostRemove
+    public void onRemoved(Post post) {
+        postSearchIndex.getObject().removeAfterCommit(post.getId());
+    }
+}
@@ -2,12 +2,11 @@ package com.example.myroom.domain.post.service;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,6 +25,9 @@ import com.example.myroom.domain.post.model.Category;
 import com.example.myroom.domain.post.model.Post;
 import com.example.myroom.domain.post.model.VisibilityScope;
 import com.example.myroom.domain.post.repository.PostRepository;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
+import com.example.myroom.global.search.InMemorySearchIndex;
+import com.example.myroom.global.util.CursorCodec;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +44,8 @@ public class PostService {
     private final PostLikeRepository postLikeRepository;
     private final CommentRepository commentRepository;
     private final S3ImageUploadService s3ImageUploadService;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final PostSearchIndex postSearchIndex;
 
     @Transactional
     public PostResponseDto createPost(PostCreateRequestDto requestDto, Long memberId, List<MultipartFile> imageFiles) {
@@ -77,10 +81,10 @@ public class PostService {
                 .save(post);
         log.info("게시글이 생성되었습니다. ID: {}, 제목: {}", savedPost.getId(), savedPost.getTitle());
 
-        return PostResponseDto.from(savedPost, 0L, 0L);
+        return PostResponseDto.from(savedPost);
     }
 
-    @Transactional
+    // 조회수는 PostViewCountBuffer가 모아서 반영하므로 조회 경로는 읽기 전용 트랜잭션으로 동작합니다.
     public PostResponseDto getPostById(Long postId, Long memberId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글 " + postId + "를 찾을 수 없습니다."));
@@ -90,11 +94,9 @@ public class PostService {
             throw new IllegalArgumentException("비공개 게시글에 접근할 권한이 없습니다.");
         }
 
-        post.incrementViewCount(); // 조회수 증가
-        postRepository.save(post); // 변경된 조회수 저장
-        long likeCount = postLikeRepository.countByPostId(postId);
-        long commentCount = commentRepository.countByPostId(postId);
-        return PostResponseDto.from(post, likeCount, commentCount);
+        postViewCountBuffer.increment(postId); // 조회수 증가 (쓰기 지연)
+        long viewCount = (post.getViewCount() != null ? post.getViewCount() : 0L) + postViewCountBuffer.pendingCount(postId);
+        return PostResponseDto.from(post, viewCount);
     }
 
     @Transactional
@@ -131,9 +133,7 @@ public class PostService {
         Post updatedPost = postRepository.save(post);
         log.info("게시글이 수정되었습니다. ID: {}, 제목: {}", updatedPost.getId(), updatedPost.getTitle());
 
-        long likeCount = postLikeRepository.countByPostId(postId);
-        long commentCount = commentRepository.countByPostId(postId);
-        return PostResponseDto.from(updatedPost, likeCount, commentCount);
+        return PostResponseDto.from(updatedPost);
     }
 
     @Transactional
@@ -162,6 +162,23 @@ public class PostService {
         return mapPostPageWithCounts(posts);
     }
 
+    /**
+     * 공개 게시글 커서 페이지네이션 - 오프셋/COUNT 없이 커서 다음부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
+     */
+    public CursorSliceResponseDto<PostResponseDto> getPublicPostsByCursor(String cursor, Integer size) {
+        CursorCodec.Cursor position = CursorCodec.decode(cursor);
+        Slice<Post> posts = postRepository.findSliceByVisibilityScope(
+                VisibilityScope.PUBLIC, position.createdAt(), position.id(), CursorCodec.pageOf(size));
+        return CursorSliceResponseDto.of(posts, PostResponseDto::from, Post::getCreatedAt, Post::getId);
+    }
+
+    public CursorSliceResponseDto<PostResponseDto> getPostsByCategoryByCursor(Category category, String cursor, Integer size) {
+        CursorCodec.Cursor position = CursorCodec.decode(cursor);
+        Slice<Post> posts = postRepository.findSliceByVisibilityScopeAndCategory(
+                VisibilityScope.PUBLIC, category, position.createdAt(), position.id(), CursorCodec.pageOf(size));
+        return CursorSliceResponseDto.of(posts, PostResponseDto::from, Post::getCreatedAt, Post::getId);
+    }
+
     public Page<PostResponseDto> getMyPosts(Long memberId, Pageable pageable) {
         Page<Post> posts = postRepository.findByMemberId(memberId, pageable);
         return mapPostPageWithCounts(posts);
@@ -179,56 +196,28 @@ public class PostService {
         if (isMyPost) {
             // 내 게시글 검색
             posts = postRepository.findByMemberIdAndTitleContaining(memberId, title, pageable);
+        } else if (title != null && !title.isBlank() && postSearchIndex.canSearch(pageable)) {
+            // 공개 게시글 검색 - 제목 색인으로 id를 찾고 해당 페이지만 읽습니다. (최신순)
+            posts = postSearchIndex.searchPage(title, PostSearchIndex.tagOf(category), pageable,
+                    postRepository::findAllById, Post::getId,
+                    post -> postSearchIndex.stillMatches(post, title, category));
         } else {
-            // 공개 게시글 검색
+            // 공개 게시글 검색 - 색인이 처리할 수 없는 요청 (정렬이 없으면 색인과 같은 최신순)
             if (category != null) {
                 posts = postRepository.findByVisibilityScopeAndCategoryAndTitleContaining(
-                        VisibilityScope.PUBLIC, category, title, pageable);
+                        VisibilityScope.PUBLIC, category, title, InMemorySearchIndex.latestFirst(pageable));
             } else {
                 posts = postRepository.findByVisibilityScopeAndTitleContaining(
-                        VisibilityScope.PUBLIC, title, pageable);
+                        VisibilityScope.PUBLIC, title, InMemorySearchIndex.latestFirst(pageable));
             }
         }
 
         return mapPostPageWithCounts(posts);
     }
 
+    // 좋아요/댓글 수는 게시글의 비정규화 컬럼을 사용하므로 페이지 조회 외에 집계 쿼리가 없습니다.
     private Page<PostResponseDto> mapPostPageWithCounts(Page<Post> posts) {
-        List<Long> postIds = posts.getContent().stream()
-                .map(Post::getId)
-                .toList();
-
-        Map<Long, Long> likeCountMap = getLikeCountMap(postIds);
-        Map<Long, Long> commentCountMap = getCommentCountMap(postIds);
-
-        return posts.map(post -> PostResponseDto.from(
-                post,
-                likeCountMap.getOrDefault(post.getId(), 0L),
-                commentCountMap.getOrDefault(post.getId(), 0L)));
-    }
-
-    private Map<Long, Long> getLikeCountMap(List<Long> postIds) {
-        Map<Long, Long> likeCountMap = new HashMap<>();
-        if (postIds.isEmpty()) {
-            return likeCountMap;
-        }
-
-        for (Object[] row : postLikeRepository.countByPostIds(postIds)) {
-            likeCountMap.put((Long) row[0], (Long) row[1]);
-        }
-        return likeCountMap;
-    }
-
-    private Map<Long, Long> getCommentCountMap(List<Long> postIds) {
-        Map<Long, Long> commentCountMap = new HashMap<>();
-        if (postIds.isEmpty()) {
-            return commentCountMap;
-        }
-
-        for (Object[] row : commentRepository.countByPostIds(postIds)) {
-            commentCountMap.put((Long) row[0], (Long) row[1]);
-        }
-        return commentCountMap;
+        return posts.map(PostResponseDto::from);
     }
 
     private boolean isOwner(Long modelCreatorId, Long memberId) {
@@ -0,0 +1,81 @@
+package com.example.myroom.domain.post.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.post.repository.PostRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 쓰기 지연 버퍼
+ * - 조회 시에는 postId별 LongAdder만 증가시키고(게시글 행 잠금 없음), post.view-count.flush-interval-ms마다
+ *   증가분이 있는 게시글을 view_count = view_count + ? 배치 UPDATE로 한 번에 반영합니다.
+ * - 조회수는 최대 한 주기만큼 늦게 반영됩니다. 응답에는 아직 반영되지 않은 증가분을 더해서 보여줍니다.
+ * - 증가와 빈 카운터 제거는 모두 ConcurrentHashMap.compute 안에서 하므로, 제거되는 카운터에 증가분이 더해져 유실되지 않습니다.
+ * - 버퍼는 메모리에만 있으므로 종료 시 남은 증가분을 반영합니다. (비정상 종료 시 마지막 주기의 조회수는 유실될 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        add(postId, 1L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> increments = new HashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                increments.put(postId, delta);
+            } else {
+                // 한 주기 동안 조회가 없던 게시글은 맵에서 제거합니다. (그 사이 증가했으면 남김)
+                pending.computeIfPresent(postId, (id, current) -> current.sum() == 0 ? null : current);
+            }
+        });
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> postRepository.incrementViewCounts(increments));
+            log.debug("조회수 반영: posts={}", increments.size());
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증가분은 다음 주기에 다시 시도합니다.
+            log.error("❌ 조회수 일괄 반영 실패: posts={}, error={}", increments.size(), e.getMessage(), e);
+            increments.forEach(this::add);
+        }
+    }
+
+    private void add(Long postId, long delta) {
+        pending.compute(postId, (id, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.example.myroom.domain.recommand.dto.response.RecommandHistoryResponseDto;
 import com.example.myroom.domain.recommand.dto.response.RecommandSimpleHistoryResponseDto;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
 import com.example.myroom.global.jwt.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -217,6 +218,43 @@ public interface RecommandApi {
             @PageableDefault(size = 10) Pageable pageable
     );
 
+    @ApiResponses(
+        value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "내 추천 이력 조회 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CursorSliceResponseDto.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 커서",
+                content = @Content(schema = @Schema(hidden = true))
+            ),
+            @ApiResponse(
+                responseCode = "401",
+                description = "인증되지 않음",
+                content = @Content(schema = @Schema(hidden = true))
+            )
+        }
+    )
+    @Operation(
+        summary = "내 추천 이력 조회 (커서 페이지네이션)",
+        description = "현재 로그인한 사용자의 추천 이력을 최신순으로 조회합니다. 첫 요청은 cursor 없이, 이후에는 응답의 next_cursor를 전달합니다.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @GetMapping("/my/cursor")
+    ResponseEntity<CursorSliceResponseDto<RecommandHistoryResponseDto>> getMyRecommandHistoriesByCursor(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member,
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지는 생략)")
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "10")
+            @RequestParam(required = false, name = "size") Integer size
+    );
+
     @ApiResponses(
         value = {
             @ApiResponse(
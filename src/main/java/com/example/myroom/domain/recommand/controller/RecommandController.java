@@ -19,6 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.example.myroom.domain.recommand.dto.response.RecommandHistoryResponseDto;
 import com.example.myroom.domain.recommand.dto.response.RecommandSimpleHistoryResponseDto;
 import com.example.myroom.domain.recommand.service.RecommandService;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
 import com.example.myroom.global.jwt.CustomUserDetails;
 
 import lombok.RequiredArgsConstructor;
@@ -115,6 +116,18 @@ public class RecommandController implements RecommandApi {
         );
     }
 
+    @GetMapping("/my/cursor")
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    public ResponseEntity<CursorSliceResponseDto<RecommandHistoryResponseDto>> getMyRecommandHistoriesByCursor(
+            @AuthenticationPrincipal CustomUserDetails member,
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(required = false, name = "size") Integer size) {
+
+        return ResponseEntity.ok(
+                recommandService.getMyRecommandHistoriesByCursor(member.getId(), cursor, size)
+        );
+    }
+
     @GetMapping("/{historyId}")
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     public ResponseEntity<RecommandHistoryResponseDto> getMyRecommandHistoryById(
@@ -1,14 +1,24 @@
 package com.example.myroom.domain.recommand.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
 
 import com.example.myroom.domain.recommand.dto.message.RecommandResponseMessage;
 import com.example.myroom.domain.recommand.service.RecommandService;
 import com.example.myroom.domain.socket.service.WebSocketNotificationService;
 import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.IdempotentMessageGuard;
+import com.example.myroom.global.messaging.ListenerRetryAdvice;
+import com.example.myroom.global.messaging.MessageFlow;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.example.myroom.global.messaging.MessageLatencyTracker.LatencySample;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +27,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 추천 결과 메시지 수신
  * - AI 추천 서버에서 보낸 분석 및 추천 결과 메시지를 소비(Consume)합니다.
+ * - 배치 리스너로 여러 메시지를 한 번에 받아, 처리 기록 선점과 이력 저장을 한 트랜잭션으로 묶습니다.
+ *   배치 저장이 실패하면 한 건씩 다시 처리하여, 실패한 메시지만 재시도 큐/파킹 큐로 보냅니다.
  */
 @Slf4j
 @Component
@@ -26,41 +38,124 @@ public class RecommandConsumer {
     private final RecommandService recommandService;
     private final WebSocketNotificationService webSocketNotificationService;
     private final ObjectMapper objectMapper;
+    private final IdempotentMessageGuard idempotentMessageGuard;
+    private final MessageLatencyTracker messageLatencyTracker;
+    private final MessageConverter messageConverter;
+    private final ListenerRetryAdvice listenerRetryAdvice;
     
     // MQLog 파일용 로거
     private static final Logger mqLogger = LoggerFactory.getLogger("com.example.myroom.rabbitmq.mq");
 
     /**
-     * 추천 결과 메시지 처리
+     * 추천 결과 메시지 일괄 처리
      * 
-     * @RabbitListener: 지정된 큐를 구독하여 메시지가 도착하면 자동으로 이 메서드를 실행합니다.
-     * - queues: 구독할 큐 이름 지정
-     * - Spring Boot가 자동으로 JSON 메시지를 RecommandResponseMessage 객체로 변환해줍니다.
+     * @RabbitListener: 지정된 큐를 구독하여 메시지가 모이면 목록으로 이 메서드를 실행합니다.
+     * - containerFactory: recommandResponseListenerFactory (배치 리스너, RabbitListenerConfig 참고)
+     * - 메시지 변환은 건별로 직접 하여, 변환에 실패한 메시지만 파킹 큐로 보냅니다.
      * 
-     * @param response AI 추천 서버로부터 받은 응답 메시지
+     * @param messages AI 추천 서버로부터 받은 응답 메시지 목록
+     */
+    @RabbitListener(queues = RabbitConfig.RECOMMAND_RESPONSE_QUEUE, containerFactory = "recommandResponseListenerFactory")
+    public void handleRecommandResponses(List<Message> messages) {
+        // 재전달된 응답은 추천 기록/알림을 중복 생성하지 않도록 건너뜁니다.
+        List<ReceivedResponse> received = new ArrayList<>();
+        for (Message message : idempotentMessageGuard.filterUnprocessed(messages)) {
+            RecommandResponseMessage response;
+            try {
+                // 배치 리스너는 파라미터 타입이 List<Message>라 컨테이너가 타입을 알려주지 않으므로 직접 지정합니다.
+                // (__TypeId__ 헤더 없이 보내는 AI 서버 응답도 Map이 아닌 응답 객체로 변환)
+                message.getMessageProperties().setInferredArgumentType(RecommandResponseMessage.class);
+                response = (RecommandResponseMessage) messageConverter.fromMessage(message);
+            } catch (RuntimeException e) {
+                listenerRetryAdvice.recover(message, e);
+                continue;
+            }
+            LatencySample latency = messageLatencyTracker.received(MessageFlow.RECOMMAND, response.getMemberId(), message,
+                    response.getTimestamp(), null);
+            logResponse(response);
+            received.add(new ReceivedResponse(message, response, latency));
+        }
+        if (received.isEmpty()) {
+            return;
+        }
+
+        List<ReceivedResponse> persistable = received.stream()
+                .filter(item -> isSuccess(item.response()) || isFailed(item.response()))
+                .toList();
+        received.stream()
+                .filter(item -> !persistable.contains(item))
+                .forEach(item -> log.warn("⚠️ 알 수 없는 상태: memberId={}, status={}",
+                        item.response().getMemberId(), item.response().getStatus()));
+
+        List<ReceivedResponse> completed = new ArrayList<>();
+        List<FailedResponse> failed = new ArrayList<>();
+        try {
+            // 처리 기록 선점과 이력 저장을 한 트랜잭션으로 묶어, 선점에 성공한 응답만 저장합니다.
+            List<Message> claimed = idempotentMessageGuard.runOnceAll(
+                    received.stream().map(ReceivedResponse::message).toList(),
+                    claimedMessages -> {
+                        List<ReceivedResponse> claimedResponses = received.stream()
+                                .filter(item -> claimedMessages.contains(item.message()))
+                                .toList();
+                        recommandService.saveRecommandResults(claimedResponses.stream()
+                                .filter(persistable::contains)
+                                .map(ReceivedResponse::response)
+                                .toList());
+                        claimedResponses.forEach(item -> complete(item, persistable.contains(item)));
+                    });
+            received.stream().filter(item -> claimed.contains(item.message())).forEach(completed::add);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 추천 결과 일괄 저장 실패 - 한 건씩 다시 처리합니다: count={}, error={}", received.size(), e.getMessage());
+            for (ReceivedResponse item : received) {
+                try {
+                    boolean executed = idempotentMessageGuard.runOnce(item.message(), () -> {
+                        if (persistable.contains(item)) {
+                            processRecommandResponse(item.response());
+                        }
+                        complete(item, persistable.contains(item));
+                    });
+                    if (executed) {
+                        completed.add(item);
+                    }
+                } catch (RuntimeException itemError) {
+                    failed.add(new FailedResponse(item.message(), itemError));
+                }
+            }
+        }
+
+        // 처리된 메시지는 이미 기록되었으므로 실패한 메시지만 재시도 큐/파킹 큐로 보냅니다.
+        failed.forEach(item -> listenerRetryAdvice.recover(item.message(), item.cause()));
+        log.info("✅ 추천 결과 배치 처리 완료: received={}, completed={}, failed={}", messages.size(), completed.size(), failed.size());
+    }
+
+    /**
+     * 알림과 지연 시간 기록은 처리 기록 트랜잭션이 커밋된 뒤에 실행됩니다. (롤백되면 보내지 않음)
      */
-    @RabbitListener(queues = RabbitConfig.RECOMMAND_RESPONSE_QUEUE)
-    public void handleRecommandResponse(RecommandResponseMessage response) {
-        log.info("========================================");
-        log.info("추천 결과 메시지 수신");
-        log.info("========================================");
-        log.info("회원 ID: {}", response.getMemberId());
-        log.info("처리 상태: {}", response.getStatus());
+    private void complete(ReceivedResponse item, boolean notify) {
+        if (notify) {
+            log.info("📤 WebSocket 알림 발송 - 회원 {}에게 전송 (status={})", item.response().getMemberId(), item.response().getStatus());
+            item.latency().deliver(() -> webSocketNotificationService.sendRecommandNotification(item.response()));
+        }
+        item.latency().finish();
+    }
+
+    private void logResponse(RecommandResponseMessage response) {
+        log.info("추천 결과 메시지 수신: memberId={}, status={}, timestamp={}",
+                response.getMemberId(), response.getStatus(), response.getTimestamp());
         
         if (response.getRoomAnalysis() != null) {
-            log.info("방 스타일: {}", response.getRoomAnalysis().getStyle());
-            log.info("방 색상: {}", response.getRoomAnalysis().getColor());
-            log.info("감지된 가구 수: {}", response.getRoomAnalysis().getDetectedCount());
-            log.info("감지된 가구: {}", response.getRoomAnalysis().getDetectedFurniture());
+            log.info("방 스타일: {}, 방 색상: {}, 감지된 가구 수: {}, 감지된 가구: {}",
+                    response.getRoomAnalysis().getStyle(),
+                    response.getRoomAnalysis().getColor(),
+                    response.getRoomAnalysis().getDetectedCount(),
+                    response.getRoomAnalysis().getDetectedFurniture());
         }
         
         if (response.getRecommendation() != null) {
-            log.info("추천 카테고리: {}", response.getRecommendation().getTargetCategory());
-            log.info("추천 결과 수: {}", response.getRecommendation().getResultCount());
+            log.info("추천 카테고리: {}, 추천 결과 수: {}",
+                    response.getRecommendation().getTargetCategory(),
+                    response.getRecommendation().getResultCount());
         }
-        
-        log.info("수신 시각: {}", response.getTimestamp());
-        log.info("========================================");
 
         // MQLog 파일에 JSON 형식으로 저장
         try {
@@ -73,45 +168,38 @@ public class RecommandConsumer {
         } catch (Exception e) {
             log.warn("Failed to log message to MQLog: {}", e.getMessage());
         }
+    }
 
+    /**
+     * 배치 저장이 실패했을 때 한 건씩 처리합니다. (실패 응답의 저장 오류는 기존과 같이 알림을 막지 않습니다)
+     */
+    private void processRecommandResponse(RecommandResponseMessage response) {
         try {
-            // 처리 상태에 따라 분기 처리
-            if ("success".equalsIgnoreCase(response.getStatus())) {
-                // 성공: 추천 정보를 DB에 저장
-                log.info("✅ 추천 분석 성공 - DB 저장 시작");
+            if (isSuccess(response)) {
                 recommandService.saveRecommandResult(response);
-                log.info("✅ DB 저장 완료");
-                
-                // WebSocket으로 클라이언트에게 실시간 알림 전송
-                log.info("📤 WebSocket 알림 발송 시작 - 회원 {}에게 전송", response.getMemberId());
-                webSocketNotificationService.sendRecommandNotification(response);
-                log.info("✅ WebSocket 알림 발송 완료");
-                
-            } else if ("failed".equalsIgnoreCase(response.getStatus())) {
-                // 실패: 에러 로그 기록 및 알림 처리
+            } else {
                 log.error("❌ 추천 분석 실패 - 회원 ID: {}", response.getMemberId());
                 recommandService.handleRecommandFailure(response);
-                
-                // 실패 시에도 WebSocket으로 알림 전송
-                log.info("📤 WebSocket 실패 알림 발송 시작 - 회원 {}에게 전송", response.getMemberId());
-                webSocketNotificationService.sendRecommandNotification(response);
-                log.info("✅ WebSocket 실패 알림 발송 완료");
-                
-            } else {
-                // 기타 상태 (PROCESSING 등)
-                log.warn("⚠️ 알 수 없는 상태: {}", response.getStatus());
             }
-            
-        } catch (Exception e) {
-            // 메시지 처리 중 에러 발생 시 로그 기록
-            log.error("❌ 추천 결과 메시지 처리 중 오류 발생", e);
-            log.error("에러 메시지: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // 메시지 처리 중 에러 발생 시 로그 기록 후 다시 던집니다. (재시도 큐 → 파킹 큐)
+            log.error("❌ 추천 결과 메시지 처리 중 오류 발생: memberId={}, error={}", response.getMemberId(), e.getMessage());
             log.error("응답 데이터: {}", response);
-            
-            // 실제 운영 환경에서는:
-            // 1. Dead Letter Queue로 메시지 이동
-            // 2. 알림 서비스를 통해 관리자에게 알림
-            // 3. 재시도 로직 구현
+            throw e;
         }
     }
+
+    private boolean isSuccess(RecommandResponseMessage response) {
+        return "success".equalsIgnoreCase(response.getStatus());
+    }
+
+    private boolean isFailed(RecommandResponseMessage response) {
+        return "failed".equalsIgnoreCase(response.getStatus());
+    }
+
+    private record ReceivedResponse(Message message, RecommandResponseMessage response, LatencySample latency) {
+    }
+
+    private record FailedResponse(Message message, RuntimeException cause) {
+    }
 }
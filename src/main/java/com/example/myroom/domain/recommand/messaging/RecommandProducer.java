@@ -2,11 +2,13 @@ package com.example.myroom.domain.recommand.messaging;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 import com.example.myroom.domain.recommand.dto.message.RecommandRequestMessage;
 import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.MessageFlow;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.example.myroom.global.outbox.OutboxService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -15,14 +17,16 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 추천 요청 메시지 발송
  * - 이미지 URL을 메시지 큐에 발송합니다.
+ * - 3D 모델/방 요청과 같이 아웃박스에 적재하므로, 브로커 장애/nack/반송 시에도 요청이 유실되지 않고 재시도됩니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RecommandProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
     private final ObjectMapper objectMapper;
+    private final MessageLatencyTracker messageLatencyTracker;
     
     // MQLog 파일용 로거
     private static final Logger mqLogger = LoggerFactory.getLogger("com.example.myroom.rabbitmq.mq");
@@ -70,10 +74,13 @@ public class RecommandProducer {
             log.warn("Failed to log message to MQLog: {}", e.getMessage());
         }
 
-        rabbitTemplate.convertAndSend(
+        // 아웃박스 적재가 실패하면 예외가 호출 측으로 전파되어 요청 실패로 응답합니다.
+        outboxService.enqueue(
                 RabbitConfig.RECOMMAND_EXCHANGE,      // 어느 교환기(우체국)로 보낼지
                 RabbitConfig.RECOMMAND_ROUTING_KEY,   // 어떤 주소(라우팅 키)로 보낼지
-                message                                // 보낼 내용(메시지 객체)
-        );
+                message,                               // 보낼 내용(메시지 객체)
+                null,
+                // 추천 응답에는 요청 ID가 없으므로 AI 서버가 correlation ID를 돌려주지 않으면 회원 ID로 요청을 찾습니다.
+                messageLatencyTracker.begin(MessageFlow.RECOMMAND, memberId));
     }
 }
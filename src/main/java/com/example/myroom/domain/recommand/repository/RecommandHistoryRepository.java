@@ -1,10 +1,14 @@
 package com.example.myroom.domain.recommand.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.myroom.domain.recommand.model.RecommandHistory;
 
@@ -13,4 +17,15 @@ public interface RecommandHistoryRepository extends JpaRepository<RecommandHisto
     Optional<RecommandHistory> findByIdAndMemberId(Long id, Long memberId);
 
     void deleteByMemberId(Long memberId);
+
+    // 커서 페이지네이션 - (createdAt, id) 보다 뒤의 추천 이력을 최신순으로 조회합니다. (COUNT 없음, idx_recommand_history_member_created_at)
+    @Query("""
+            SELECT h FROM RecommandHistory h
+            WHERE h.member.id = :memberId
+              AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.id < :id))
+            ORDER BY h.createdAt DESC, h.id DESC
+            """)
+    Slice<RecommandHistory> findSliceByMemberId(@Param("memberId") Long memberId,
+                                                @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                Pageable pageable);
 }
@@ -1,5 +1,7 @@
 package com.example.myroom.domain.recommand.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,4 +13,8 @@ public interface RecommandResultRepository extends JpaRepository<RecommandResult
     @Modifying
     @Query(value = "DELETE FROM recommand_result_model3d WHERE model3d_id = :model3dId", nativeQuery = true)
     void deleteModel3DLinks(@Param("model3dId") Long model3dId);
+
+    @Modifying
+    @Query(value = "DELETE FROM recommand_result_model3d WHERE model3d_id IN (:model3dIds)", nativeQuery = true)
+    int deleteModel3DLinksIn(@Param("model3dIds") List<Long> model3dIds);
 }
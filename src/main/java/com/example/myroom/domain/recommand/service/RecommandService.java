@@ -1,11 +1,19 @@
 package com.example.myroom.domain.recommand.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -13,6 +21,7 @@ import com.example.myroom.domain.image.ImageUploadService;
 import com.example.myroom.domain.image.S3ImageUploadService;
 import com.example.myroom.domain.member.model.Member;
 import com.example.myroom.domain.member.repository.MemberRepository;
+import com.example.myroom.domain.model3D.model.Model3D;
 import com.example.myroom.domain.model3D.repository.Model3DRepository;
 import com.example.myroom.domain.recommand.dto.message.RecommandResponseMessage;
 import com.example.myroom.domain.recommand.dto.response.RecommandHistoryResponseDto;
@@ -24,6 +33,8 @@ import com.example.myroom.domain.recommand.model.RecommandRecommendation;
 import com.example.myroom.domain.recommand.model.RecommandResult;
 import com.example.myroom.domain.recommand.model.RecommandRoomAnalysis;
 import com.example.myroom.domain.recommand.repository.RecommandHistoryRepository;
+import com.example.myroom.global.dto.CursorSliceResponseDto;
+import com.example.myroom.global.util.CursorCodec;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -61,6 +72,8 @@ public class RecommandService {
      * @param memberId 요청한 회원 ID
      * @return 처리 상태 메시지
      */
+    // 클래스의 읽기 전용 트랜잭션 밖에서 실행합니다. (이미지 업로드 중 커넥션을 잡지 않고, 아웃박스 적재는 자체 트랜잭션으로 커밋)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String requestRecommandation(
             MultipartFile imageFile, 
             String category, 
@@ -140,6 +153,30 @@ public class RecommandService {
         }
     }
 
+    /**
+     * 추천 결과 일괄 저장 (배치 리스너용)
+     * - 참조하는 회원/3D 모델을 IN 조회 한 번씩으로 미리 읽고, 전체 객체 그래프를 한 트랜잭션에서 배치 INSERT 합니다.
+     * - 성공/실패 응답 모두 이력으로 남깁니다. 회원을 찾을 수 없는 응답이 있으면 예외를 던지며, 호출 측은 한 건씩 다시 처리합니다.
+     *
+     * @param responses 성공 또는 실패 상태의 추천 결과 응답 목록
+     */
+    @Transactional
+    public void saveRecommandResults(List<RecommandResponseMessage> responses) {
+        Map<Long, Member> members = findMembers(responses.stream().map(RecommandResponseMessage::getMemberId).toList());
+        Map<Long, Model3D> model3Ds = findRecommendedModel3Ds(responses);
+
+        List<RecommandHistory> histories = new ArrayList<>(responses.size());
+        for (RecommandResponseMessage response : responses) {
+            Member member = members.get(response.getMemberId());
+            if (member == null) {
+                throw new EntityNotFoundException("회원을 찾을 수 없습니다. id=" + response.getMemberId());
+            }
+            histories.add(buildRecommandHistory(response, member, model3Ds));
+        }
+        recommandHistoryRepository.saveAll(histories);
+        log.info("✅ 추천 결과 일괄 저장 완료: {}건, 회원 {}명, 3D 모델 {}개", histories.size(), members.size(), model3Ds.size());
+    }
+
     /**
      * 추천 처리 실패 처리
      * - 추천 처리 중 오류가 발생한 경우를 처리합니다.
@@ -181,6 +218,18 @@ public class RecommandService {
                 .map(RecommandHistoryResponseDto::from);
     }
 
+    /**
+     * 내 추천 이력 커서 페이지네이션 (최신순, COUNT 없음)
+     */
+    public CursorSliceResponseDto<RecommandHistoryResponseDto> getMyRecommandHistoriesByCursor(Long memberId, String cursor,
+                                                                                              Integer size) {
+        CursorCodec.Cursor position = CursorCodec.decode(cursor);
+        Slice<RecommandHistory> histories = recommandHistoryRepository.findSliceByMemberId(
+                memberId, position.createdAt(), position.id(), CursorCodec.pageOf(size));
+        return CursorSliceResponseDto.of(histories, RecommandHistoryResponseDto::from,
+                RecommandHistory::getCreatedAt, RecommandHistory::getId);
+    }
+
     public RecommandHistoryResponseDto getMyRecommandHistoryById(Long memberId, Long historyId) {
         RecommandHistory history = recommandHistoryRepository.findByIdAndMemberId(historyId, memberId)
                 .orElseThrow(() -> new EntityNotFoundException("추천 이력을 찾을 수 없습니다. id=" + historyId));
@@ -202,6 +251,37 @@ public class RecommandService {
         Member member = memberRepository.findById(response.getMemberId())
                 .orElseThrow(() -> new EntityNotFoundException("회원을 찾을 수 없습니다. id=" + response.getMemberId()));
 
+        recommandHistoryRepository.save(buildRecommandHistory(response, member, findRecommendedModel3Ds(List.of(response))));
+    }
+
+    private Map<Long, Member> findMembers(Collection<Long> memberIds) {
+        return memberRepository.findAllById(memberIds.stream().filter(Objects::nonNull).distinct().toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+    }
+
+    /**
+     * 추천 결과들이 참조하는 3D 모델을 IN 조회 한 번으로 읽습니다. (결과마다 findById 하지 않음)
+     */
+    private Map<Long, Model3D> findRecommendedModel3Ds(List<RecommandResponseMessage> responses) {
+        List<Long> model3dIds = responses.stream()
+                .map(RecommandResponseMessage::getRecommendation)
+                .filter(Objects::nonNull)
+                .map(RecommandResponseMessage.RecommendationData::getResults)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(RecommandResponseMessage.RecommendationResult::getModel3dId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (model3dIds.isEmpty()) {
+            return Map.of();
+        }
+        return model3DRepository.findAllById(model3dIds).stream()
+                .collect(Collectors.toMap(Model3D::getId, Function.identity()));
+    }
+
+    private RecommandHistory buildRecommandHistory(RecommandResponseMessage response, Member member,
+                                                   Map<Long, Model3D> model3Ds) {
         RecommandResponseMessage.RoomAnalysis roomAnalysis = response.getRoomAnalysis();
         RecommandResponseMessage.RecommendationData recommendation = response.getRecommendation();
 
@@ -258,9 +338,8 @@ public class RecommandService {
                             .metadataJson(toJson(result.getMetadata()))
                             .build();
 
-                    if (result.getModel3dId() != null) {
-                        model3DRepository.findById(result.getModel3dId())
-                                .ifPresent(recommandResult::addModel3D);
+                    if (result.getModel3dId() != null && model3Ds.containsKey(result.getModel3dId())) {
+                        recommandResult.addModel3D(model3Ds.get(result.getModel3dId()));
                     }
 
                     recommandRecommendation.addResult(recommandResult);
@@ -270,7 +349,7 @@ public class RecommandService {
             history.assignRecommendation(recommandRecommendation);
         }
 
-        recommandHistoryRepository.save(history);
+        return history;
     }
 
     private Double readBboxValue(List<List<Double>> bbox, int pointIndex, int axisIndex) {
@@ -2,6 +2,7 @@ package com.example.myroom.domain.room3D.messaging;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +11,10 @@ import com.example.myroom.domain.room3D.model.Room3D;
 import com.example.myroom.domain.room3D.service.Room3DService;
 import com.example.myroom.domain.socket.service.WebSocketNotificationService;
 import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.IdempotentMessageGuard;
+import com.example.myroom.global.messaging.MessageFlow;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.example.myroom.global.messaging.MessageLatencyTracker.LatencySample;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -23,11 +28,22 @@ public class Room3DConsumer {
     private final Room3DService room3DService;
     private final WebSocketNotificationService webSocketNotificationService;
     private final ObjectMapper objectMapper;
+    private final IdempotentMessageGuard idempotentMessageGuard;
+    private final MessageLatencyTracker messageLatencyTracker;
 
     private static final Logger mqLogger = LoggerFactory.getLogger("com.example.myroom.rabbitmq.mq");
 
-    @RabbitListener(queues = RabbitConfig.ROOM3D_RESPONSE_QUEUE)
-    public void handleRoom3DResponse(Room3DResponseMessage response) {
+    @RabbitListener(queues = RabbitConfig.ROOM3D_RESPONSE_QUEUE, containerFactory = "room3dResponseListenerFactory")
+    public void handleRoom3DResponse(Room3DResponseMessage response, Message message) {
+        LatencySample latency = messageLatencyTracker.received(MessageFlow.ROOM3D, response.getRoom3dId(), message,
+                response.getTimestamp(), null);
+        idempotentMessageGuard.runOnce(message, () -> {
+            processRoom3DResponse(response, latency);
+            latency.finish();
+        });
+    }
+
+    private void processRoom3DResponse(Room3DResponseMessage response, LatencySample latency) {
         log.info("Room3D 응답 메시지 수신: room3dId={}, memberId={}, status={}",
                 response.getRoom3dId(), response.getMemberId(), response.getStatus());
 
@@ -52,14 +68,15 @@ public class Room3DConsumer {
 
             log.info("Room3D 응답 처리 완료: room3dId={}", response.getRoom3dId());
 
-            webSocketNotificationService.sendRoom3DGenerationNotification(
+            latency.deliver(() -> webSocketNotificationService.sendRoom3DGenerationNotification(
                     response,
-                    updatedRoom3D.getDrawingImageUrl());
+                    updatedRoom3D.getDrawingImageUrl()));
             log.info("Room3D WebSocket 알림 전송 완료: room3dId={}, memberId={}",
                     response.getRoom3dId(), response.getMemberId());
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.error("Room3D 응답 처리 실패: room3dId={}, error={}",
-                    response.getRoom3dId(), e.getMessage(), e);
+                    response.getRoom3dId(), e.getMessage());
+            throw e;
         }
     }
 }
@@ -2,11 +2,13 @@ package com.example.myroom.domain.room3D.messaging;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 import com.example.myroom.domain.room3D.dto.message.Room3DRequestMessage;
 import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.MessageFlow;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.example.myroom.global.outbox.OutboxService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -17,8 +19,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class Room3DProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
     private final ObjectMapper objectMapper;
+    private final MessageLatencyTracker messageLatencyTracker;
 
     private static final Logger mqLogger = LoggerFactory.getLogger("com.example.myroom.rabbitmq.mq");
 
@@ -50,9 +53,11 @@ public class Room3DProducer {
             log.warn("Room3D MQ 로그 기록 실패: {}", e.getMessage());
         }
 
-        rabbitTemplate.convertAndSend(
+        outboxService.enqueue(
                 RabbitConfig.ROOM3D_EXCHANGE,
                 RabbitConfig.ROOM3D_ROUTING_KEY,
-                message);
+                message,
+                null,
+                messageLatencyTracker.begin(MessageFlow.ROOM3D, room3dId));
     }
 }
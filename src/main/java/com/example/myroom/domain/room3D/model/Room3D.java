@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "room3d")
+@Table(
+    name = "room3d",
+    // 생성 지연 작업 정리(Room3DGenerationReaper)가 success + created_at 범위로 조회합니다. (success가 null이면 생성 중)
+    indexes = @Index(name = "idx_room3d_success_created_at", columnList = "success, created_at")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Room3D {
@@ -48,6 +53,10 @@ public class Room3D {
 
     private Boolean success;
 
+    // 생성 시간 초과로 요청을 다시 보낸 횟수와 마지막으로 다시 보낸 시각
+    private int generationAttempts;
+    private LocalDateTime resubmittedAt;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -89,4 +98,9 @@ public class Room3D {
         this.success = success;
         this.drawingXmlUrl = drawingXmlUrl;
     }
+
+    public void markResubmitted() {
+        this.generationAttempts++;
+        this.resubmittedAt = LocalDateTime.now();
+    }
 }
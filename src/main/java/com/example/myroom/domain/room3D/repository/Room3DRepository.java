@@ -1,13 +1,20 @@
 package com.example.myroom.domain.room3D.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.myroom.domain.room3D.model.Room3D;
 
+import jakarta.persistence.LockModeType;
+
 public interface Room3DRepository extends JpaRepository<Room3D, Long> {
 
     Optional<Room3D> findByIdAndMemberId(Long id, Long memberId);
@@ -15,4 +22,19 @@ public interface Room3DRepository extends JpaRepository<Room3D, Long> {
     Page<Room3D> findByMemberId(Long memberId, Pageable pageable);
 
     void deleteByMemberId(Long memberId);
+
+    /**
+     * 생성 시간이 초과된(success가 아직 null인) 방을 id 순서로 한 페이지씩 조회합니다. (idx_room3d_success_created_at)
+     * 행 잠금(FOR UPDATE)으로 읽어, 처리 중에 응답 컨슈머가 저장한 생성 결과를 리퍼가 실패로 덮어쓰지 않게 합니다.
+     * (먼저 커밋된 결과가 있으면 success가 null이 아니므로 조회되지 않습니다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT r FROM Room3D r
+            WHERE r.success IS NULL AND r.createdAt < :cutoff
+              AND (r.resubmittedAt IS NULL OR r.resubmittedAt < :cutoff)
+              AND r.id > :afterId
+            ORDER BY r.id
+            """)
+    List<Room3D> findTimedOut(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,131 @@
+package com.example.myroom.domain.room3D.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.room3D.dto.message.Room3DResponseMessage;
+import com.example.myroom.domain.room3D.messaging.Room3DProducer;
+import com.example.myroom.domain.room3D.model.Room3D;
+import com.example.myroom.domain.room3D.repository.Room3DRepository;
+import com.example.myroom.domain.socket.service.WebSocketNotificationService;
+import com.example.myroom.global.scheduling.SchedulerLeaseLock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 생성이 끝나지 않은 3D 방 정리 (success가 null로 남아 있는 작업)
+ * - reaper.room3d.sla-minutes가 지나면 도면 이미지로 생성 요청을 다시 보내고,
+ *   reaper.max-attempts 번 다시 보낸 뒤에도 응답이 없으면 실패로 바꾸고 WebSocket으로 알립니다.
+ * - 페이지 단위 처리와 DB 리스는 Model3DGenerationReaper와 같은 방식입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Room3DGenerationReaper {
+    private static final String LEASE_NAME = "room3d-generation-reaper";
+
+    private final Room3DRepository room3DRepository;
+    private final Room3DProducer room3DProducer;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final SchedulerLeaseLock schedulerLeaseLock;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reaper.room3d.sla-minutes:15}")
+    private long slaMinutes;
+
+    @Value("${reaper.max-attempts:2}")
+    private int maxAttempts;
+
+    @Value("${reaper.page-size:100}")
+    private int pageSize;
+
+    @Value("${reaper.max-pages:20}")
+    private int maxPages;
+
+    @Value("${reaper.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${reaper.interval-ms:60000}", initialDelayString = "${reaper.initial-delay-ms:60000}")
+    public void reap() {
+        try {
+            schedulerLeaseLock.runExclusively(LEASE_NAME, Duration.ofSeconds(leaseSeconds),
+                    () -> reapTimedOut(LocalDateTime.now().minusMinutes(slaMinutes)));
+        } catch (RuntimeException e) {
+            log.error("❌ 3D 방 생성 지연 작업 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void reapTimedOut(LocalDateTime cutoff) {
+        long afterId = 0L;
+        for (int page = 0; page < maxPages; page++) {
+            long lastId = afterId;
+            ReapResult result = transactionTemplate.execute(tx -> reapPage(cutoff, lastId));
+            if (result == null || result.size() == 0) {
+                return;
+            }
+
+            // 실패 알림은 상태 변경이 커밋된 뒤에 보냅니다.
+            result.failed().forEach(this::notifyFailed);
+            if (result.size() < pageSize) {
+                return;
+            }
+            afterId = result.lastId();
+        }
+        log.warn("⚠️ 3D 방 생성 지연 작업이 한 번에 처리할 수 있는 양({}페이지)을 넘었습니다.", maxPages);
+    }
+
+    private ReapResult reapPage(LocalDateTime cutoff, long afterId) {
+        List<Room3D> timedOut = room3DRepository.findTimedOut(cutoff, afterId, PageRequest.ofSize(pageSize));
+        List<FailedRoom> failed = new ArrayList<>();
+        for (Room3D room3D : timedOut) {
+            if (room3D.getGenerationAttempts() < maxAttempts && room3D.getDrawingImageUrl() != null) {
+                resubmit(room3D);
+                continue;
+            }
+            room3D.updateAiResult(false, null);
+            failed.add(new FailedRoom(room3D.getId(), room3D.getMember().getId(), room3D.getDrawingImageUrl(),
+                    room3D.getGenerationAttempts()));
+            meterRegistry.counter("generation.reaper.failed", "type", "room3d").increment();
+        }
+        long lastId = timedOut.isEmpty() ? afterId : timedOut.get(timedOut.size() - 1).getId();
+        return new ReapResult(timedOut.size(), lastId, failed);
+    }
+
+    private void resubmit(Room3D room3D) {
+        room3D.markResubmitted();
+        room3DProducer.sendRoom3DRequestMessage(room3D.getId(), room3D.getMember().getId(),
+                room3D.getDrawingImageUrl(), room3D.getRoomName(), room3D.getDescription());
+        meterRegistry.counter("generation.reaper.resubmitted", "type", "room3d").increment();
+        log.warn("♻️ 3D 방 생성 요청 재전송: room3dId={}, attempt={}", room3D.getId(), room3D.getGenerationAttempts());
+    }
+
+    private void notifyFailed(FailedRoom room) {
+        log.warn("⏱️ 3D 방 생성 시간 초과로 실패 처리: room3dId={}, memberId={}, attempts={}",
+                room.room3dId(), room.memberId(), room.attempts());
+        webSocketNotificationService.sendRoom3DGenerationNotification(Room3DResponseMessage.builder()
+                .room3dId(room.room3dId())
+                .memberId(room.memberId())
+                .status("FAILED")
+                .message("3D 방 생성 시간이 초과되었습니다. 다시 시도해주세요.")
+                .timestamp(System.currentTimeMillis())
+                .build(), room.drawingImageUrl());
+    }
+
+    // 트랜잭션이 끝난 뒤 지연 로딩 없이 알림을 보낼 수 있도록 필요한 값만 담습니다.
+    private record FailedRoom(Long room3dId, Long memberId, String drawingImageUrl, int attempts) {
+    }
+
+    private record ReapResult(int size, long lastId, List<FailedRoom> failed) {
+    }
+}
@@ -25,7 +25,8 @@ public class Model3DNotificationMessage {
         description = "알림 유형", 
         requiredMode = RequiredMode.REQUIRED,
         example = "MODEL_GENERATION_SUCCESS",
-        allowableValues = {"MODEL_GENERATION_SUCCESS", "MODEL_GENERATION_FAILED", "MODEL_GENERATION_PROGRESS"}
+        allowableValues = {"MODEL_GENERATION_SUCCESS", "MODEL_GENERATION_FAILED", "MODEL_GENERATION_PROGRESS",
+            "MODEL_UPLOAD_PROGRESS", "MODEL_UPLOAD_FAILED"}
     )
     private String notificationType;
     
@@ -38,6 +39,16 @@ public class Model3DNotificationMessage {
         example = "1"
     )
     private Long memberId;
+
+    /**
+     * 대상 3D 모델 ID (업로드 진행 알림 시)
+     */
+    @Schema(
+        description = "알림 대상 3D 모델의 고유 ID (업로드 진행 알림에서 제공)",
+        requiredMode = RequiredMode.NOT_REQUIRED,
+        example = "1"
+    )
+    private Long model3dId;
     
     /**
      * 원본 이미지 URL
@@ -76,7 +87,7 @@ public class Model3DNotificationMessage {
         description = "3D 모델 생성 상태", 
         requiredMode = RequiredMode.REQUIRED,
         example = "SUCCESS",
-        allowableValues = {"SUCCESS", "FAILED", "PROCESSING"}
+        allowableValues = {"SUCCESS", "FAILED", "PROCESSING", "UPLOADING"}
     )
     private String status;
     
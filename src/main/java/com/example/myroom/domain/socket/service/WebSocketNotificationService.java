@@ -132,6 +132,39 @@ public class WebSocketNotificationService {
                 .build();
     }
 
+    /**
+     * 비동기 업로드 파이프라인 진행 상황 알림 전송
+     * - 구독 경로: /topic/model3d/{memberId}
+     *
+     * @param memberId 대상 회원 ID
+     * @param model3dId 대상 3D 모델 ID
+     * @param status 현재 모델 상태 (UPLOADING, PROCESSING, FAILED)
+     * @param message 사용자에게 표시할 메시지
+     * @param thumbnailUrl 업로드된 썸네일 URL (업로드 완료 이후에만 존재)
+     */
+    public void sendModel3DUploadProgressNotification(Long memberId, Long model3dId, String status,
+                                                      String message, String thumbnailUrl) {
+        try {
+            Model3DNotificationMessage notification = Model3DNotificationMessage.builder()
+                    .notificationType("FAILED".equals(status) ? "MODEL_UPLOAD_FAILED" : "MODEL_UPLOAD_PROGRESS")
+                    .memberId(memberId)
+                    .model3dId(model3dId)
+                    .thumbnailUrl(thumbnailUrl)
+                    .status(status)
+                    .message(message)
+                    .timestamp(System.currentTimeMillis())
+                    .build();
+
+            String destination = "/topic/model3d/" + memberId;
+            messagingTemplate.convertAndSend(destination, notification);
+
+            log.info("✅ 업로드 진행 알림 전송: destination={}, model3dId={}, status={}", destination, model3dId, status);
+        } catch (Exception e) {
+            log.error("❌ 업로드 진행 알림 전송 실패: memberId={}, model3dId={}, error={}",
+                memberId, model3dId, e.getMessage(), e);
+        }
+    }
+
     /**
      * 특정 회원에게 Room3D 생성 완료 알림 전송
      *
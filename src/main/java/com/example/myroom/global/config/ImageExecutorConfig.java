@@ -0,0 +1,60 @@
+package com.example.myroom.global.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.example.myroom.global.util.ByteArrayOutputStreamPool;
+
+/**
+ * 이미지 처리 전용 Executor 설정
+ * - imageProcessingExecutor: 리사이즈/인코딩 (CPU 바운드) - 동시 실행 수를 작게 제한하여 힙 사용량을 묶어둡니다.
+ * - imageUploadExecutor: S3 PUT (I/O 바운드) - 네트워크 대기가 대부분이므로 더 많은 스레드를 허용합니다.
+ * - imageBufferPool: 인코딩 결과 버퍼 재사용
+ *
+ * Java 17 런타임이므로 가상 스레드 대신 크기가 고정된 플랫폼 스레드 풀을 사용합니다.
+ * 큐가 가득 차면 요청 스레드에서 실행하지 않고 거절하여, 재사용 캔버스가 Tomcat 스레드마다 생기지 않도록 합니다.
+ */
+@Configuration
+public class ImageExecutorConfig {
+
+    @Bean(name = "imageProcessingExecutor")
+    public Executor imageProcessingExecutor(
+            @Value("${image.processing.pool-size:2}") int poolSize,
+            @Value("${image.processing.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-cpu-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "imageUploadExecutor")
+    public Executor imageUploadExecutor(
+            @Value("${image.upload.pool-size:16}") int poolSize,
+            @Value("${image.upload.queue-capacity:128}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-io-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 인코딩 결과 버퍼 풀 - 인코딩(CPU 풀)과 업로드(I/O 풀) 사이에서 복사 없이 전달되고 업로드 후 반환됩니다.
+     */
+    @Bean
+    public ByteArrayOutputStreamPool imageBufferPool(
+            @Value("${image.buffer.pool-size:16}") int poolSize,
+            @Value("${image.buffer.initial-bytes:262144}") int initialBytes,
+            @Value("${image.buffer.max-retained-bytes:8388608}") int maxRetainedBytes) {
+        return new ByteArrayOutputStreamPool(poolSize, initialBytes, maxRetainedBytes);
+    }
+}
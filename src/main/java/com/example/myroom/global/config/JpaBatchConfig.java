@@ -0,0 +1,28 @@
+package com.example.myroom.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA 배치 INSERT 설정
+ * - hibernate.jdbc.batch_size: 같은 INSERT를 모아 한 번에 보냅니다. (IDENTITY 키 엔티티는 배치되지 않으므로 시퀀스 키와 함께 사용)
+ * - order_inserts/order_updates: 엔티티 종류별로 문장을 정렬해 배치가 끊기지 않게 합니다.
+ * - MySQL에서 실제로 다중 VALUES로 합쳐지려면 JDBC URL에 rewriteBatchedStatements=true 가 필요합니다.
+ *
+ * IDENTITY에서 시퀀스로 바꾼 테이블의 시퀀스 테이블 정렬은 리스너가 시작되기 전에 끝나도록
+ * Liquibase 변경 이력(db/changelog/changes/003-sequence-tables.yaml)으로 합니다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+        };
+    }
+}
@@ -1,17 +1,33 @@
 package com.example.myroom.global.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.amqp.autoconfigure.RabbitTemplateConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.context.annotation.Primary;
 import org.springframework.amqp.support.converter.MessageConverter;
 
+import com.example.myroom.global.messaging.ContentNegotiatingMessageConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Configuration
 public class RabbitConfig {
 
@@ -77,15 +93,152 @@ public class RabbitConfig {
     // Routing Key: Room3D 처리 결과 응답 메시지용 라우팅 키
     public static final String ROOM3D_RESPONSE_ROUTING_KEY = "room3d.response";
 
+    // ===== Dead Letter / 재시도 설정 =====
+    // Exchange: 컨슈머가 거절(reject)한 메시지를 큐별 파킹 큐로 보내는 DLX
+    public static final String DEAD_LETTER_EXCHANGE = "myroom.dlx";
+    // Exchange: 처리 실패 메시지를 단계별 재시도(지연) 큐로 보내는 교환기
+    public static final String RETRY_EXCHANGE = "myroom.retry";
+    // 파킹 큐 이름 접미사: 재시도를 모두 소진했거나 변환할 수 없는 메시지가 쌓이는 큐 ({queue}.parking-lot)
+    public static final String PARKING_LOT_SUFFIX = ".parking-lot";
+    // 재시도 큐 이름 접미사: {queue}.retry.{단계}
+    public static final String RETRY_QUEUE_SUFFIX = ".retry.";
+    // 헤더: 지금까지 재시도한 횟수
+    public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+
+    // 이 서버가 소비하는 큐 - 실패 시 단계별 재시도 후 파킹 큐로 이동합니다.
+    public static final List<String> RETRYABLE_QUEUES = List.of(
+            MODEL3D_RESPONSE_QUEUE,
+            MODEL3D_DIMENSIONS_RESPONSE_QUEUE,
+            RECOMMAND_RESPONSE_QUEUE,
+            ROOM3D_RESPONSE_QUEUE);
+
+    // AI 서버가 소비하는 요청 큐 - 거절된 메시지는 재시도 없이 파킹 큐로 이동합니다.
+    public static final List<String> REQUEST_QUEUES = List.of(
+            MODEL3D_QUEUE,
+            MODEL3D_DIMENSIONS_REQUEST_QUEUE,
+            MODEL3D_METADATA_UPDATE_QUEUE,
+            MODEL3D_DELETE_QUEUE,
+            RECOMMAND_QUEUE,
+            ROOM3D_QUEUE);
+
+    public static String parkingLotQueue(String queue) {
+        return queue + PARKING_LOT_SUFFIX;
+    }
+
+    public static String retryQueue(String queue, int tier) {
+        return queue + RETRY_QUEUE_SUFFIX + tier;
+    }
+
+    /**
+     * 큐는 인자 없이 선언합니다. AI 서버도 같은 요청 큐를 인자 없이 선언하므로, 인자가 다르면 나중에 선언하는 쪽이
+     * PRECONDITION_FAILED로 실패합니다. 컨슈머가 거절한 메시지를 {queue}.parking-lot 으로 보내는 DLX는
+     * 브로커 정책(scripts/rabbitmq-policies.sh, 배포 시 deploy.sh가 적용)으로 지정합니다.
+     */
+    private static Queue durableQueue(String name) {
+        return QueueBuilder.durable(name).build();
+    }
+
+    /**
+     * Dead Letter / 재시도 토폴로지
+     * - 파킹 큐: 모든 큐마다 {queue}.parking-lot (myroom.dlx, 라우팅 키 = 큐 이름)
+     * - 재시도 큐: 소비 큐마다 {queue}.retry.{0..tiers-1}
+     *   TTL(initial-delay * multiplier^단계)과 만료 시 원래 큐로 돌아가는 DLX는 브로커 정책으로 지정하므로,
+     *   지연 값을 바꿔도 큐를 다시 만들 필요가 없습니다. (단계 수는 scripts/rabbitmq-policies.sh의 RETRY_TIERS와 맞춰야 합니다)
+     *   지연은 브로커가 처리하므로 컨슈머 스레드에서 sleep하지 않습니다.
+     */
+    @Bean
+    public Declarables deadLetterTopology(@Value("${rabbitmq.retry.tiers:3}") int tiers) {
+        List<Declarable> declarables = new ArrayList<>();
+        DirectExchange deadLetterExchange = new DirectExchange(DEAD_LETTER_EXCHANGE, true, false);
+        DirectExchange retryExchange = new DirectExchange(RETRY_EXCHANGE, true, false);
+        declarables.add(deadLetterExchange);
+        declarables.add(retryExchange);
+
+        List<String> queues = new ArrayList<>(RETRYABLE_QUEUES);
+        queues.addAll(REQUEST_QUEUES);
+        for (String queue : queues) {
+            Queue parkingLot = QueueBuilder.durable(parkingLotQueue(queue)).build();
+            declarables.add(parkingLot);
+            declarables.add(BindingBuilder.bind(parkingLot).to(deadLetterExchange).with(parkingLotQueue(queue)));
+        }
+
+        for (String queue : RETRYABLE_QUEUES) {
+            for (int tier = 0; tier < tiers; tier++) {
+                Queue retryQueue = durableQueue(retryQueue(queue, tier));
+                declarables.add(retryQueue);
+                declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange).with(retryQueue(queue, tier)));
+            }
+        }
+        return new Declarables(declarables);
+    }
+
     /**
      * 메시지 컨버터 설정
      * - RabbitMQ는 기본적으로 byte 배열로 메시지를 전송합니다.
-     * - Jackson2JsonMessageConverter를 사용하면 Java 객체(DTO)를 JSON으로 자동 변환하여 주고받을 수 있습니다.
+     * - ContentNegotiatingMessageConverter는 Java 객체(DTO)를 JSON/Smile/CBOR로 변환하여 주고받습니다.
+     *   수신 메시지는 content-type/content-encoding 헤더로 형식을 판단하므로 기존 JSON 프로듀서와 호환됩니다.
+     * - 발신 형식은 messaging.encoding.outbound(기본 json), 압축 기준은 messaging.encoding.gzip-threshold-bytes(기본 0 = 압축 안 함)
+     *   AI 서버가 바이너리/압축 메시지를 읽을 수 있게 된 뒤에 바꿔야 합니다.
      * - ObjectMapper는 Spring Boot가 관리하는 것을 주입받아 사용합니다.
+     * - 아웃박스 메시지는 outbox-{id}, 그 외 메시지는 컨버터가 만든 UUID가 messageId(멱등 키)가 됩니다.
      */
     @Bean
-    public MessageConverter messageConverter(ObjectMapper objectMapper) {
-        return new Jackson2JsonMessageConverter(objectMapper);
+    public MessageConverter messageConverter(ObjectMapper objectMapper,
+            @Value("${messaging.encoding.outbound:json}") String outboundFormat,
+            @Value("${messaging.encoding.gzip-threshold-bytes:0}") int gzipThresholdBytes) {
+        ContentNegotiatingMessageConverter converter =
+                new ContentNegotiatingMessageConverter(objectMapper, outboundFormat, gzipThresholdBytes);
+        // 발행하는 모든 메시지에 messageId(UUID)를 붙여 소비 측에서 중복을 식별할 수 있도록 합니다.
+        converter.setCreateMessageIds(true);
+        return converter;
+    }
+
+    /**
+     * 공용 RabbitTemplate (파킹 큐 조회 등)
+     * - publisherRabbitTemplate을 선언하면 Spring Boot 기본 RabbitTemplate이 만들어지지 않으므로 같은 설정으로 직접 선언합니다.
+     * - 컨펌/반송/mandatory 없이 Spring Boot 설정(spring.rabbitmq.template.*)만 적용됩니다.
+     */
+    @Bean
+    @Primary
+    public RabbitTemplate rabbitTemplate(RabbitTemplateConfigurer configurer, CachingConnectionFactory connectionFactory) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate();
+        configurer.configure(rabbitTemplate, connectionFactory);
+        return rabbitTemplate;
+    }
+
+    /**
+     * RabbitMessagePublisher 전용 RabbitTemplate (퍼블리셔 컨펌/반송/채널 캐시)
+     * - 공용 연결 팩토리의 발행용 연결(publisher connection)을 사용하고, 컨펌/반송 설정도 그 연결에만 지정합니다.
+     *   리스너와 공용 템플릿의 채널에는 영향이 없습니다.
+     * - OutboxRelay는 브로커의 ack를 받은 메시지만 발행 완료로 기록하므로 CORRELATED 컨펌이 필요합니다.
+     * - mandatory: 라우팅되는 큐가 없는 메시지를 조용히 버리지 않고 반송받아 재시도 대상으로 남깁니다.
+     *   RabbitTemplate에는 반송 콜백을 하나만 등록할 수 있으므로 여기서 등록하고, 다른 곳에서는 이 템플릿에 등록하지 않습니다.
+     * - 채널 캐시: 컨펌 대기 중인 채널은 반납되지 않으므로 동시 발행 수에 맞춰 캐시 크기를 늘려,
+     *   버스트 시 채널을 매번 새로 열고 닫지 않도록 합니다. (rabbitmq.publisher.channel-cache-size)
+     * - 커밋된 설정 파일이 없는 환경에서도 동일하게 동작하도록 프로퍼티 대신 코드로 지정합니다.
+     */
+    @Bean
+    public RabbitTemplate publisherRabbitTemplate(RabbitTemplateConfigurer configurer,
+            CachingConnectionFactory connectionFactory,
+            @Value("${rabbitmq.publisher.channel-cache-size:32}") int channelCacheSize) {
+        CachingConnectionFactory publisherConnectionFactory =
+                (CachingConnectionFactory) connectionFactory.getPublisherConnectionFactory();
+        publisherConnectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+        publisherConnectionFactory.setPublisherReturns(true);
+        publisherConnectionFactory.setChannelCacheSize(channelCacheSize);
+
+        RabbitTemplate rabbitTemplate = new RabbitTemplate();
+        configurer.configure(rabbitTemplate, publisherConnectionFactory);
+        rabbitTemplate.setMandatory(true);
+        // 컨펌 결과는 CorrelationData로 받고, 반송은 큐 이름 없이 라우팅 실패를 바로 알 수 있도록 로그를 남깁니다.
+        rabbitTemplate.setReturnsCallback(RabbitConfig::logReturned);
+        return rabbitTemplate;
+    }
+
+    private static void logReturned(ReturnedMessage returned) {
+        log.error("❌ RabbitMQ 메시지 라우팅 실패(반송): exchange={}, routingKey={}, replyCode={}, replyText={}, messageId={}",
+                returned.getExchange(), returned.getRoutingKey(), returned.getReplyCode(), returned.getReplyText(),
+                returned.getMessage().getMessageProperties().getMessageId());
     }
 
     /**
@@ -102,10 +255,12 @@ public class RabbitConfig {
     /**
      * Queue 생성
      * - durable(true): RabbitMQ 서버가 재시작되어도 큐와 그 안의 메시지가 증발하지 않고 보존됩니다.
+     * - 생성 서버도 같은 큐를 인자 없이 선언하므로 큐 인자를 추가하지 않습니다. (인자가 다르면 PRECONDITION_FAILED)
+     *   요청 우선순위는 OutboxRelay가 큐에 쌓인 메시지가 적을 때만 우선순위 순으로 내보내는 방식으로 적용합니다.
      */
     @Bean
     public Queue model3dQueue() {
-        return new Queue(MODEL3D_QUEUE, true);
+        return QueueBuilder.durable(MODEL3D_QUEUE).build();
     }
 
     /**
@@ -129,7 +284,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue model3dResponseQueue() {
-        return new Queue(MODEL3D_RESPONSE_QUEUE, true);
+        return durableQueue(MODEL3D_RESPONSE_QUEUE);
     }
 
     /**
@@ -151,7 +306,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue model3dDimensionsRequestQueue() {
-        return new Queue(MODEL3D_DIMENSIONS_REQUEST_QUEUE, true);
+        return durableQueue(MODEL3D_DIMENSIONS_REQUEST_QUEUE);
     }
 
     /**
@@ -171,7 +326,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue model3dDimensionsResponseQueue() {
-        return new Queue(MODEL3D_DIMENSIONS_RESPONSE_QUEUE, true);
+        return durableQueue(MODEL3D_DIMENSIONS_RESPONSE_QUEUE);
     }
 
     /**
@@ -195,7 +350,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue model3dMetadataUpdateQueue() {
-        return new Queue(MODEL3D_METADATA_UPDATE_QUEUE, true);
+        return durableQueue(MODEL3D_METADATA_UPDATE_QUEUE);
     }
 
     /**
@@ -221,7 +376,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue model3dDeleteQueue() {
-        return new Queue(MODEL3D_DELETE_QUEUE, true);
+        return durableQueue(MODEL3D_DELETE_QUEUE);
     }
 
     /**
@@ -255,7 +410,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue recommandQueue() {
-        return new Queue(RECOMMAND_QUEUE, true);
+        return durableQueue(RECOMMAND_QUEUE);
     }
 
     /**
@@ -278,7 +433,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue recommandResponseQueue() {
-        return new Queue(RECOMMAND_RESPONSE_QUEUE, true);
+        return durableQueue(RECOMMAND_RESPONSE_QUEUE);
     }
 
     /**
@@ -310,7 +465,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue room3dQueue() {
-        return new Queue(ROOM3D_QUEUE, true);
+        return durableQueue(ROOM3D_QUEUE);
     }
 
     /**
@@ -329,7 +484,7 @@ public class RabbitConfig {
      */
     @Bean
     public Queue room3dResponseQueue() {
-        return new Queue(ROOM3D_RESPONSE_QUEUE, true);
+        return durableQueue(ROOM3D_RESPONSE_QUEUE);
     }
 
     /**
@@ -0,0 +1,109 @@
+package com.example.myroom.global.config;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.example.myroom.global.messaging.ListenerRetryAdvice;
+
+/**
+ * 응답 큐별 리스너 컨테이너 설정
+ * - 기본 컨테이너는 큐마다 컨슈머 1개로 동작하므로, AI 서버가 밀린 작업을 한꺼번에 끝내면 응답이 하나씩만 처리됩니다.
+ * - 큐마다 동시 컨슈머 수(concurrency ~ max-concurrency), prefetch를 따로 설정합니다.
+ *   프로퍼티: rabbitmq.listener.{recommand-response|room3d-response}.*
+ * - model3d-response / dimensions-response는 같은 model3dId의 응답을 도착 순서대로 처리해야 하므로 컨슈머 1개, prefetch 1로 고정합니다.
+ *   동시 컨슈머 간에는 순서가 보장되지 않고(컨슈머 A가 prefetch로 들고 있는 이전 메시지보다 컨슈머 B가 받은 이후 메시지가
+ *   먼저 처리될 수 있음), 키 잠금으로는 동시 실행만 막을 뿐 순서는 지킬 수 없습니다.
+ *   응답에 모델 ID 헤더가 없어 브로커에서 model3dId로 샤딩(consistent-hash 교환기 등)할 수 없으므로,
+ *   처리량을 늘리려면 생성 서버가 모델 ID로 라우팅한 샤드 큐를 먼저 도입해야 합니다.
+ * - 단건 리스너는 메시지마다 ack합니다. (여러 건을 모아 ack하면 재시도 큐 발행 실패로 reject될 때 multiple=true로
+ *   이미 처리한 메시지까지 DLX로 보내지므로 batchSize는 1로 고정)
+ * - observation: 리스너 처리 시간/건수가 spring.rabbit.listener 메트릭으로 기록되어 소비 처리량을 비교할 수 있습니다.
+ * - recommand-response는 배치 리스너입니다. batch-size개(또는 receive-timeout-ms 동안 모인 만큼)를 List로 한 번에 받아
+ *   DB 조회/INSERT를 묶어서 처리합니다. (prefetch는 batch-size 이상으로 설정)
+ *
+ * - 처리 실패 시 ListenerRetryAdvice가 단계별 재시도 큐로 보내고, 재시도를 모두 소진하면 파킹 큐로 보냅니다.
+ *
+ */
+@Configuration
+public class RabbitListenerConfig {
+    private static final String PREFIX = "rabbitmq.listener.";
+
+    private final ConnectionFactory connectionFactory;
+    private final MessageConverter messageConverter;
+    private final ListenerRetryAdvice listenerRetryAdvice;
+    private final Environment environment;
+
+    public RabbitListenerConfig(ConnectionFactory connectionFactory, MessageConverter messageConverter,
+                                ListenerRetryAdvice listenerRetryAdvice, Environment environment) {
+        this.connectionFactory = connectionFactory;
+        this.messageConverter = messageConverter;
+        this.listenerRetryAdvice = listenerRetryAdvice;
+        this.environment = environment;
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory model3dResponseListenerFactory() {
+        return orderedListenerFactory();
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory dimensionsResponseListenerFactory() {
+        return orderedListenerFactory();
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory recommandResponseListenerFactory() {
+        return batchListenerFactory("recommand-response", 2, 4, 100, 50, 100);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory room3dResponseListenerFactory() {
+        return listenerFactory("room3d-response", 1, 4, 10);
+    }
+
+    private SimpleRabbitListenerContainerFactory listenerFactory(String name, int concurrency, int maxConcurrency,
+                                                                 int prefetch) {
+        return containerFactory(property(name, "concurrency", concurrency),
+                property(name, "max-concurrency", maxConcurrency), property(name, "prefetch", prefetch));
+    }
+
+    // 큐 순서대로 하나씩 처리 (프로퍼티로 바꿀 수 없음)
+    private SimpleRabbitListenerContainerFactory orderedListenerFactory() {
+        return containerFactory(1, 1, 1);
+    }
+
+    private SimpleRabbitListenerContainerFactory containerFactory(int concurrency, int maxConcurrency, int prefetch) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        factory.setPrefetchCount(prefetch);
+        factory.setBatchSize(1);
+        factory.setObservationEnabled(true);
+        // 실패한 메시지는 재시도 큐/파킹 큐로 옮기고, 그마저 실패하면 재큐잉하지 않고 DLX로 보냅니다.
+        factory.setAdviceChain(listenerRetryAdvice);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
+    private SimpleRabbitListenerContainerFactory batchListenerFactory(String name, int concurrency, int maxConcurrency,
+                                                                      int prefetch, int batchSize, long receiveTimeoutMillis) {
+        SimpleRabbitListenerContainerFactory factory = listenerFactory(name, concurrency, maxConcurrency, prefetch);
+        factory.setBatchSize(property(name, "batch-size", batchSize));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setReceiveTimeout(environment.getProperty(PREFIX + name + ".receive-timeout-ms", Long.class, receiveTimeoutMillis));
+        return factory;
+    }
+
+    private int property(String name, String key, int defaultValue) {
+        return environment.getProperty(PREFIX + name + "." + key, Integer.class, defaultValue);
+    }
+}
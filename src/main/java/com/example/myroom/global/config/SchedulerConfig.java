@@ -3,9 +3,11 @@ package com.example.myroom.global.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
+@EnableScheduling
 public class SchedulerConfig {
 
     @Bean(name = "fakeRoomTaskScheduler")
@@ -16,4 +18,17 @@ public class SchedulerConfig {
         scheduler.initialize();
         return scheduler;
     }
+
+    /**
+     * @Scheduled 작업 및 아웃박스 릴레이용 스케줄러
+     * - 스프링은 "taskScheduler" 이름의 빈을 @Scheduled 기본 스케줄러로 사용합니다.
+     */
+    @Bean(name = "taskScheduler")
+    public TaskScheduler scheduledTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.initialize();
+        return scheduler;
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.myroom.global.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+import com.example.myroom.global.util.CursorCodec;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@Schema(description = "커서 페이지네이션 응답 DTO (COUNT 쿼리 없이 다음 페이지 존재 여부만 반환)")
+@JsonNaming(SnakeCaseStrategy.class)
+public record CursorSliceResponseDto<T>(
+        @Schema(
+            description = "목록 (최신순)",
+            requiredMode = RequiredMode.REQUIRED
+        )
+        List<T> content,
+
+        @Schema(
+            description = "다음 페이지 커서 - 다음 요청의 cursor 파라미터로 그대로 전달합니다. 마지막 페이지면 null",
+            requiredMode = RequiredMode.NOT_REQUIRED,
+            example = "MjAyNC0wMS0xNVQxMDozMDowMHw0Mg"
+        )
+        String nextCursor,
+
+        @Schema(
+            description = "다음 페이지 존재 여부",
+            requiredMode = RequiredMode.REQUIRED,
+            example = "true"
+        )
+        boolean hasNext
+) {
+    /**
+     * 엔티티 Slice를 응답으로 변환합니다. 다음 커서는 마지막 엔티티의 (createdAt, id)로 만듭니다.
+     */
+    public static <E, T> CursorSliceResponseDto<T> of(Slice<E> slice, Function<E, T> mapper,
+                                                     Function<E, LocalDateTime> createdAt, Function<E, Long> id) {
+        List<E> entities = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !entities.isEmpty()) {
+            E last = entities.get(entities.size() - 1);
+            nextCursor = CursorCodec.encode(createdAt.apply(last), id.apply(last));
+        }
+        return new CursorSliceResponseDto<>(entities.stream().map(mapper).toList(), nextCursor, slice.hasNext());
+    }
+}
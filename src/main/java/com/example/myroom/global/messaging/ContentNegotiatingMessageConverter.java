@@ -0,0 +1,174 @@
+package com.example.myroom.global.messaging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.DefaultClassMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * content-type 협상 메시지 컨버터 (JSON / Smile / CBOR + gzip)
+ * - 수신: content-type 헤더(application/json, application/x-jackson-smile, application/cbor)로 디코더를 고르고,
+ *   content-encoding이 gzip이면 먼저 압축을 풉니다. content-type이 없으면 JSON으로 봅니다. (기존 JSON 프로듀서 호환)
+ *   본문을 문자열로 바꾸지 않고 byte[]에서 바로 읽습니다.
+ * - 발신: messaging.encoding.outbound(json/smile/cbor, 기본 json) 형식으로 직렬화하고,
+ *   직렬화 결과가 messaging.encoding.gzip-threshold-bytes 이상이면 gzip으로 압축합니다. (0이면 압축하지 않음)
+ * - 모든 발신 메시지에 x-accept-content-type 헤더로 받을 수 있는 형식을 알려, AI 서버가 큰 응답을 바이너리로 보낼 수 있게 합니다.
+ * - 타입 결정: 리스너 파라미터 타입(inferred)을 우선하고, 없거나 추상 타입이면 __TypeId__ 헤더를 사용합니다.
+ *   (Jackson 2용 Jackson2JavaTypeMapper는 제거 예정이고 새 JacksonJavaTypeMapper는 Jackson 3 타입을 쓰므로,
+ *   헤더 매핑만 DefaultClassMapper에 맡기고 JavaType은 이 컨버터의 ObjectMapper로 만듭니다)
+ */
+public class ContentNegotiatingMessageConverter extends AbstractMessageConverter {
+    public static final String CONTENT_TYPE_SMILE = "application/x-jackson-smile";
+    public static final String CONTENT_TYPE_CBOR = "application/cbor";
+    public static final String CONTENT_ENCODING_GZIP = "gzip";
+    public static final String ACCEPT_CONTENT_TYPE_HEADER = "x-accept-content-type";
+    public static final String ACCEPTED_CONTENT_TYPES =
+            MessageProperties.CONTENT_TYPE_JSON + ", " + CONTENT_TYPE_SMILE + ", " + CONTENT_TYPE_CBOR;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+    private final String outboundContentType;
+    private final int gzipThresholdBytes;
+    private final DefaultClassMapper classMapper;
+
+    /**
+     * @param objectMapper Spring이 관리하는 ObjectMapper - Smile/CBOR 매퍼도 같은 설정(모듈, 네이밍 등)을 복사해 사용합니다.
+     * @param outboundFormat json, smile, cbor 중 하나
+     * @param gzipThresholdBytes 이 크기 이상의 본문을 gzip으로 압축 (0 이하이면 압축하지 않음)
+     */
+    public ContentNegotiatingMessageConverter(ObjectMapper objectMapper, String outboundFormat, int gzipThresholdBytes) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.outboundContentType = toContentType(outboundFormat);
+        this.gzipThresholdBytes = gzipThresholdBytes;
+
+        this.classMapper = new DefaultClassMapper();
+        this.classMapper.setTrustedPackages("com.example.myroom");
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        byte[] body;
+        try {
+            body = mapperFor(outboundContentType).writeValueAsBytes(object);
+        } catch (IOException e) {
+            throw new MessageConversionException("메시지 직렬화에 실패했습니다: " + object.getClass().getName(), e);
+        }
+
+        messageProperties.setContentType(outboundContentType);
+        if (MessageProperties.CONTENT_TYPE_JSON.equals(outboundContentType)) {
+            messageProperties.setContentEncoding("UTF-8");
+        }
+        if (gzipThresholdBytes > 0 && body.length >= gzipThresholdBytes) {
+            body = gzip(body);
+            messageProperties.setContentEncoding(CONTENT_ENCODING_GZIP);
+        }
+        messageProperties.setContentLength(body.length);
+        messageProperties.setHeader(ACCEPT_CONTENT_TYPE_HEADER, ACCEPTED_CONTENT_TYPES);
+        classMapper.fromClass(object.getClass(), messageProperties);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        MessageProperties properties = message.getMessageProperties();
+        if (properties == null) {
+            return message.getBody();
+        }
+
+        String contentType = properties.getContentType();
+        ObjectMapper mapper = mapperFor(contentType);
+        if (mapper == null) {
+            throw new MessageConversionException("지원하지 않는 content type입니다: " + contentType);
+        }
+
+        byte[] body = message.getBody();
+        if (CONTENT_ENCODING_GZIP.equalsIgnoreCase(properties.getContentEncoding())) {
+            body = gunzip(body);
+        }
+
+        JavaType targetType = targetType(properties);
+        try {
+            return mapper.readValue(body, targetType);
+        } catch (IOException e) {
+            throw new MessageConversionException("메시지 역직렬화에 실패했습니다: contentType=" + contentType
+                    + ", targetType=" + targetType, e);
+        }
+    }
+
+    private JavaType targetType(MessageProperties properties) {
+        Type inferred = properties.getInferredArgumentType();
+        if (inferred != null) {
+            JavaType inferredType = jsonMapper.constructType(inferred);
+            if (!inferredType.isAbstract() || inferredType.isContainerType()
+                    || properties.getHeader(classMapper.getClassIdFieldName()) == null) {
+                return inferredType;
+            }
+        }
+        return jsonMapper.constructType(classMapper.toClass(properties));
+    }
+
+    /**
+     * content type에 맞는 매퍼 (알 수 없는 형식이면 null) - content type이 없거나 json 계열이면 JSON입니다.
+     */
+    private ObjectMapper mapperFor(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return jsonMapper;
+        }
+        String normalized = contentType.toLowerCase(Locale.ROOT);
+        if (normalized.startsWith(CONTENT_TYPE_SMILE)) {
+            return smileMapper;
+        }
+        if (normalized.startsWith(CONTENT_TYPE_CBOR)) {
+            return cborMapper;
+        }
+        if (normalized.contains("json")) {
+            return jsonMapper;
+        }
+        return null;
+    }
+
+    private static String toContentType(String format) {
+        return switch (format == null ? "json" : format.toLowerCase(Locale.ROOT)) {
+            case "json" -> MessageProperties.CONTENT_TYPE_JSON;
+            case "smile" -> CONTENT_TYPE_SMILE;
+            case "cbor" -> CONTENT_TYPE_CBOR;
+            default -> throw new IllegalArgumentException("지원하지 않는 메시지 형식입니다: " + format);
+        };
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new MessageConversionException("메시지 압축에 실패했습니다.", e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] body) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new MessageConversionException("메시지 압축 해제에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.myroom.global.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.global.util.ContentHashUtil;
+import com.example.myroom.global.util.LruCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등 소비 가드
+ * - 메시지 키: AMQP messageId (없으면 본문 SHA-256) + 소비 큐 이름
+ * - 처리 여부는 프로세스 내 LRU 캐시를 먼저 확인하고, 없으면 processed_message 테이블을 확인합니다.
+ * - 처리 기록은 작업과 같은 트랜잭션에서 고유 키로 INSERT 하므로, 처리 도중 실패한 메시지는
+ *   기록도 함께 롤백되어 다시 처리됩니다. (최소 1회 + 중복 제거)
+ */
+@Slf4j
+@Component
+public class IdempotentMessageGuard {
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final LruCache<String, Boolean> processedKeys;
+    private final long retentionHours;
+
+    public IdempotentMessageGuard(ProcessedMessageRepository processedMessageRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${messaging.dedup.cache-size:10000}") int cacheSize,
+                                  @Value("${messaging.dedup.retention-hours:72}") long retentionHours) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.processedKeys = new LruCache<>(cacheSize);
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 처음 보는 메시지일 때만 작업을 실행합니다.
+     * - 트랜잭션을 열어 처리 기록을 먼저 INSERT IGNORE 하고, 새로 넣은 경우에만 같은 트랜잭션에서 작업을 실행합니다.
+     *   작업 안의 @Transactional 서비스 호출은 이 트랜잭션에 참여하므로 처리 결과와 기록이 함께 커밋/롤백됩니다.
+     * - 같은 메시지를 동시에 받은 다른 컨슈머는 INSERT에서 앞선 트랜잭션이 끝나기를 기다린 뒤,
+     *   커밋되었으면 건너뛰고 롤백되었으면 직접 처리합니다.
+     * - 작업 안의 WebSocket 알림은 LatencySample.deliver로 보내 커밋 이후에 발송되도록 합니다.
+     *   (롤백된 처리의 완료 알림이 나가지 않고, 알림 발송 동안 처리 기록 행 잠금과 DB 커넥션을 잡고 있지 않도록)
+     *
+     * @return 작업을 실행했으면 true, 중복이라 건너뛰었으면 false
+     */
+    public boolean runOnce(Message message, Runnable task) {
+        String queue = message.getMessageProperties().getConsumerQueue();
+        String messageKey = messageKey(queue, message);
+
+        if (processedKeys.get(messageKey) != null) {
+            countDuplicate(message);
+            return false;
+        }
+
+        Boolean executed = transactionTemplate.execute(status -> {
+            if (processedMessageRepository.insertIfAbsent(messageKey) == 0) {
+                return false;
+            }
+            task.run();
+            return true;
+        });
+        processedKeys.put(messageKey, Boolean.TRUE);
+        if (!Boolean.TRUE.equals(executed)) {
+            countDuplicate(message);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 배치 리스너용 - 이미 처리된 메시지를 걸러낸 목록을 반환합니다. (캐시에 없는 키는 IN 조회 한 번으로 확인)
+     * 반환된 메시지는 {@link #runOnceAll(List, Consumer)}로 처리 기록과 함께 처리해야 합니다.
+     */
+    public List<Message> filterUnprocessed(List<Message> messages) {
+        Map<String, Message> candidates = new LinkedHashMap<>();
+        for (Message message : messages) {
+            String messageKey = messageKey(message.getMessageProperties().getConsumerQueue(), message);
+            if (processedKeys.get(messageKey) != null || candidates.putIfAbsent(messageKey, message) != null) {
+                countDuplicate(message);
+            }
+        }
+
+        Set<String> processed = new HashSet<>();
+        if (!candidates.isEmpty()) {
+            processedMessageRepository.findAllById(candidates.keySet())
+                    .forEach(processedMessage -> processed.add(processedMessage.getMessageKey()));
+        }
+
+        List<Message> unprocessed = new ArrayList<>(candidates.size());
+        candidates.forEach((messageKey, message) -> {
+            if (processed.contains(messageKey)) {
+                processedKeys.put(messageKey, Boolean.TRUE);
+                countDuplicate(message);
+            } else {
+                unprocessed.add(message);
+            }
+        });
+        return unprocessed;
+    }
+
+    /**
+     * 배치 리스너용 - 한 트랜잭션에서 메시지 키를 INSERT IGNORE로 선점하고, 선점에 성공한 메시지만 작업에 넘깁니다.
+     * - 작업 안의 저장도 같은 트랜잭션에 참여하므로 처리 결과와 기록이 함께 커밋/롤백됩니다.
+     *   (커밋 직후 중단되어 재전달되어도 기록이 이미 있어 중복 저장되지 않습니다)
+     * - 작업이 실패하면 선점한 기록도 함께 롤백되고 예외를 그대로 던집니다.
+     *
+     * @return 선점에 성공해 작업에 넘긴 메시지 목록
+     */
+    public List<Message> runOnceAll(List<Message> messages, Consumer<List<Message>> task) {
+        Map<String, Message> candidates = new LinkedHashMap<>();
+        for (Message message : messages) {
+            String messageKey = messageKey(message.getMessageProperties().getConsumerQueue(), message);
+            if (processedKeys.get(messageKey) != null || candidates.putIfAbsent(messageKey, message) != null) {
+                countDuplicate(message);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<Message> claimed = transactionTemplate.execute(status -> {
+            List<Message> inserted = new ArrayList<>(candidates.size());
+            candidates.forEach((messageKey, message) -> {
+                if (processedMessageRepository.insertIfAbsent(messageKey) == 0) {
+                    countDuplicate(message);
+                } else {
+                    inserted.add(message);
+                }
+            });
+            if (!inserted.isEmpty()) {
+                task.accept(inserted);
+            }
+            return inserted;
+        });
+        candidates.keySet().forEach(messageKey -> processedKeys.put(messageKey, Boolean.TRUE));
+        return claimed == null ? List.of() : claimed;
+    }
+
+    @Scheduled(fixedDelayString = "${messaging.dedup.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                processedMessageRepository.deleteProcessedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("🧹 만료된 메시지 처리 기록 정리: {}건", deleted);
+        }
+    }
+
+    private void countDuplicate(Message message) {
+        String queue = message.getMessageProperties().getConsumerQueue();
+        log.info("⏭️ 중복 메시지 건너뜀: queue={}, messageId={}", queue, message.getMessageProperties().getMessageId());
+        Counter.builder("rabbitmq.listener.duplicate").tag("queue", String.valueOf(queue))
+                .register(meterRegistry).increment();
+    }
+
+    private String messageKey(String queue, Message message) {
+        String messageId = message.getMessageProperties().getMessageId();
+        MessageDigest digest = ContentHashUtil.newSha256();
+        digest.update(String.valueOf(queue).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        if (messageId != null && !messageId.isBlank()) {
+            digest.update(messageId.getBytes(StandardCharsets.UTF_8));
+        } else {
+            // AI 서버가 messageId를 지정하지 않으면 본문 전체를 키로 사용합니다. (재전달 시 본문은 동일)
+            digest.update(message.getBody());
+        }
+        return ContentHashUtil.toHex(digest);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.myroom.global.messaging;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.myroom.global.config.RabbitConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리스너 실패 처리 (컨테이너 advice)
+ * - 리스너가 예외를 던지면 메시지를 x-retry-attempt 헤더를 늘려 {queue}.retry.{단계} 로 다시 발행하고 원본은 ack합니다.
+ *   단계는 시도 횟수에 따라 올라가며(마지막 단계 이후로는 마지막 단계 유지), TTL 만료 후 원래 큐로 돌아옵니다.
+ * - rabbitmq.retry.max-attempts 를 넘기거나 메시지 변환에 실패한 경우에는 바로 {queue}.parking-lot 으로 보냅니다.
+ * - 재발행 자체가 실패하면 메시지를 거절하여 큐의 DLX를 통해 파킹 큐로 이동시킵니다. (유실 방지)
+ * - 배치 리스너에서 예외가 나면 배치의 모든 메시지를 같은 방식으로 보냅니다.
+ */
+@Slf4j
+@Component
+public class ListenerRetryAdvice implements MethodInterceptor {
+    private static final String EXCEPTION_HEADER = "x-exception-message";
+
+    private final RabbitMessagePublisher rabbitMessagePublisher;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final int tiers;
+    private final long publishTimeoutMillis;
+
+    public ListenerRetryAdvice(RabbitMessagePublisher rabbitMessagePublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${rabbitmq.retry.max-attempts:5}") int maxAttempts,
+                               @Value("${rabbitmq.retry.tiers:3}") int tiers,
+                               @Value("${rabbitmq.retry.publish-timeout-ms:5000}") long publishTimeoutMillis) {
+        this.rabbitMessagePublisher = rabbitMessagePublisher;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.tiers = tiers;
+        this.publishTimeoutMillis = publishTimeoutMillis;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            // 컨테이너 advice의 인자는 (Channel, Message 또는 List<Message>) 입니다.
+            Object data = invocation.getArguments()[1];
+            if (data instanceof Message message) {
+                recover(message, e);
+            } else if (data instanceof List<?> messages) {
+                for (Object message : messages) {
+                    recover((Message) message, e);
+                }
+            } else {
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 메시지 한 건을 재시도 큐 또는 파킹 큐로 보냅니다.
+     * 배치 리스너가 배치 전체를 실패시키지 않고 실패한 메시지만 따로 보낼 때도 사용합니다.
+     */
+    public void recover(Message message, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = properties.getConsumerQueue();
+        if (queue == null) {
+            throw new AmqpRejectAndDontRequeueException("소비 큐를 알 수 없는 메시지입니다.", cause);
+        }
+
+        int attempt = currentAttempt(properties) + 1;
+        properties.setHeader(RabbitConfig.RETRY_ATTEMPT_HEADER, attempt);
+        properties.setHeader(EXCEPTION_HEADER, truncate(rootCause(cause).toString()));
+
+        boolean retryable = !isConversionFailure(cause) && RabbitConfig.RETRYABLE_QUEUES.contains(queue);
+        if (retryable && attempt < maxAttempts) {
+            int tier = Math.min(attempt - 1, tiers - 1);
+            log.warn("🔁 메시지 재시도 예약: queue={}, messageId={}, attempt={}/{}, tier={}, error={}",
+                    queue, properties.getMessageId(), attempt, maxAttempts, tier, rootCause(cause).getMessage());
+            republish(RabbitConfig.RETRY_EXCHANGE, RabbitConfig.retryQueue(queue, tier), message, cause);
+            Counter.builder("rabbitmq.listener.retry").tag("queue", queue).tag("tier", String.valueOf(tier))
+                    .register(meterRegistry).increment();
+        } else {
+            log.error("🅿️ 메시지 파킹: queue={}, messageId={}, attempt={}, error={}",
+                    queue, properties.getMessageId(), attempt, rootCause(cause).getMessage(), cause);
+            republish(RabbitConfig.DEAD_LETTER_EXCHANGE, RabbitConfig.parkingLotQueue(queue), message, cause);
+            Counter.builder("rabbitmq.listener.parked").tag("queue", queue).register(meterRegistry).increment();
+        }
+    }
+
+    private void republish(String exchange, String routingKey, Message message, Throwable cause) {
+        try {
+            rabbitMessagePublisher.republish(exchange, routingKey, message).get(publishTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new AmqpRejectAndDontRequeueException("재시도 메시지 발행 실패: " + e.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpRejectAndDontRequeueException("재시도 메시지 발행 중 인터럽트", cause);
+        }
+    }
+
+    private int currentAttempt(MessageProperties properties) {
+        Object value = properties.getHeaders().get(RabbitConfig.RETRY_ATTEMPT_HEADER);
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private boolean isConversionFailure(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof MessageConversionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Throwable rootCause(Throwable cause) {
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root;
+    }
+
+    private String truncate(String value) {
+        return value.length() > 500 ? value.substring(0, 500) : value;
+    }
+}
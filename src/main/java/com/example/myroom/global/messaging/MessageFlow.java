@@ -0,0 +1,21 @@
+package com.example.myroom.global.messaging;
+
+/**
+ * AI 서버와 요청/응답을 주고받는 메시지 흐름 (왕복 지연 메트릭의 flow 태그)
+ */
+public enum MessageFlow {
+    MODEL3D_UPLOAD("model3d-upload"),
+    DIMENSIONS("dimensions"),
+    RECOMMAND("recommand"),
+    ROOM3D("room3d");
+
+    private final String tag;
+
+    MessageFlow(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
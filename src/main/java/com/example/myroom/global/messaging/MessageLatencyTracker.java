@@ -0,0 +1,330 @@
+package com.example.myroom.global.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 서버 왕복(요청 → 처리 → 응답 → 알림) 구간별 지연 측정
+ * - 요청을 보낼 때 correlation ID를 발급하여 AMQP correlationId 속성과 x-correlation-id 헤더로 전달합니다.
+ *   AI 서버는 응답에 같은 값을 그대로 돌려주어야 하며, 없으면 flow + 대상 ID(모델/방/회원)로 요청을 찾습니다.
+ *   같은 대상으로 다시 요청하면 이전 요청은 더 이상 추적하지 않습니다.
+ * - 요청 시각은 이 클래스 한 곳에서만 보관합니다. 업로드 lane별 메트릭(Model3DUploadQueueMetrics)도
+ *   응답의 LatencySample에서 요청 시각과 lane을 읽어 기록합니다.
+ * - 응답의 x-worker-started-at / x-worker-finished-at 헤더(epoch ms)가 있으면 사용하고,
+ *   없으면 응답 본문의 timestamp(완료 시각)와 처리 시간으로 추정합니다. (서로 다른 서버 시계를 쓰므로 음수는 0으로 기록)
+ * - 메트릭: myroom.mq.roundtrip (flow, stage 태그)
+ *   request_queue: 요청 발행(커밋) ~ AI 처리 시작, processing: AI 처리, response_queue: AI 완료 ~ 수신,
+ *   handling: 수신 ~ 처리 완료(알림 포함), websocket: WebSocket 알림 발송, end_to_end: 요청 ~ 처리 완료
+ * - 요청 정보는 메모리에만 보관하므로 재시작 전에 보낸 요청은 request_queue/end_to_end를 측정하지 않습니다.
+ *   트랜잭션 안에서 요청하면 커밋 이후(아웃박스 릴레이가 발행을 시작하는 시점)부터 추적합니다.
+ */
+@Slf4j
+@Component
+public class MessageLatencyTracker {
+    public static final String CORRELATION_ID_HEADER = "x-correlation-id";
+    public static final String WORKER_STARTED_AT_HEADER = "x-worker-started-at";
+    public static final String WORKER_FINISHED_AT_HEADER = "x-worker-finished-at";
+
+    private static final String METRIC_NAME = "myroom.mq.roundtrip";
+    // 이 값보다 작은 timestamp는 초 단위로 보고 ms로 변환합니다. (2001-09-09 이후의 ms 값은 모두 이보다 큼)
+    private static final long EPOCH_MILLIS_THRESHOLD = 1_000_000_000_000L;
+
+    private final MeterRegistry meterRegistry;
+    private final long maxTrackingMillis;
+
+    private final Map<String, PendingRequest> pendingByCorrelationId = new ConcurrentHashMap<>();
+    private final Map<String, String> correlationIdBySubject = new ConcurrentHashMap<>();
+
+    public MessageLatencyTracker(MeterRegistry meterRegistry,
+                                 @Value("${messaging.latency.max-tracking-hours:6}") long maxTrackingHours) {
+        this.meterRegistry = meterRegistry;
+        this.maxTrackingMillis = TimeUnit.HOURS.toMillis(maxTrackingHours);
+    }
+
+    /**
+     * 요청 발행 시 호출합니다. 반환된 correlation ID를 메시지에 실어 보내야 합니다.
+     */
+    public String begin(MessageFlow flow, Object subjectId) {
+        return begin(flow, subjectId, null);
+    }
+
+    /**
+     * lane(우선순위 구분 등)을 함께 기록합니다. 응답의 {@link LatencySample#getLane()}으로 읽을 수 있습니다.
+     */
+    public String begin(MessageFlow flow, Object subjectId, String lane) {
+        String correlationId = flow.getTag() + "-" + UUID.randomUUID();
+        String subjectKey = subjectKey(flow, subjectId);
+        afterCommit(() -> track(correlationId, new PendingRequest(flow, subjectKey, lane, System.currentTimeMillis())));
+        return correlationId;
+    }
+
+    /**
+     * 응답 수신 직후(역직렬화 후, 처리 전) 호출합니다. 처리가 끝나면 반환된 샘플의 finish()를 호출해야 구간이 기록됩니다.
+     *
+     * @param responseTimestamp 응답 본문의 완료 시각 (없으면 null)
+     * @param processingMillis 응답 본문의 처리 시간 (없으면 null)
+     */
+    public LatencySample received(MessageFlow flow, Object subjectId, Message message,
+                                  Long responseTimestamp, Long processingMillis) {
+        MessageProperties properties = message.getMessageProperties();
+        String correlationId = properties.getCorrelationId();
+        if (correlationId == null && properties.getHeader(CORRELATION_ID_HEADER) != null) {
+            correlationId = properties.getHeader(CORRELATION_ID_HEADER).toString();
+        }
+        // correlation ID가 있으면 그 요청만 사용합니다. (이전 요청의 응답이 최신 요청을 완료시키지 않도록)
+        if (correlationId == null) {
+            String subjectKey = subjectKey(flow, subjectId);
+            correlationId = subjectKey != null ? correlationIdBySubject.get(subjectKey) : null;
+        }
+        PendingRequest request = correlationId != null ? pendingByCorrelationId.get(correlationId) : null;
+
+        Long finishedAt = toEpochMillis(headerAsLong(properties, WORKER_FINISHED_AT_HEADER));
+        if (finishedAt == null) {
+            finishedAt = toEpochMillis(responseTimestamp);
+        }
+        Long startedAt = toEpochMillis(headerAsLong(properties, WORKER_STARTED_AT_HEADER));
+        if (startedAt == null && finishedAt != null && processingMillis != null) {
+            startedAt = finishedAt - processingMillis;
+        }
+        return new LatencySample(flow, correlationId, request, startedAt, finishedAt);
+    }
+
+    /**
+     * flow/구간별 누적 통계 (관리자 API용)
+     */
+    public List<StageSummary> summarize() {
+        List<StageSummary> summaries = new ArrayList<>();
+        for (Timer timer : meterRegistry.find(METRIC_NAME).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            summaries.add(new StageSummary(
+                    timer.getId().getTag("flow"),
+                    timer.getId().getTag("stage"),
+                    snapshot.count(),
+                    snapshot.mean(TimeUnit.MILLISECONDS),
+                    snapshot.max(TimeUnit.MILLISECONDS),
+                    percentile(snapshot, 0.5),
+                    percentile(snapshot, 0.95),
+                    percentile(snapshot, 0.99)));
+        }
+        return summaries;
+    }
+
+    public int pendingCount() {
+        return pendingByCorrelationId.size();
+    }
+
+    /**
+     * 응답을 기다리는 요청 수 (flow/lane별 Gauge용)
+     */
+    public int pendingCount(MessageFlow flow, String lane) {
+        int count = 0;
+        for (PendingRequest request : pendingByCorrelationId.values()) {
+            if (request.flow() == flow && Objects.equals(request.lane(), lane)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${messaging.latency.cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        long expiredBefore = System.currentTimeMillis() - maxTrackingMillis;
+        pendingByCorrelationId.forEach((correlationId, request) -> {
+            if (request.requestedAt() < expiredBefore && pendingByCorrelationId.remove(correlationId, request)) {
+                if (request.subjectKey() != null) {
+                    correlationIdBySubject.remove(request.subjectKey(), correlationId);
+                }
+            }
+        });
+    }
+
+    private void track(String correlationId, PendingRequest request) {
+        pendingByCorrelationId.put(correlationId, request);
+        if (request.subjectKey() != null) {
+            String superseded = correlationIdBySubject.put(request.subjectKey(), correlationId);
+            if (superseded != null) {
+                pendingByCorrelationId.remove(superseded);
+            }
+        }
+    }
+
+    private void record(MessageFlow flow, String stage, long millis) {
+        Timer.builder(METRIC_NAME)
+                .tag("flow", flow.getTag())
+                .tag("stage", stage)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, millis)));
+    }
+
+    private double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    private String subjectKey(MessageFlow flow, Object subjectId) {
+        return subjectId != null ? flow.getTag() + ":" + subjectId : null;
+    }
+
+    private Long headerAsLong(MessageProperties properties, String header) {
+        Object value = properties.getHeader(header);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value != null) {
+            try {
+                return Long.parseLong(value.toString());
+            } catch (NumberFormatException e) {
+                log.debug("지연 측정 헤더 형식 오류: {}={}", header, value);
+            }
+        }
+        return null;
+    }
+
+    private Long toEpochMillis(Long timestamp) {
+        if (timestamp == null || timestamp <= 0) {
+            return null;
+        }
+        return timestamp < EPOCH_MILLIS_THRESHOLD ? TimeUnit.SECONDS.toMillis(timestamp) : timestamp;
+    }
+
+    /**
+     * 응답 한 건의 측정 상태 - 리스너 스레드 하나에서만 사용합니다.
+     */
+    public final class LatencySample {
+        private final MessageFlow flow;
+        private final String correlationId;
+        private final PendingRequest request;
+        private final Long workerStartedAt;
+        private final Long workerFinishedAt;
+        private final long receivedAt = System.currentTimeMillis();
+        private final long receivedNanos = System.nanoTime();
+        private long webSocketNanos;
+
+        private LatencySample(MessageFlow flow, String correlationId, PendingRequest request,
+                              Long workerStartedAt, Long workerFinishedAt) {
+            this.flow = flow;
+            this.correlationId = correlationId;
+            this.request = request;
+            this.workerStartedAt = workerStartedAt;
+            this.workerFinishedAt = workerFinishedAt;
+        }
+
+        public String getCorrelationId() {
+            return correlationId;
+        }
+
+        /**
+         * 요청 발행 시각 (epoch ms, 추적 중인 요청이 없으면 null)
+         */
+        public Long getRequestedAt() {
+            return request != null ? request.requestedAt() : null;
+        }
+
+        /**
+         * 요청 시 {@link MessageLatencyTracker#begin(MessageFlow, Object, String)}에 넘긴 lane (없으면 null)
+         */
+        public String getLane() {
+            return request != null ? request.lane() : null;
+        }
+
+        /**
+         * WebSocket 알림을 발송하고 발송 시간을 측정합니다.
+         * - 트랜잭션 안(IdempotentMessageGuard.runOnce 등)에서 호출하면 커밋 이후에 발송하므로,
+         *   롤백된 처리의 완료 알림이 클라이언트에 나가지 않습니다. 커밋 이후의 발송 실패는 로그만 남깁니다.
+         */
+        public void deliver(Runnable notification) {
+            afterCommit(() -> {
+                long start = System.nanoTime();
+                try {
+                    notification.run();
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ WebSocket 알림 발송 실패: flow={}, correlationId={}, error={}",
+                            flow.getTag(), correlationId, e.getMessage());
+                } finally {
+                    webSocketNanos += System.nanoTime() - start;
+                }
+            });
+        }
+
+        /**
+         * 처리가 성공적으로 끝났을 때 호출합니다. 재시도되는 실패 처리는 기록하지 않습니다.
+         * 트랜잭션 안에서 호출하면 커밋 이후(deliver로 등록한 알림 발송 뒤)에 기록합니다.
+         */
+        public void finish() {
+            afterCommit(this::recordStages);
+        }
+
+        private void recordStages() {
+            long handlingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - receivedNanos);
+            long completedAt = receivedAt + handlingMillis;
+            if (request != null && pendingByCorrelationId.remove(correlationId, request) && request.subjectKey() != null) {
+                correlationIdBySubject.remove(request.subjectKey(), correlationId);
+            }
+
+            if (request != null && workerStartedAt != null) {
+                record(flow, "request_queue", workerStartedAt - request.requestedAt());
+            }
+            if (workerStartedAt != null && workerFinishedAt != null) {
+                record(flow, "processing", workerFinishedAt - workerStartedAt);
+            }
+            if (workerFinishedAt != null) {
+                record(flow, "response_queue", receivedAt - workerFinishedAt);
+            }
+            record(flow, "handling", handlingMillis);
+            if (webSocketNanos > 0) {
+                record(flow, "websocket", TimeUnit.NANOSECONDS.toMillis(webSocketNanos));
+            }
+            if (request != null) {
+                record(flow, "end_to_end", completedAt - request.requestedAt());
+            }
+            log.debug("왕복 지연 기록: flow={}, correlationId={}, handlingMs={}", flow.getTag(), correlationId, handlingMillis);
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 이후에, 아니면 바로 실행합니다. (등록 순서대로 실행)
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public record StageSummary(String flow, String stage, long count, double meanMillis, double maxMillis,
+                               double p50Millis, double p95Millis, double p99Millis) {
+    }
+
+    private record PendingRequest(MessageFlow flow, String subjectKey, String lane, long requestedAt) {
+    }
+}
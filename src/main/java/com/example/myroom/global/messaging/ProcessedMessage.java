@@ -0,0 +1,64 @@
+package com.example.myroom.global.messaging;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리 완료된 수신 메시지 기록 (중복 소비 방지)
+ * - messageKey: SHA-256(큐 이름 + ":" + 메시지 ID) - 길이가 고정되어 인덱스가 작게 유지됩니다.
+ * - 보관 기간이 지난 행은 IdempotentMessageGuard가 주기적으로 삭제합니다.
+ * - 키를 직접 지정하므로 Persistable로 새 엔티티임을 알려, save 시 merge(SELECT) 없이 바로 INSERT 되도록 합니다. (배치 기록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "processed_message",
+    indexes = @Index(name = "idx_processed_message_processed_at", columnList = "processed_at")
+)
+public class ProcessedMessage implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String messageKey;
+
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public ProcessedMessage(String messageKey) {
+        this.messageKey = messageKey;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String getId() {
+        return messageKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
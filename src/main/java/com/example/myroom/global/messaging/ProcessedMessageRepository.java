@@ -0,0 +1,24 @@
+package com.example.myroom.global.messaging;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, String> {
+
+    /**
+     * 처리 기록을 선점합니다. 이미 있으면 0을 반환합니다. (MySQL)
+     * 다른 트랜잭션이 같은 키를 넣고 아직 끝나지 않았으면, 그 트랜잭션이 커밋/롤백될 때까지 기다립니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO processed_message (message_key, processed_at) VALUES (:messageKey, NOW(6))",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("messageKey") String messageKey);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedMessage p WHERE p.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
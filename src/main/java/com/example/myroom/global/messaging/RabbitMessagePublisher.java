@@ -0,0 +1,140 @@
+package com.example.myroom.global.messaging;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * RabbitMQ 발행 계층 (퍼블리셔 컨펌 + 교환기별 동시 발행 제한 + 메트릭)
+ * - 발행 결과는 CompletableFuture로 비동기 반환되며, 브로커 ack를 받고 반송되지 않았을 때만 정상 완료됩니다.
+ * - 컨펌/반송/mandatory가 설정된 전용 템플릿(RabbitConfig.publisherRabbitTemplate)으로 발행합니다.
+ * - 교환기마다 컨펌 대기 중인 메시지 수를 Semaphore로 제한합니다. 한도에 도달하면 잠시 기다린 뒤 거절합니다.
+ * - 메트릭: rabbitmq.publish.latency(결과별 Timer), rabbitmq.publish.nack / rabbitmq.publish.returned / rabbitmq.publish.rejected(Counter),
+ *   rabbitmq.publish.in-flight(Gauge)
+ */
+@Component
+public class RabbitMessagePublisher {
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxInFlight;
+    private final long acquireTimeoutMillis;
+    private final long confirmTimeoutMillis;
+
+    private final Map<String, Semaphore> inFlightLimits = new ConcurrentHashMap<>();
+
+    public RabbitMessagePublisher(@Qualifier("publisherRabbitTemplate") RabbitTemplate rabbitTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${rabbitmq.publisher.max-in-flight:256}") int maxInFlight,
+                                  @Value("${rabbitmq.publisher.acquire-timeout-ms:100}") long acquireTimeoutMillis,
+                                  @Value("${rabbitmq.publisher.confirm-timeout-ms:5000}") long confirmTimeoutMillis) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+    }
+
+    /**
+     * 메시지를 발행하고 컨펌 결과를 반환합니다. 호출 스레드는 컨펌을 기다리지 않습니다.
+     */
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Message message) {
+        Semaphore limit = inFlightLimits.computeIfAbsent(exchange, this::registerLimit);
+        if (!tryAcquire(limit)) {
+            Counter.builder("rabbitmq.publish.rejected").tag("exchange", exchange).register(meterRegistry).increment();
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("발행 대기 메시지가 너무 많습니다: exchange=" + exchange));
+        }
+
+        String correlationId = message.getMessageProperties().getMessageId() != null
+                ? message.getMessageProperties().getMessageId()
+                : UUID.randomUUID().toString();
+        CorrelationData correlationData = new CorrelationData(correlationId);
+        long start = System.nanoTime();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        correlationData.getFuture()
+                .orTimeout(confirmTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, ex) -> {
+                    limit.release();
+                    String outcome;
+                    if (ex != null) {
+                        outcome = "timeout";
+                        result.completeExceptionally(ex);
+                    } else if (!confirm.ack()) {
+                        outcome = "nack";
+                        Counter.builder("rabbitmq.publish.nack").tag("exchange", exchange).register(meterRegistry).increment();
+                        result.completeExceptionally(new IllegalStateException("nack: " + confirm.reason()));
+                    } else if (correlationData.getReturned() != null) {
+                        outcome = "returned";
+                        Counter.builder("rabbitmq.publish.returned").tag("exchange", exchange)
+                                .tag("routingKey", routingKey).register(meterRegistry).increment();
+                        result.completeExceptionally(new IllegalStateException(
+                                "returned: " + correlationData.getReturned().getReplyText()));
+                    } else {
+                        outcome = "ack";
+                        result.complete(null);
+                    }
+                    Timer.builder("rabbitmq.publish.latency")
+                            .tag("exchange", exchange)
+                            .tag("result", outcome)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                });
+
+        try {
+            rabbitTemplate.send(exchange, routingKey, message, correlationData);
+        } catch (RuntimeException e) {
+            // 전송 자체가 실패하면 컨펌이 오지 않으므로 직접 완료시켜 허가를 반환합니다.
+            correlationData.getFuture().completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * 수신한 메시지를 다시 발행합니다. (재시도/파킹 큐 이동, 파킹 큐 재처리)
+     * - 수신 메시지의 deliveryMode는 비어 있어 그대로 보내면 비영속(transient)으로 발행되므로,
+     *   수신 시의 deliveryMode를 복원하고 알 수 없으면 PERSISTENT로 발행합니다.
+     */
+    public CompletableFuture<Void> republish(String exchange, String routingKey, Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        MessageDeliveryMode receivedDeliveryMode = properties.getReceivedDeliveryMode();
+        properties.setDeliveryMode(receivedDeliveryMode != null ? receivedDeliveryMode : MessageDeliveryMode.PERSISTENT);
+        return publish(exchange, routingKey, message);
+    }
+
+    private boolean tryAcquire(Semaphore limit) {
+        try {
+            return limit.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Semaphore registerLimit(String exchange) {
+        Semaphore semaphore = new Semaphore(maxInFlight);
+        Gauge.builder("rabbitmq.publish.in-flight", semaphore, s -> maxInFlight - s.availablePermits())
+                .tag("exchange", exchange)
+                .register(meterRegistry);
+        return semaphore;
+    }
+}
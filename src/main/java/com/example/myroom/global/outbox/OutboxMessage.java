@@ -0,0 +1,100 @@
+package com.example.myroom.global.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * RabbitMQ 발행 대기 메시지 (트랜잭셔널 아웃박스)
+ * - 업무 데이터와 같은 트랜잭션에서 저장되고, OutboxRelay가 커밋 이후 배치로 발행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "outbox_message",
+    indexes = @Index(name = "idx_outbox_message_pending", columnList = "published_at, next_attempt_at")
+)
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    // 메시지 컨버터의 __TypeId__ 헤더로 쓰이는 메시지 클래스 이름
+    private String payloadType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    // 발행 우선순위 (클수록 먼저 발행, OutboxRelay 참고 - 우선순위 큐로 가는 메시지만 지정, 그 외는 null)
+    private Integer priority;
+
+    // AI 서버 왕복 추적용 correlation ID (MessageLatencyTracker 참고, 요청/응답 흐름이 아닌 메시지는 null)
+    @Column(length = 64)
+    private String correlationId;
+
+    private int attempts;
+
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime publishedAt;
+
+    @Builder
+    public OutboxMessage(String exchange, String routingKey, String payloadType, String payload, Integer priority, String correlationId) {
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.priority = priority;
+        this.correlationId = correlationId;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 릴레이가 발행을 위해 가져간 메시지는 leaseUntil까지 다시 조회되지 않습니다.
+     * 발행 결과를 기록하기 전에 릴레이가 죽으면 리스가 끝난 뒤 다른 릴레이가 다시 발행합니다.
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markPublished() {
+        this.publishedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 발행 실패 시 재시도 시각을 지수적으로 늦춥니다. (최대 5분)
+     */
+    public void markFailed(String error) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+        long backoffSeconds = Math.min(300L, 1L << Math.min(attempts, 8));
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.myroom.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 우선순위가 없는 발행 대기 메시지를 잠그며 조회합니다.
+     * SKIP LOCKED로 여러 인스턴스의 릴레이가 같은 메시지를 동시에 잡지 않습니다. (MySQL 8+)
+     */
+    @Query(value = """
+            SELECT * FROM outbox_message
+            WHERE published_at IS NULL AND next_attempt_at <= :now AND priority IS NULL
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> findPendingForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 우선순위가 지정된 발행 대기 메시지를 높은 우선순위부터(같으면 적재 순서대로) 잠그며 조회합니다.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_message
+            WHERE published_at IS NULL AND next_attempt_at <= :now AND priority IS NOT NULL
+            ORDER BY priority DESC, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> findPrioritizedPendingForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage o WHERE o.publishedAt IS NOT NULL AND o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
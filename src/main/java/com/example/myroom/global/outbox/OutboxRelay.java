@@ -0,0 +1,238 @@
+package com.example.myroom.global.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.ContentNegotiatingMessageConverter;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.example.myroom.global.messaging.RabbitMessagePublisher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 릴레이
+ * - 발행 대기 메시지를 배치로 잠가(SKIP LOCKED) 리스 시각까지 가져가는 짧은 트랜잭션만 연 뒤,
+ *   트랜잭션 밖에서 발행하고 컨펌을 기다립니다. 퍼블리셔 컨펌(ack)을 받은 메시지만 두 번째 짧은 트랜잭션에서 발행 완료로 기록합니다.
+ *   브로커 왕복 동안 행 잠금과 DB 커넥션을 잡고 있지 않습니다. (outbox.relay.lease-seconds)
+ * - 배치 안의 메시지는 먼저 모두 전송한 뒤 컨펌을 한꺼번에 기다리므로 메시지당 왕복 지연을 반복하지 않습니다.
+ * - nack/타임아웃/반송은 백오프 후 재시도합니다. (최소 1회 전달 - 소비 측은 messageId로 중복을 걸러야 합니다)
+ * - priority가 지정된 메시지(3D 생성 요청)는 대상 큐(outbox.relay.priority.queue)에 대기 중인 메시지가
+ *   outbox.relay.priority.max-queued 미만일 때 남은 자리만큼만 높은 priority부터 내보냅니다.
+ *   생성 서버가 선언하는 큐 인자를 바꾸지 않고도, 밀린 요청은 아웃박스에서 우선순위 순으로 기다립니다.
+ *   (여러 인스턴스가 동시에 자리를 계산하면 잠시 max-queued를 조금 넘을 수 있습니다)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final RabbitMessagePublisher rabbitMessagePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final AmqpAdmin amqpAdmin;
+    private final int batchSize;
+    private final long retentionHours;
+    private final long leaseSeconds;
+    private final String priorityQueue;
+    private final int priorityMaxQueued;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository,
+                       RabbitMessagePublisher rabbitMessagePublisher,
+                       TransactionTemplate transactionTemplate,
+                       @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                       AmqpAdmin amqpAdmin,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.retention-hours:24}") long retentionHours,
+                       @Value("${outbox.relay.lease-seconds:60}") long leaseSeconds,
+                       @Value("${outbox.relay.priority.queue:" + RabbitConfig.MODEL3D_QUEUE + "}") String priorityQueue,
+                       @Value("${outbox.relay.priority.max-queued:4}") int priorityMaxQueued) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.rabbitMessagePublisher = rabbitMessagePublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.taskScheduler = taskScheduler;
+        this.amqpAdmin = amqpAdmin;
+        this.batchSize = batchSize;
+        this.retentionHours = retentionHours;
+        this.leaseSeconds = leaseSeconds;
+        this.priorityQueue = priorityQueue;
+        this.priorityMaxQueued = priorityMaxQueued;
+    }
+
+    /**
+     * 커밋 직후 호출 - 이미 예약된 drain이 있으면 합쳐서 한 번만 실행합니다.
+     */
+    public void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                drainRequested.set(false);
+                drain();
+            }, Instant.now());
+        }
+    }
+
+    /**
+     * 주기적 drain - 커밋 후 즉시 발행이 실패했거나 재시도 대기 중인 메시지를 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (Exception e) {
+            log.error("❌ 아웃박스 릴레이 실패: {}", e.getMessage(), e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxMessageRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("🧹 발행 완료된 아웃박스 메시지 정리: {}건", deleted);
+        }
+    }
+
+    private int relayBatch() {
+        // 브로커 조회는 행을 잠그기 전에 끝냅니다.
+        int prioritySlots = prioritySlots();
+        List<OutboxMessage> batch = transactionTemplate.execute(status -> claimBatch(prioritySlots));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<Void>> confirms = new ArrayList<>(batch.size());
+        for (OutboxMessage outboxMessage : batch) {
+            confirms.add(rabbitMessagePublisher.publish(outboxMessage.getExchange(),
+                    outboxMessage.getRoutingKey(), toMessage(outboxMessage)));
+        }
+
+        // 발행 결과 (id -> 실패 사유, 성공 시 null)
+        Map<Long, String> failures = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            failures.put(batch.get(i).getId(), awaitConfirm(confirms.get(i)));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> recordResults(failures));
+        return batch.size();
+    }
+
+    private List<OutboxMessage> claimBatch(int prioritySlots) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> batch = new ArrayList<>(outboxMessageRepository.findPendingForUpdate(now, batchSize));
+        int prioritized = Math.min(prioritySlots, batchSize - batch.size());
+        if (prioritized > 0) {
+            batch.addAll(outboxMessageRepository.findPrioritizedPendingForUpdate(now, prioritized));
+        }
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        batch.forEach(outboxMessage -> outboxMessage.claim(leaseUntil));
+        return batch;
+    }
+
+    /**
+     * 우선순위 큐에 더 내보낼 수 있는 메시지 수 (max-queued - 대기 중인 메시지 수)
+     * 큐 정보를 조회하지 못하면 이번 배치에서는 우선순위 메시지를 내보내지 않습니다.
+     */
+    private int prioritySlots() {
+        try {
+            QueueInformation queueInformation = amqpAdmin.getQueueInfo(priorityQueue);
+            long queued = queueInformation != null ? queueInformation.getMessageCount() : 0;
+            return (int) Math.max(0, priorityMaxQueued - queued);
+        } catch (AmqpException e) {
+            log.warn("⚠️ 우선순위 큐 적재량 조회 실패: queue={}, error={}", priorityQueue, e.getMessage());
+            return 0;
+        }
+    }
+
+    private void recordResults(Map<Long, String> failures) {
+        int acked = 0;
+        for (OutboxMessage outboxMessage : outboxMessageRepository.findAllById(failures.keySet())) {
+            String failure = failures.get(outboxMessage.getId());
+            if (failure == null) {
+                outboxMessage.markPublished();
+                acked++;
+            } else {
+                outboxMessage.markFailed(failure);
+                log.warn("⚠️ 아웃박스 발행 실패: id={}, attempts={}, reason={}",
+                        outboxMessage.getId(), outboxMessage.getAttempts(), failure);
+            }
+        }
+        log.debug("아웃박스 배치 발행: size={}, acked={}", failures.size(), acked);
+    }
+
+    /**
+     * 컨펌을 기다리고, 실패 사유를 반환합니다. (성공 시 null)
+     * 컨펌 타임아웃은 RabbitMessagePublisher가 적용하므로 여기서는 결과만 기다립니다.
+     */
+    private String awaitConfirm(CompletableFuture<Void> confirm) {
+        try {
+            confirm.get();
+            return null;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause instanceof TimeoutException ? "confirm timeout" : cause.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+    }
+
+    /**
+     * 메시지 컨버터의 JSON 형식과 같은 형태(application/json + __TypeId__)로 메시지를 구성합니다.
+     * messageId는 아웃박스 ID로 고정하여 재발행 시에도 소비 측에서 중복을 식별할 수 있게 합니다.
+     */
+    private Message toMessage(OutboxMessage outboxMessage) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId("outbox-" + outboxMessage.getId());
+        properties.setHeader(ContentNegotiatingMessageConverter.ACCEPT_CONTENT_TYPE_HEADER,
+                ContentNegotiatingMessageConverter.ACCEPTED_CONTENT_TYPES);
+        if (outboxMessage.getCorrelationId() != null) {
+            properties.setCorrelationId(outboxMessage.getCorrelationId());
+            properties.setHeader(MessageLatencyTracker.CORRELATION_ID_HEADER, outboxMessage.getCorrelationId());
+        }
+        if (outboxMessage.getPayloadType() != null) {
+            properties.setHeader(TYPE_ID_HEADER, outboxMessage.getPayloadType());
+        }
+        return MessageBuilder.withBody(outboxMessage.getPayload().getBytes(StandardCharsets.UTF_8))
+                .andProperties(properties)
+                .build();
+    }
+}
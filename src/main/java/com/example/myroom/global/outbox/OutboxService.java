@@ -0,0 +1,71 @@
+package com.example.myroom.global.outbox;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 적재 서비스
+ * - 호출 측 트랜잭션에 참여하여 메시지를 저장하므로, 업무 데이터가 롤백되면 메시지도 함께 사라집니다.
+ * - 커밋 직후 릴레이를 깨워 주기를 기다리지 않고 바로 발행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void enqueue(String exchange, String routingKey, Object message) {
+        enqueue(exchange, routingKey, message, null);
+    }
+
+    /**
+     * priority를 지정하여 적재합니다. (OutboxRelay가 대상 큐의 적재량을 보며 높은 priority부터 발행합니다)
+     */
+    @Transactional
+    public void enqueue(String exchange, String routingKey, Object message, Integer priority) {
+        enqueue(exchange, routingKey, message, priority, null);
+    }
+
+    /**
+     * priority와 correlation ID(AI 서버 왕복 추적)를 지정하여 적재합니다. 둘 다 null일 수 있습니다.
+     */
+    @Transactional
+    public void enqueue(String exchange, String routingKey, Object message, Integer priority, String correlationId) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 메시지 직렬화에 실패했습니다.", e);
+        }
+
+        OutboxMessage outboxMessage = outboxMessageRepository.save(OutboxMessage.builder()
+                .exchange(exchange)
+                .routingKey(routingKey)
+                .payloadType(message.getClass().getName())
+                .payload(payload)
+                .priority(priority)
+                .correlationId(correlationId)
+                .build());
+        log.debug("아웃박스 적재: id={}, exchange={}, routingKey={}", outboxMessage.getId(), exchange, routingKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.requestDrain();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.myroom.global.scheduling;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업 리스(lease) - 여러 서버 중 한 곳에서만 작업이 실행되도록 DB 행으로 잠금을 표현합니다.
+ * - lockedUntil이 지나면 다른 서버가 리스를 가져갈 수 있으므로, 잠금을 가진 서버가 죽어도 작업이 멈추지 않습니다.
+ * - 행은 SchedulerLeaseLock이 INSERT IGNORE로 만들고 갱신합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduler_lease")
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false, length = 128)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+}
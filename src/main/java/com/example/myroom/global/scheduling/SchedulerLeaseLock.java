@@ -0,0 +1,73 @@
+package com.example.myroom.global.scheduling;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 리스 기반 분산 잠금 (여러 서버에서 @Scheduled 작업을 한 곳에서만 실행)
+ * - 리스 시간은 작업의 최대 실행 시간보다 길게 잡아야 합니다. 작업이 끝나면 바로 반납합니다.
+ * - 잠금 획득/반납은 각각 짧은 별도 트랜잭션으로 처리하므로 작업 트랜잭션과 섞이지 않습니다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseLock {
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public SchedulerLeaseLock(SchedulerLeaseRepository schedulerLeaseRepository, TransactionTemplate transactionTemplate) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 리스를 얻은 경우에만 작업을 실행합니다.
+     *
+     * @return 실행했으면 true, 다른 서버가 리스를 가지고 있어 건너뛰었으면 false
+     */
+    public boolean runExclusively(String name, Duration leaseTime, Runnable task) {
+        if (!tryAcquire(name, leaseTime)) {
+            log.debug("스케줄 작업 건너뜀 (다른 서버가 실행 중): name={}", name);
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            release(name);
+        }
+        return true;
+    }
+
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        long seconds = Math.max(1, leaseTime.toSeconds());
+        Boolean acquired = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.acquireIfAvailable(name, owner, seconds) > 0
+                        || schedulerLeaseRepository.insertIfAbsent(name, owner, seconds) > 0);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    public void release(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> schedulerLeaseRepository.release(name, owner));
+        } catch (RuntimeException e) {
+            // 반납에 실패해도 리스 시간이 지나면 다른 서버가 가져갈 수 있습니다.
+            log.warn("스케줄 리스 반납 실패: name={}, error={}", name, e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
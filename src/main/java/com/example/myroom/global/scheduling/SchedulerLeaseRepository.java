@@ -0,0 +1,31 @@
+package com.example.myroom.global.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 리스 만료 판단은 서버 시계 차이의 영향을 받지 않도록 DB 시각(NOW)으로 합니다. (MySQL)
+ */
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    @Modifying
+    @Query(value = """
+            UPDATE scheduler_lease
+            SET owner = :owner, locked_until = DATE_ADD(NOW(6), INTERVAL :seconds SECOND)
+            WHERE name = :name AND (locked_until < NOW(6) OR owner = :owner)
+            """, nativeQuery = true)
+    int acquireIfAvailable(@Param("name") String name, @Param("owner") String owner, @Param("seconds") long seconds);
+
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO scheduler_lease (name, owner, locked_until)
+            VALUES (:name, :owner, DATE_ADD(NOW(6), INTERVAL :seconds SECOND))
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("owner") String owner, @Param("seconds") long seconds);
+
+    @Modifying
+    @Query(value = "UPDATE scheduler_lease SET locked_until = NOW(6) WHERE name = :name AND owner = :owner", nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,109 @@
+package com.example.myroom.global.schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 필수 인덱스 점검
+ * - 자주 쓰는 조회가 기대하는 인덱스(아래 목록, db/changelog와 함께 갱신)가 현재 스키마에 있는지
+ *   information_schema.STATISTICS로 확인하고, 없는 인덱스를 경고 로그와 schema.index.missing 지표로 알립니다.
+ * - 인덱스 이름이 달라도 앞쪽 컬럼 순서가 같으면 있는 것으로 봅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaIndexVerifier {
+    private static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            new RequiredIndex("model3d", "is_shared", "status", "created_at", "id"),
+            new RequiredIndex("model3d", "is_shared", "furniture_type", "status", "created_at", "id"),
+            new RequiredIndex("model3d", "status", "created_at"),
+            new RequiredIndex("model3d", "creator_id", "furniture_type"),
+            new RequiredIndex("model3d", "creator_id", "status"),
+            new RequiredIndex("model3d", "is_vector_db_trained", "status"),
+            new RequiredIndex("post", "visibility_scope", "created_at", "id"),
+            new RequiredIndex("post", "visibility_scope", "category", "created_at", "id"),
+            new RequiredIndex("post", "member_id", "created_at"),
+            new RequiredIndex("post_like", "post_id", "member_id"),
+            new RequiredIndex("post_like", "member_id", "created_at"),
+            new RequiredIndex("model3d_bookmark", "model3d_id", "member_id"),
+            new RequiredIndex("model3d_bookmark", "member_id", "created_at"),
+            new RequiredIndex("comment", "post_id", "created_at"),
+            new RequiredIndex("comment", "parent_comment_id", "created_at"),
+            new RequiredIndex("room3d", "member_id", "created_at"),
+            new RequiredIndex("room3d", "success", "created_at"),
+            new RequiredIndex("recommand_history", "member_id", "created_at", "id"),
+            new RequiredIndex("outbox_message", "published_at", "next_attempt_at"),
+            new RequiredIndex("processed_message", "processed_at")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger missingCount = new AtomicInteger();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        Map<String, List<List<String>>> indexesByTable;
+        try {
+            indexesByTable = loadIndexes();
+        } catch (RuntimeException e) {
+            log.warn("인덱스 점검 실패: {}", e.getMessage());
+            return;
+        }
+
+        List<RequiredIndex> missing = REQUIRED_INDEXES.stream()
+                .filter(required -> !required.isCoveredBy(indexesByTable.getOrDefault(required.table(), List.of())))
+                .toList();
+
+        missingCount.set(missing.size());
+        meterRegistry.gauge("schema.index.missing", missingCount);
+        if (missing.isEmpty()) {
+            log.info("✅ 필수 인덱스 점검 완료: {}개", REQUIRED_INDEXES.size());
+            return;
+        }
+        missing.forEach(required -> log.warn("⚠️ 필수 인덱스 없음: {}({})",
+                required.table(), String.join(", ", required.columns())));
+    }
+
+    // 테이블별 인덱스 컬럼 목록 (컬럼은 인덱스 내 순서대로)
+    private Map<String, List<List<String>>> loadIndexes() {
+        Map<String, Map<String, List<String>>> columnsByIndex = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME
+                FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE()
+                ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX
+                """, rs -> {
+            columnsByIndex.computeIfAbsent(rs.getString("TABLE_NAME").toLowerCase(), table -> new HashMap<>())
+                    .computeIfAbsent(rs.getString("INDEX_NAME"), index -> new ArrayList<>())
+                    .add(rs.getString("COLUMN_NAME").toLowerCase());
+        });
+
+        Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+        columnsByIndex.forEach((table, indexes) -> indexesByTable.put(table, new ArrayList<>(indexes.values())));
+        return indexesByTable;
+    }
+
+    private record RequiredIndex(String table, List<String> columns) {
+        RequiredIndex(String table, String... columns) {
+            this(table, List.of(columns));
+        }
+
+        boolean isCoveredBy(List<List<String>> indexes) {
+            return indexes.stream().anyMatch(index -> index.size() >= columns.size()
+                    && index.subList(0, columns.size()).equals(columns));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.myroom.global.schema;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Liquibase 스키마 변경 이력 적용 (db/changelog/db.changelog-master.yaml)
+ * - 테이블은 JPA가 만들기 때문에 EntityManagerFactory 초기화(ddl-auto) 이후에 실행합니다.
+ *   SpringLiquibase를 빈으로 등록하면 Boot가 EntityManagerFactory를 Liquibase 뒤로 미루므로, 여기서 직접 실행합니다.
+ * - @PostConstruct에서 실행되므로 RabbitMQ 리스너 컨테이너가 메시지를 받기 시작하기 전에 적용이 끝납니다.
+ * - 여러 서버가 동시에 기동해도 Liquibase 잠금 테이블(DATABASECHANGELOGLOCK)로 한 서버만 적용합니다.
+ * - MySQL 8의 인덱스 추가는 온라인 DDL이라 적용 중에도 읽기/쓰기가 막히지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrationRunner {
+    private final DataSource dataSource;
+    private final ResourceLoader resourceLoader;
+    // 의존성으로만 사용 - JPA 스키마 생성이 끝난 뒤에 변경 이력을 적용합니다.
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${schema.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${schema.migration.change-log:classpath:db/changelog/db.changelog-master.yaml}")
+    private String changeLog;
+
+    @PostConstruct
+    public void migrate() throws LiquibaseException {
+        if (!enabled) {
+            log.info("스키마 변경 이력 적용 건너뜀 (schema.migration.enabled=false)");
+            return;
+        }
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setResourceLoader(resourceLoader);
+        liquibase.setChangeLog(changeLog);
+        liquibase.afterPropertiesSet();
+        log.info("🗂️ 스키마 변경 이력 적용 완료: changeLog={}", changeLog);
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.myroom.global.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재구축 가능한 프로세스 내 검색 색인의 공통 동작
+ * - 기동 후 DB에서 전체를 읽어 NgramIndex를 만들고, 이후 변경은 커밋 이후 증분 반영합니다.
+ * - 다른 서버에서 일어난 변경과 일괄 DELETE처럼 엔티티 리스너를 거치지 않는 변경은 주기적 재구축으로 맞춥니다.
+ *   재구축 중 들어온 증분 변경은 모아 두었다가 새 색인에 다시 적용한 뒤 교체합니다.
+ * - 색인은 후보 id만 돌려주며, 실제 내용은 DB에서 다시 읽어 검증하므로 색인이 늦더라도 잘못된 결과는 나오지 않습니다.
+ * - 결과는 id 내림차순(최신순)으로만 만들 수 있으므로, 다른 정렬이나 search.index.max-window를 넘는 깊은 페이지는
+ *   canSearch가 false를 돌려주고 호출 측이 DB LIKE 검색을 사용합니다. LIKE 검색도 정렬이 없으면 latestFirst로 같은 순서를 씁니다.
+ */
+@Slf4j
+public abstract class InMemorySearchIndex {
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "id");
+
+    private volatile NgramIndex index = new NgramIndex();
+    private volatile boolean ready;
+
+    // 재구축 중에 들어온 증분 변경 (this로 보호, 재구축 중이 아니면 null)
+    private List<Consumer<NgramIndex>> changesDuringRebuild;
+
+    // 색인으로 처리할 최대 결과 위치 (offset + 페이지 크기). 후보 id는 이 개수의 두 배까지만 모읍니다.
+    @Value("${search.index.max-window:1000}")
+    private int maxWindow;
+
+    /**
+     * 색인 대상 문서를 모두 읽어 target에 넣습니다.
+     */
+    protected abstract void loadAll(NgramIndex target);
+
+    protected abstract String indexName();
+
+    /**
+     * 첫 재구축이 끝나기 전에는 false이며, 이때 호출 측은 DB LIKE 검색을 사용합니다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> search(String query, String tag) {
+        return index.search(query, tag);
+    }
+
+    /**
+     * 이 페이지 요청을 색인으로 처리할 수 있는지 확인합니다.
+     * - 색인이 준비되었고, 정렬이 없거나 id 내림차순이며, 요청 위치가 search.index.max-window 안이어야 합니다.
+     */
+    public boolean canSearch(Pageable pageable) {
+        return ready
+                && pageable.isPaged()
+                && isLatestFirst(pageable.getSort())
+                && pageable.getOffset() + pageable.getPageSize() <= maxWindow;
+    }
+
+    /**
+     * 정렬이 없는 요청에 색인과 같은 순서(id 내림차순)를 붙입니다. (DB LIKE 검색용)
+     */
+    public static Pageable latestFirst(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), LATEST_FIRST);
+    }
+
+    /**
+     * 색인 검색 결과를 id 내림차순으로 페이지를 나눈 뒤, 해당 페이지의 엔티티만 DB에서 읽습니다.
+     * - stillMatches를 통과하지 못한 엔티티(다른 서버에서 바뀐 경우 등)와 삭제된 엔티티는 빼고, 다음 후보로 페이지를 채웁니다.
+     * - 전체 건수는 색인 기준 일치 건수에서 이번에 빠진 후보를 뺀 값이며, 마지막 후보까지 확인한 페이지에서는 정확합니다.
+     *   다른 페이지에 남은 어긋난 후보는 다음 재구축 때 반영됩니다.
+     * - canSearch가 false인 요청(다른 정렬, 범위를 넘는 페이지)은 IllegalArgumentException으로 거절합니다.
+     */
+    public <E> Page<E> searchPage(String query, String tag, Pageable pageable,
+                                  Function<List<Long>, List<E>> loader, Function<E, Long> idOf, Predicate<E> stillMatches) {
+        if (!pageable.isPaged() || !isLatestFirst(pageable.getSort())) {
+            throw new IllegalArgumentException("검색 색인은 최신순(id 내림차순) 페이지 조회만 지원합니다.");
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > maxWindow) {
+            throw new IllegalArgumentException("검색 색인으로 조회할 수 있는 범위를 넘었습니다.");
+        }
+
+        int offset = (int) pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        // 검증에서 빠지는 후보를 채울 수 있도록 한 페이지만큼 더 모읍니다.
+        NgramIndex.Hits hits = index.search(query, tag, offset + pageSize * 2);
+        List<Long> candidates = hits.ids();
+
+        List<E> content = new ArrayList<>();
+        int dropped = 0;
+        int next = Math.min(offset, candidates.size());
+        while (content.size() < pageSize && next < candidates.size()) {
+            int to = Math.min(next + pageSize - content.size(), candidates.size());
+            List<Long> chunk = candidates.subList(next, to);
+            Map<Long, E> loaded = loader.apply(chunk).stream()
+                    .filter(stillMatches)
+                    .collect(Collectors.toMap(idOf, Function.identity()));
+            for (Long id : chunk) {
+                E entity = loaded.get(id);
+                if (entity != null) {
+                    content.add(entity);
+                } else {
+                    dropped++;
+                }
+            }
+            next = to;
+        }
+
+        long total = hits.total() - dropped;
+        if (next >= hits.total() && !content.isEmpty()) {
+            total = offset + content.size();
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static boolean isLatestFirst(Sort sort) {
+        return sort.isUnsorted() || sort.equals(LATEST_FIRST);
+    }
+
+    /**
+     * 전체 재구축. 새 색인을 만드는 동안 검색은 기존 색인으로 계속 처리됩니다.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        NgramIndex rebuilt = new NgramIndex();
+        try {
+            loadAll(rebuilt);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            index = rebuilt;
+            ready = true;
+        }
+        log.info("🔎 검색 색인 재구축: index={}, documents={}, elapsedMs={}",
+                indexName(), rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    protected void putAfterCommit(Long id, String tag, String... fields) {
+        afterCommit(target -> target.put(id, tag, fields));
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(target -> target.remove(id));
+    }
+
+    public void removeAfterCommit(Collection<Long> ids) {
+        List<Long> copied = List.copyOf(ids);
+        afterCommit(target -> copied.forEach(target::remove));
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 트랜잭션 안에서는 커밋 이후에 반영합니다.
+    private void afterCommit(Consumer<NgramIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private synchronized void apply(Consumer<NgramIndex> change) {
+        change.accept(index);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.myroom.global.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내 n-gram 역색인
+ * - 문서(id, 텍스트, 태그)의 글자 1-gram/2-gram마다 id 집합(포스팅 리스트)을 유지합니다.
+ *   한글은 두 글자 단어가 많아 3-gram 대신 2-gram을 쓰고, 한 글자 검색어는 1-gram으로 찾습니다.
+ * - 검색은 검색어 n-gram의 포스팅 리스트를 작은 것부터 교집합한 뒤, 원문 포함 여부로 한 번 더 확인하므로
+ *   결과는 LIKE '%검색어%'와 같습니다. (대소문자/유니코드 정규화/공백 차이는 무시)
+ * - 읽기는 동시에, 쓰기는 하나씩 수행됩니다.
+ */
+public class NgramIndex {
+    private static final char FIELD_SEPARATOR = '\n';
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서를 추가하거나 교체합니다. 여러 필드는 필드 경계를 넘는 n-gram이 생기지 않게 따로 정규화합니다.
+     */
+    public void put(Long id, String tag, String... fields) {
+        StringBuilder text = new StringBuilder();
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            if (!text.isEmpty()) {
+                text.append(FIELD_SEPARATOR);
+            }
+            text.append(normalize(field));
+        }
+        Document document = new Document(text.toString(), tag);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            for (String gram : indexGrams(document.text())) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 문서 id를 id 내림차순(최신순)으로 반환합니다. tag가 null이면 태그로 거르지 않습니다.
+     */
+    public List<Long> search(String query, String tag) {
+        return search(query, tag, Integer.MAX_VALUE).ids();
+    }
+
+    /**
+     * 검색어를 포함하는 문서 중 id가 큰 것부터 최대 limit개와 전체 일치 건수를 반환합니다.
+     * - 전체 일치 목록을 만들어 정렬하지 않고 크기 limit의 힙만 유지하므로, 한 글자 검색어처럼 일치 건수가 많아도
+     *   추가 메모리는 limit에 비례합니다.
+     */
+    public Hits search(String query, String tag, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return Hits.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : queryGrams(normalizedQuery)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Hits.EMPTY;
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            // 지금까지 찾은 것 중 가장 큰 id limit개 (가장 작은 id가 맨 앞)
+            PriorityQueue<Long> top = new PriorityQueue<>();
+            int total = 0;
+            for (Long id : lists.get(0)) {
+                if (containsInAll(lists, id)) {
+                    Document document = documents.get(id);
+                    if ((tag == null || tag.equals(document.tag())) && document.text().contains(normalizedQuery)) {
+                        total++;
+                        if (top.size() < limit) {
+                            top.add(id);
+                        } else if (id > top.peek()) {
+                            top.poll();
+                            top.add(id);
+                        }
+                    }
+                }
+            }
+            List<Long> ids = new ArrayList<>(top);
+            ids.sort(Collections.reverseOrder());
+            return new Hits(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인과 같은 정규화로 필드 중 하나가 검색어를 포함하는지 확인합니다. (DB에서 다시 읽은 엔티티 검증용)
+     */
+    public static boolean matches(String query, String... fields) {
+        String normalizedQuery = normalize(query);
+        for (String field : fields) {
+            if (field != null && normalize(field).contains(normalizedQuery)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .strip();
+    }
+
+    private void unlink(Long id, Document document) {
+        for (String gram : indexGrams(document.text())) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = text.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            if (codePoints[i] == FIELD_SEPARATOR) {
+                continue;
+            }
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length && codePoints[i + 1] != FIELD_SEPARATOR) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String query) {
+        int[] codePoints = query.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    private record Document(String text, String tag) {
+    }
+
+    /**
+     * 검색 결과 - ids는 id 내림차순 상위 일부, total은 색인 기준 전체 일치 건수
+     */
+    public record Hits(List<Long> ids, int total) {
+        static final Hits EMPTY = new Hits(List.of(), 0);
+    }
+}
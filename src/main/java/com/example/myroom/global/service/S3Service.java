@@ -1,6 +1,11 @@
 package com.example.myroom.global.service;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -11,19 +16,36 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
+    // S3 멀티파트 업로드의 최소 파트 크기는 5MB입니다. (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
     private final S3Client s3Client;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    // 이 크기 이상이면 멀티파트 업로드를 사용합니다.
+    @Value("${cloud.aws.s3.multipart-threshold:8388608}")
+    private long multipartThreshold;
+
+    @Value("${cloud.aws.s3.multipart-part-size:5242880}")
+    private long multipartPartSize;
+
     /**
      * 파일을 S3에 업로드하고 URL을 반환합니다.
      *
@@ -45,22 +67,93 @@ public class S3Service {
         String fileName = normalizedPrefix + UUID.randomUUID() + extension;
 
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileName)
-                    .contentType(file.getContentType())
-                    .build();
+            // file.getBytes()로 전체를 힙에 올리지 않고 Multipart 원본(메모리/임시 파일)에서 바로 스트리밍합니다.
+            if (file.getSize() >= multipartThreshold) {
+                uploadMultipart(file, fileName);
+            } else {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileName)
+                        .contentType(file.getContentType())
+                        .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+                s3Client.putObject(putObjectRequest,
+                        RequestBody.fromContentProvider(() -> openStream(file, 0, file.getSize()), file.getSize(), file.getContentType()));
+            }
 
             return "https://" + bucketName + ".s3.amazonaws.com/" + fileName;
 
-        } catch (IOException e) {
+        } catch (UncheckedIOException e) {
             log.error("S3 파일 업로드 실패: {}", e.getMessage(), e);
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
         }
     }
 
+    /**
+     * 큰 파일은 파트 단위로 나누어 업로드합니다.
+     * 각 파트는 원본 스트림을 다시 열어 해당 구간만 읽으므로 파트 크기만큼도 버퍼링하지 않고, 재시도에도 안전합니다.
+     */
+    private void uploadMultipart(MultipartFile file, String key) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(file.getContentType())
+                .build()).uploadId();
+
+        try {
+            long size = file.getSize();
+            long partSize = Math.max(MIN_PART_SIZE, multipartPartSize);
+            List<CompletedPart> completedParts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                long start = offset;
+                long length = Math.min(partSize, size - offset);
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(length)
+                        .build(),
+                        RequestBody.fromContentProvider(() -> openStream(file, start, length), length, file.getContentType()));
+                completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+            log.info("S3 멀티파트 업로드 완료: key={}, size={}, parts={}", key, size, completedParts.size());
+        } catch (RuntimeException e) {
+            // 완료되지 않은 파트가 버킷에 남지 않도록 업로드를 취소합니다.
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException abortException) {
+                log.warn("S3 멀티파트 업로드 취소 실패: key={}, error={}", key, abortException.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 원본의 [offset, offset + length) 구간만 읽는 새 스트림을 엽니다.
+     */
+    private InputStream openStream(MultipartFile file, long offset, long length) {
+        try {
+            InputStream is = file.getInputStream();
+            is.skipNBytes(offset);
+            return new BoundedInputStream(is, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * XML 파일을 S3에 업로드하고 URL을 반환합니다.
      *
@@ -106,6 +199,56 @@ public class S3Service {
         return fileUrl.substring(fileUrl.indexOf(bucketName) + bucketName.length() + 1);
     }
 
+    private static class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
     private String normalizePrefix(String prefix) {
         if (prefix == null || prefix.isBlank()) {
             return "";
@@ -0,0 +1,36 @@
+package com.example.myroom.global.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 인코딩 결과용 가변 버퍼 풀
+ * - 최대 maxPooled개까지만 보관하고, maxRetainedBytes보다 커진 버퍼는 반환 시 버려서 힙 점유를 제한합니다.
+ * - 풀이 비어 있으면 새로 할당하므로 호출 측은 대기하지 않습니다.
+ */
+public class ByteArrayOutputStreamPool {
+    private final BlockingQueue<PooledByteArrayOutputStream> pooled;
+    private final int initialCapacity;
+    private final int maxRetainedBytes;
+
+    public ByteArrayOutputStreamPool(int maxPooled, int initialCapacity, int maxRetainedBytes) {
+        this.pooled = new ArrayBlockingQueue<>(Math.max(1, maxPooled));
+        this.initialCapacity = initialCapacity;
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    public PooledByteArrayOutputStream acquire() {
+        PooledByteArrayOutputStream buffer = pooled.poll();
+        if (buffer == null) {
+            buffer = new PooledByteArrayOutputStream(this, initialCapacity);
+        }
+        buffer.acquire();
+        return buffer;
+    }
+
+    void release(PooledByteArrayOutputStream buffer) {
+        if (buffer.capacity() <= maxRetainedBytes) {
+            pooled.offer(buffer);
+        }
+    }
+}
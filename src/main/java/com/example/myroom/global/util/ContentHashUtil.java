@@ -0,0 +1,45 @@
+package com.example.myroom.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 업로드 원본 내용 기반 SHA-256 해시 유틸
+ * - 전체 바이트를 메모리에 올리지 않고 스트림을 읽으면서 해시를 계산합니다.
+ */
+public final class ContentHashUtil {
+    private static final int BUFFER_SIZE = 8192;
+
+    private ContentHashUtil() {
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 SHA-256 hex 문자열을 반환합니다. 스트림은 닫힙니다.
+     */
+    public static String sha256Hex(InputStream source) throws IOException {
+        MessageDigest digest = newSha256();
+        try (InputStream is = new DigestInputStream(source, digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (is.read(buffer) != -1) {
+                // DigestInputStream이 읽은 바이트를 해시에 반영합니다.
+            }
+        }
+        return toHex(digest);
+    }
+
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
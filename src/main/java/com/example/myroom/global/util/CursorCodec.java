@@ -0,0 +1,61 @@
+package com.example.myroom.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 커서(seek) 페이지네이션용 커서 인코더
+ * - (createdAt, id) 를 "createdAt|id" 로 이어 붙여 URL-safe Base64로 감춥니다. 클라이언트는 값을 해석하지 않고 그대로 돌려보냅니다.
+ * - 목록은 createdAt DESC, id DESC 순서이며, 다음 페이지는 커서보다 뒤(작은 값)의 행부터 읽습니다.
+ */
+public final class CursorCodec {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final char SEPARATOR = '|';
+    // 커서가 없으면(첫 페이지) 모든 행보다 앞에 있는 값으로 시작합니다.
+    private static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private CursorCodec() {
+    }
+
+    public record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 해석합니다. 비어 있으면 첫 페이지 커서를 반환합니다.
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 페이지 크기를 1 ~ MAX_SIZE 로 제한한 Pageable (정렬은 쿼리에 고정)
+     */
+    public static Pageable pageOf(Integer size) {
+        int pageSize = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(MAX_SIZE, size));
+        return PageRequest.ofSize(pageSize);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.myroom.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 개수가 정해진 프로세스 내 LRU 캐시
+ * - 접근 순서 LinkedHashMap 기반이며, 모든 연산은 인스턴스 단위로 동기화됩니다.
+ */
+public class LruCache<K, V> {
+    private final Map<K, V> entries;
+
+    public LruCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.myroom.global.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * 풀에서 재사용되는 ByteArrayOutputStream
+ * - toByteArray() 복사 없이 내부 버퍼를 그대로 읽는 스트림을 제공합니다.
+ * - close() 시 풀로 반환되며, 반환 이후에는 사용하면 안 됩니다.
+ */
+public class PooledByteArrayOutputStream extends ByteArrayOutputStream {
+    private final ByteArrayOutputStreamPool pool;
+    private boolean released;
+
+    PooledByteArrayOutputStream(ByteArrayOutputStreamPool pool, int initialCapacity) {
+        super(initialCapacity);
+        this.pool = pool;
+    }
+
+    /**
+     * 현재까지 기록된 바이트를 복사 없이 읽는 새 스트림 (재시도 시 여러 번 호출 가능)
+     */
+    public synchronized InputStream newInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    synchronized int capacity() {
+        return buf.length;
+    }
+
+    synchronized void acquire() {
+        reset();
+        released = false;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+        }
+        pool.release(this);
+    }
+}
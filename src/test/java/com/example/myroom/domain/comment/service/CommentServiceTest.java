@@ -0,0 +1,78 @@
+package com.example.myroom.domain.comment.service;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.myroom.domain.comment.model.Comment;
+import com.example.myroom.domain.comment.repository.CommentRepository;
+import com.example.myroom.domain.member.model.Member;
+import com.example.myroom.domain.member.repository.MemberRepository;
+import com.example.myroom.domain.post.model.Post;
+import com.example.myroom.domain.post.repository.PostRepository;
+
+@DisplayName("CommentService 댓글 삭제 시 댓글 수 차감")
+class CommentServiceTest {
+    private CommentRepository commentRepository;
+    private PostRepository postRepository;
+    private CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        postRepository = mock(PostRepository.class);
+        commentService = new CommentService(commentRepository, mock(MemberRepository.class), postRepository);
+    }
+
+    @Test
+    @DisplayName("대댓글이 달린 댓글을 지우면 함께 삭제되는 대댓글 수까지 게시글 댓글 수에서 뺀다")
+    void subtractsCascadedRepliesWithParent() {
+        Member writer = member(1L);
+        Post post = Post.builder().member(writer).title("방 꾸미기").content("내용").build();
+        ReflectionTestUtils.setField(post, "id", 10L);
+        Comment parent = Comment.builder().member(writer).post(post).content("부모 댓글").build();
+        ReflectionTestUtils.setField(parent, "id", 100L);
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(parent));
+        // 다른 회원의 대댓글 2개와 그 대댓글에 달린 대댓글 1개
+        when(commentRepository.countDescendantsById(100L)).thenReturn(3L);
+
+        commentService.deleteComment(100L, 1L);
+
+        // 삭제 전에 하위 댓글을 세고, 부모 1 + 하위 3 = 4를 뺍니다.
+        InOrder inOrder = inOrder(commentRepository, postRepository);
+        inOrder.verify(commentRepository).countDescendantsById(100L);
+        inOrder.verify(commentRepository).delete(parent);
+        inOrder.verify(postRepository).addCommentCount(10L, -4);
+    }
+
+    @Test
+    @DisplayName("대댓글이 없는 댓글은 1만 뺀다")
+    void subtractsOneWithoutReplies() {
+        Member writer = member(1L);
+        Post post = Post.builder().member(writer).title("방 꾸미기").content("내용").build();
+        ReflectionTestUtils.setField(post, "id", 10L);
+        Comment reply = Comment.builder().member(writer).post(post).content("대댓글").build();
+        ReflectionTestUtils.setField(reply, "id", 101L);
+        when(commentRepository.findById(101L)).thenReturn(Optional.of(reply));
+
+        commentService.deleteComment(101L, 1L);
+
+        InOrder inOrder = inOrder(commentRepository, postRepository);
+        inOrder.verify(commentRepository).delete(reply);
+        inOrder.verify(postRepository).addCommentCount(10L, -1);
+    }
+
+    private Member member(Long id) {
+        Member member = Member.builder().name("작성자").email("writer@example.com").password("password").build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.myroom.domain.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ImageResizer 디코딩 상한/서브샘플링/캔버스 재사용")
+class ImageResizerTest {
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+    private static final long MAX_DECODED_PIXELS = 8_388_608L;
+
+    private ImageEncoder imageEncoder;
+    // 인코더에 전달된 캔버스의 복사본 (캔버스는 재사용되므로 호출 시점의 픽셀을 보관)
+    private final List<BufferedImage> trainingImages = new ArrayList<>();
+    private final List<BufferedImage> thumbnailImages = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        imageEncoder = mock(ImageEncoder.class);
+        when(imageEncoder.encodeTraining(any())).thenAnswer(invocation -> {
+            trainingImages.add(copyOf(invocation.getArgument(0)));
+            return null;
+        });
+        when(imageEncoder.encodeThumbnail(any())).thenAnswer(invocation -> {
+            thumbnailImages.add(copyOf(invocation.getArgument(0)));
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("헤더의 해상도가 max-source-pixels를 넘으면 디코딩하지 않고 거절한다")
+    void rejectsSourceOverMaxSourcePixels() throws IOException {
+        ImageResizer imageResizer = new ImageResizer(imageEncoder, 1_000, MAX_DECODED_PIXELS);
+
+        assertThatThrownBy(() -> imageResizer.resizeFor3D(png(40, 30, Color.RED)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("40x30");
+        verifyNoInteractions(imageEncoder);
+    }
+
+    @Test
+    @DisplayName("캔버스 이상을 유지하는 배율로 서브샘플링하고, max-decoded-pixels를 넘으면 배율을 더 올린다")
+    void raisesSubsamplingUntilDecodedPixelsFit() {
+        ImageResizer defaultLimit = new ImageResizer(imageEncoder, MAX_SOURCE_PIXELS, MAX_DECODED_PIXELS);
+        // 6000x4000 → 5배 → 1200x800
+        assertThat(defaultLimit.subsamplingFor(6000, 4000, 1024)).isEqualTo(5);
+        // 캔버스보다 작은 원본은 서브샘플링하지 않습니다.
+        assertThat(defaultLimit.subsamplingFor(800, 600, 1024)).isEqualTo(1);
+
+        // 5배(1200x800=960,000), 6배(1000x667=667,000)는 상한 초과 → 7배(858x572=490,776)
+        ImageResizer tightLimit = new ImageResizer(imageEncoder, MAX_SOURCE_PIXELS, 500_000);
+        assertThat(tightLimit.subsamplingFor(6000, 4000, 1024)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("서브샘플링해서 디코딩해도 출력은 1024/512 정사각 캔버스이고 원본 종횡비를 유지해 중앙에 놓인다")
+    void keepsCanvasSizeAndAspectRatioAfterSubsampling() throws IOException {
+        ImageResizer imageResizer = new ImageResizer(imageEncoder, MAX_SOURCE_PIXELS, MAX_DECODED_PIXELS);
+
+        // 3000x1500(2:1) → 2배 서브샘플링(1500x750) → 1024x512로 그려 위아래 256px 여백
+        imageResizer.resizeFor3D(png(3000, 1500, Color.RED));
+
+        BufferedImage training = trainingImages.get(0);
+        assertThat(training.getWidth()).isEqualTo(ImageResizer.TRAINING_CANVAS_SIZE);
+        assertThat(training.getHeight()).isEqualTo(ImageResizer.TRAINING_CANVAS_SIZE);
+        assertThat(opaqueRows(training, 512)).isBetween(510, 514);
+        assertThat(isTransparent(training, 512, 200)).isTrue();
+        assertThat(isTransparent(training, 512, 830)).isTrue();
+        assertThat(rgb(training, 512, 512)).isEqualTo(Color.RED.getRGB());
+
+        BufferedImage thumbnail = thumbnailImages.get(0);
+        assertThat(thumbnail.getWidth()).isEqualTo(ImageResizer.THUMBNAIL_CANVAS_SIZE);
+        assertThat(thumbnail.getHeight()).isEqualTo(ImageResizer.THUMBNAIL_CANVAS_SIZE);
+        assertThat(opaqueRows(thumbnail, 256)).isBetween(254, 258);
+        assertThat(isTransparent(thumbnail, 256, 100)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 연달아 호출해도 이전 요청의 픽셀이 재사용 캔버스에 남지 않는다")
+    void doesNotLeakPixelsBetweenCallsOnSameThread() throws IOException {
+        ImageResizer imageResizer = new ImageResizer(imageEncoder, MAX_SOURCE_PIXELS, MAX_DECODED_PIXELS);
+
+        // 가로로 긴 빨간 이미지 → 세로로 긴 파란 이미지
+        imageResizer.resizeFor3D(png(2048, 1024, Color.RED));
+        imageResizer.resizeFor3D(png(1024, 2048, Color.BLUE));
+
+        BufferedImage training = trainingImages.get(1);
+        // 첫 요청에서 빨간색이 그려졌던 좌우 영역은 투명해야 합니다.
+        assertThat(isTransparent(training, 100, 512)).isTrue();
+        assertThat(isTransparent(training, 923, 512)).isTrue();
+        assertThat(rgb(training, 512, 512)).isEqualTo(Color.BLUE.getRGB());
+        assertThat(opaqueColumns(training, 512)).isBetween(510, 514);
+
+        // 512 썸네일은 두 번째 요청의 1024 캔버스를 축소한 것이어야 합니다.
+        BufferedImage thumbnail = thumbnailImages.get(1);
+        assertThat(isTransparent(thumbnail, 50, 256)).isTrue();
+        assertThat(isTransparent(thumbnail, 461, 256)).isTrue();
+        assertThat(rgb(thumbnail, 256, 256)).isEqualTo(Color.BLUE.getRGB());
+        assertThat(opaqueColumns(thumbnail, 256)).isBetween(254, 258);
+    }
+
+    @Test
+    @DisplayName("단독 썸네일 변환도 요청한 크기의 캔버스에 그린다")
+    void resizesToRequestedThumbnailCanvas() throws IOException {
+        ImageResizer imageResizer = new ImageResizer(imageEncoder, MAX_SOURCE_PIXELS, MAX_DECODED_PIXELS);
+
+        imageResizer.resizeToThumbnail(png(1200, 900, Color.GREEN), 256);
+
+        BufferedImage thumbnail = thumbnailImages.get(0);
+        assertThat(thumbnail.getWidth()).isEqualTo(256);
+        assertThat(thumbnail.getHeight()).isEqualTo(256);
+        // 4:3 → 256x192, 위아래 32px 여백
+        assertThat(opaqueRows(thumbnail, 128)).isBetween(190, 194);
+    }
+
+    private InputStream png(int width, int height, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(color);
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static BufferedImage copyOf(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        copy.setData(image.getData());
+        return copy;
+    }
+
+    private static int rgb(BufferedImage image, int x, int y) {
+        return image.getRGB(x, y);
+    }
+
+    private static boolean isTransparent(BufferedImage image, int x, int y) {
+        return (image.getRGB(x, y) >>> 24) == 0;
+    }
+
+    private static int opaqueRows(BufferedImage image, int x) {
+        int count = 0;
+        for (int y = 0; y < image.getHeight(); y++) {
+            if (!isTransparent(image, x, y)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int opaqueColumns(BufferedImage image, int y) {
+        int count = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            if (!isTransparent(image, x, y)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
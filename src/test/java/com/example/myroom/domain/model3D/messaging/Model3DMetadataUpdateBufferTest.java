@@ -0,0 +1,107 @@
+package com.example.myroom.domain.model3D.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.myroom.domain.model3D.dto.message.Model3DMetadataUpdateMessage;
+
+@DisplayName("Model3DMetadataUpdateBuffer 병합/발행 시점")
+class Model3DMetadataUpdateBufferTest {
+    private Model3DProducer model3DProducer;
+
+    @BeforeEach
+    void setUp() {
+        model3DProducer = mock(Model3DProducer.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 모델의 연속 변경은 마지막 값 하나로 합치고, 처음 들어온 순서를 유지한다")
+    void coalescesUpdatesPerModel() {
+        Model3DMetadataUpdateBuffer buffer = new Model3DMetadataUpdateBuffer(model3DProducer, 0, 10_000, 100);
+        buffer.add(1L, 10L, "의자", null, false);
+        buffer.add(2L, 10L, "책상", null, false);
+        buffer.add(1L, 10L, "의자 v2", "설명", true);
+
+        buffer.flushIfDue();
+
+        List<Model3DMetadataUpdateMessage> updates = captureSent();
+        assertThat(updates).extracting(Model3DMetadataUpdateMessage::getModel3dId).containsExactly(1L, 2L);
+        assertThat(updates.get(0).getName()).isEqualTo("의자 v2");
+        assertThat(updates.get(0).getIsShared()).isTrue();
+    }
+
+    @Test
+    @DisplayName("quiet period와 max delay가 지나지 않았으면 발행하지 않는다")
+    void waitsForQuietPeriod() {
+        Model3DMetadataUpdateBuffer buffer = new Model3DMetadataUpdateBuffer(model3DProducer, 60_000, 60_000, 100);
+        buffer.add(1L, 10L, "의자", null, false);
+
+        buffer.flushIfDue();
+
+        verify(model3DProducer, never()).sendMetadataBatchUpdateMessage(anyList());
+    }
+
+    @Test
+    @DisplayName("커밋 이후 콜백에서 batch-size에 도달해도 바로 발행하지 않고, 다음 점검 때 발행한다")
+    void defersFullBatchFromAfterCommitToScheduler() {
+        Model3DMetadataUpdateBuffer buffer = new Model3DMetadataUpdateBuffer(model3DProducer, 60_000, 60_000, 2);
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.add(1L, 10L, "의자", null, false);
+        buffer.add(2L, 10L, "책상", null, false);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        verify(model3DProducer, never()).sendMetadataBatchUpdateMessage(anyList());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(model3DProducer, never()).sendMetadataBatchUpdateMessage(anyList());
+
+        buffer.flushIfDue();
+
+        assertThat(captureSent()).extracting(Model3DMetadataUpdateMessage::getModel3dId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 변경을 다시 버퍼에 넣어 다음 점검 때 발행한다")
+    void requeuesOnFailure() {
+        Model3DMetadataUpdateBuffer buffer = new Model3DMetadataUpdateBuffer(model3DProducer, 0, 10_000, 100);
+        doThrow(new IllegalStateException("db down")).doNothing()
+                .when(model3DProducer).sendMetadataBatchUpdateMessage(anyList());
+        buffer.add(1L, 10L, "의자", null, false);
+
+        buffer.flushIfDue();
+        buffer.flushIfDue();
+
+        verify(model3DProducer, times(2)).sendMetadataBatchUpdateMessage(anyList());
+        buffer.flushIfDue();
+        verify(model3DProducer, times(2)).sendMetadataBatchUpdateMessage(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Model3DMetadataUpdateMessage> captureSent() {
+        ArgumentCaptor<List<Model3DMetadataUpdateMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(model3DProducer).sendMetadataBatchUpdateMessage(captor.capture());
+        return captor.getValue();
+    }
+}
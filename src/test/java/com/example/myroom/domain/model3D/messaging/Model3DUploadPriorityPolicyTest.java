@@ -0,0 +1,82 @@
+package com.example.myroom.domain.model3D.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.myroom.domain.model3D.model.Model3DUploadPriority;
+import com.example.myroom.domain.model3D.repository.Model3DRepository;
+
+@DisplayName("Model3DUploadPriorityPolicy 회원별 우선순위 조정")
+class Model3DUploadPriorityPolicyTest {
+    private Model3DRepository model3DRepository;
+    private Model3DUploadPriorityPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        model3DRepository = mock(Model3DRepository.class);
+        policy = new Model3DUploadPriorityPolicy(model3DRepository, 2, 30, 15);
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청이 fair-share 이하이면 요청 종류의 기본 우선순위를 그대로 쓴다")
+    void keepsRequestedPriorityWithinFairShare() {
+        pending(2);
+
+        assertThat(policy.resolve(1L, Model3DUploadPriority.INTERACTIVE)).isEqualTo(8);
+        assertThat(policy.resolve(1L, Model3DUploadPriority.MULTI_VIEW)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("fair-share를 넘으면 fair-share 개수마다 한 단계씩 낮춘다")
+    void demotesOneLevelPerFairShare() {
+        pending(3);
+        assertThat(policy.resolve(1L, Model3DUploadPriority.INTERACTIVE)).isEqualTo(7);
+
+        pending(4);
+        assertThat(policy.resolve(1L, Model3DUploadPriority.INTERACTIVE)).isEqualTo(7);
+
+        pending(5);
+        assertThat(policy.resolve(1L, Model3DUploadPriority.INTERACTIVE)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("아무리 많이 밀려 있어도 BULK 우선순위보다 낮아지지 않는다")
+    void neverDemotesBelowBulk() {
+        pending(1_000);
+
+        assertThat(policy.resolve(1L, Model3DUploadPriority.INTERACTIVE)).isEqualTo(Model3DUploadPriority.BULK.getPriority());
+        assertThat(policy.resolve(1L, Model3DUploadPriority.BULK)).isEqualTo(Model3DUploadPriority.BULK.getPriority());
+    }
+
+    @Test
+    @DisplayName("리퍼와 같은 기준 시각으로 시간 초과된 요청은 대기 개수에서 뺀다")
+    void countsOnlyRequestsWithinReaperCutoff() {
+        pending(1);
+
+        policy.resolve(7L, Model3DUploadPriority.INTERACTIVE);
+
+        ArgumentCaptor<LocalDateTime> processingCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> uploadingCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(model3DRepository).countPendingByCreatorId(eq(7L), processingCutoff.capture(), uploadingCutoff.capture());
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(processingCutoff.getValue()).isCloseTo(now.minusMinutes(30), within(5, ChronoUnit.SECONDS));
+        assertThat(uploadingCutoff.getValue()).isCloseTo(now.minusMinutes(15), within(5, ChronoUnit.SECONDS));
+    }
+
+    private void pending(long count) {
+        when(model3DRepository.countPendingByCreatorId(any(), any(), any())).thenReturn(count);
+    }
+}
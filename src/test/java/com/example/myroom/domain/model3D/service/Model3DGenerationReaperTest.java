@@ -0,0 +1,162 @@
+package com.example.myroom.domain.model3D.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.model3D.dto.message.Model3DGenerationResponse;
+import com.example.myroom.domain.model3D.messaging.Model3DProducer;
+import com.example.myroom.domain.model3D.model.Model3D;
+import com.example.myroom.domain.model3D.model.Model3DUploadPriority;
+import com.example.myroom.domain.model3D.repository.Model3DRepository;
+import com.example.myroom.domain.socket.service.WebSocketNotificationService;
+import com.example.myroom.global.scheduling.SchedulerLeaseLock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Model3DGenerationReaper 재요청/실패 처리")
+class Model3DGenerationReaperTest {
+    private Model3DRepository model3DRepository;
+    private Model3DProducer model3DProducer;
+    private WebSocketNotificationService webSocketNotificationService;
+    private SchedulerLeaseLock schedulerLeaseLock;
+    private Model3DGenerationReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        model3DRepository = mock(Model3DRepository.class);
+        model3DProducer = mock(Model3DProducer.class);
+        webSocketNotificationService = mock(WebSocketNotificationService.class);
+        schedulerLeaseLock = mock(SchedulerLeaseLock.class);
+        when(schedulerLeaseLock.runExclusively(any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+        when(model3DRepository.findTimedOut(any(), any(), anyLong(), any())).thenReturn(List.of());
+
+        reaper = new Model3DGenerationReaper(model3DRepository, model3DProducer, webSocketNotificationService,
+                schedulerLeaseLock, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(reaper, "processingSlaMinutes", 30L);
+        ReflectionTestUtils.setField(reaper, "uploadingSlaMinutes", 15L);
+        ReflectionTestUtils.setField(reaper, "maxAttempts", 2);
+        ReflectionTestUtils.setField(reaper, "pageSize", 100);
+        ReflectionTestUtils.setField(reaper, "maxPages", 20);
+        ReflectionTestUtils.setField(reaper, "leaseSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("재요청 횟수가 max-attempts 미만인 PROCESSING 모델은 RETRY 우선순위로 다시 요청한다")
+    void resubmitsBelowMaxAttempts() {
+        Model3D model3D = model3D(1L, "PROCESSING", 1, "[\"https://s3/training-1.png\"]");
+        timedOut("PROCESSING", model3D);
+
+        reaper.reap();
+
+        verify(model3DProducer).sendModel3DUploadMessage(eq("https://s3/training-1.png"), eq(7L), eq(1L), any(), any(),
+                eq(Model3DUploadPriority.RETRY));
+        assertThat(model3D.getStatus()).isEqualTo("PROCESSING");
+        assertThat(model3D.getGenerationAttempts()).isEqualTo(2);
+        assertThat(model3D.getResubmittedAt()).isNotNull();
+        verify(webSocketNotificationService, never()).sendModel3DGenerationNotification(any());
+    }
+
+    @Test
+    @DisplayName("멀티뷰 모델은 학습 이미지 목록 전체로 다시 요청한다")
+    void resubmitsMultiViewWithAllImages() {
+        Model3D model3D = model3D(2L, "PROCESSING", 0, "[\"https://s3/a.png\",\"https://s3/b.png\"]");
+        timedOut("PROCESSING", model3D);
+
+        reaper.reap();
+
+        verify(model3DProducer).sendModel3DMultiUploadMessage(eq(List.of("https://s3/a.png", "https://s3/b.png")),
+                eq(7L), eq(2L), any(), any(), eq(Model3DUploadPriority.RETRY));
+    }
+
+    @Test
+    @DisplayName("max-attempts 번 다시 요청한 모델은 더 보내지 않고 FAILED로 바꾼 뒤 알린다")
+    void failsAtMaxAttempts() {
+        Model3D model3D = model3D(3L, "PROCESSING", 2, "[\"https://s3/training-3.png\"]");
+        timedOut("PROCESSING", model3D);
+
+        reaper.reap();
+
+        verify(model3DProducer, never()).sendModel3DUploadMessage(any(), any(), any(), any(), any(), any());
+        assertThat(model3D.getStatus()).isEqualTo("FAILED");
+        ArgumentCaptor<Model3DGenerationResponse> notification = ArgumentCaptor.forClass(Model3DGenerationResponse.class);
+        verify(webSocketNotificationService).sendModel3DGenerationNotification(notification.capture());
+        assertThat(notification.getValue().getModel3dId()).isEqualTo(3L);
+        assertThat(notification.getValue().getStatus()).isEqualTo("FAILED");
+    }
+
+    @Test
+    @DisplayName("다시 보낼 학습 이미지가 없으면 시도 횟수가 남아도 FAILED로 바꾼다")
+    void failsWithoutTrainingImages() {
+        Model3D model3D = model3D(4L, "PROCESSING", 0, null);
+        timedOut("PROCESSING", model3D);
+
+        reaper.reap();
+
+        assertThat(model3D.getStatus()).isEqualTo("FAILED");
+        verify(webSocketNotificationService).sendModel3DGenerationNotification(any());
+    }
+
+    @Test
+    @DisplayName("UPLOADING 모델은 다시 보낼 수 없으므로 바로 FAILED로 바꾸고 업로드 실패로 알린다")
+    void failsUploadingImmediately() {
+        Model3D model3D = model3D(5L, "UPLOADING", 0, null);
+        timedOut("UPLOADING", model3D);
+
+        reaper.reap();
+
+        assertThat(model3D.getStatus()).isEqualTo("FAILED");
+        verify(webSocketNotificationService).sendModel3DUploadProgressNotification(eq(7L), eq(5L), eq("FAILED"), any(), any());
+    }
+
+    @Test
+    @DisplayName("상태별 SLA를 기준 시각으로 조회한다")
+    void usesSlaPerStatusAsCutoff() {
+        reaper.reap();
+
+        ArgumentCaptor<LocalDateTime> processingCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> uploadingCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(model3DRepository).findTimedOut(eq("PROCESSING"), processingCutoff.capture(), eq(0L), any());
+        verify(model3DRepository).findTimedOut(eq("UPLOADING"), uploadingCutoff.capture(), eq(0L), any());
+        assertThat(Duration.between(processingCutoff.getValue(), uploadingCutoff.getValue())).isEqualTo(Duration.ofMinutes(15));
+    }
+
+    private void timedOut(String status, Model3D model3D) {
+        when(model3DRepository.findTimedOut(eq(status), any(), eq(0L), any())).thenReturn(List.of(model3D));
+    }
+
+    private Model3D model3D(Long id, String status, int generationAttempts, String trainingImageUrls) {
+        Model3D model3D = Model3D.builder()
+                .name("의자")
+                .creatorId(7L)
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .trainingImageUrls(trainingImageUrls)
+                .build();
+        ReflectionTestUtils.setField(model3D, "id", id);
+        ReflectionTestUtils.setField(model3D, "generationAttempts", generationAttempts);
+        model3D.updateStatus(status);
+        return model3D;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.myroom.domain.model3D.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.bookmark.repository.Model3DBookmarkRepository;
+import com.example.myroom.domain.comment.repository.CommentRepository;
+import com.example.myroom.domain.image.ImageUploadService;
+import com.example.myroom.domain.image.ImageUploadSpool;
+import com.example.myroom.domain.image.S3ImageUploadService;
+import com.example.myroom.domain.model3D.messaging.Model3DMetadataUpdateBuffer;
+import com.example.myroom.domain.model3D.messaging.Model3DProducer;
+import com.example.myroom.domain.model3D.repository.Model3DRepository;
+import com.example.myroom.domain.model3D.repository.ModelDimensionsRepository;
+import com.example.myroom.domain.post.like.repository.PostLikeRepository;
+import com.example.myroom.domain.post.repository.PostRepository;
+import com.example.myroom.domain.post.service.PostSearchIndex;
+import com.example.myroom.domain.recommand.repository.RecommandResultRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("Model3DService 3D 모델 일괄 삭제")
+class Model3DServiceTest {
+    private Model3DRepository model3DRepository;
+    private ModelDimensionsRepository modelDimensionsRepository;
+    private Model3DBookmarkRepository model3DBookmarkRepository;
+    private PostRepository postRepository;
+    private CommentRepository commentRepository;
+    private PostLikeRepository postLikeRepository;
+    private RecommandResultRepository recommandResultRepository;
+    private Model3DProducer model3DProducer;
+    private Model3DSearchIndex model3DSearchIndex;
+    private PostSearchIndex postSearchIndex;
+    private Model3DService model3DService;
+
+    @BeforeEach
+    void setUp() {
+        model3DRepository = mock(Model3DRepository.class);
+        modelDimensionsRepository = mock(ModelDimensionsRepository.class);
+        model3DBookmarkRepository = mock(Model3DBookmarkRepository.class);
+        postRepository = mock(PostRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        postLikeRepository = mock(PostLikeRepository.class);
+        recommandResultRepository = mock(RecommandResultRepository.class);
+        model3DProducer = mock(Model3DProducer.class);
+        model3DSearchIndex = mock(Model3DSearchIndex.class);
+        postSearchIndex = mock(PostSearchIndex.class);
+        model3DService = new Model3DService(model3DRepository, modelDimensionsRepository, model3DBookmarkRepository,
+                postRepository, commentRepository, postLikeRepository, recommandResultRepository,
+                mock(ImageUploadService.class), mock(S3ImageUploadService.class), mock(ImageUploadSpool.class),
+                mock(Model3DUploadPipeline.class), model3DProducer, mock(Model3DMetadataUpdateBuffer.class),
+                model3DSearchIndex, postSearchIndex, new ObjectMapper(), mock(TransactionTemplate.class));
+        ReflectionTestUtils.setField(model3DService, "deleteInChunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("게시글(댓글/대댓글/좋아요/이미지)을 먼저 지우고, 북마크/추천 연결/치수를 지운 뒤 모델을 지운다")
+    void deletesChildRowsBeforeParents() {
+        when(model3DRepository.findVectorDbTrainedIdsByIdIn(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(postRepository.findIdsByModel3DIdIn(List.of(1L, 2L))).thenReturn(List.of(10L, 11L));
+
+        model3DService.deleteModel3Ds(List.of(1L, 2L), 7L);
+
+        InOrder inOrder = inOrder(commentRepository, postLikeRepository, postRepository, model3DBookmarkRepository,
+                recommandResultRepository, modelDimensionsRepository, model3DRepository);
+        // 대댓글의 부모 참조(self FK)를 먼저 끊어야 댓글을 한 번에 지울 수 있습니다.
+        inOrder.verify(commentRepository).detachRepliesByPostIdIn(List.of(10L, 11L));
+        inOrder.verify(commentRepository).bulkDeleteByPostIdIn(List.of(10L, 11L));
+        inOrder.verify(postLikeRepository).bulkDeleteByPostIdIn(List.of(10L, 11L));
+        inOrder.verify(postRepository).deleteImageUrlsByPostIdIn(List.of(10L, 11L));
+        inOrder.verify(postRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+        // 모델을 참조하는 행을 모두 지운 뒤에 모델을 지웁니다.
+        inOrder.verify(model3DBookmarkRepository).bulkDeleteByModel3DIdIn(List.of(1L, 2L));
+        inOrder.verify(recommandResultRepository).deleteModel3DLinksIn(List.of(1L, 2L));
+        inOrder.verify(modelDimensionsRepository).bulkDeleteByModel3DIdIn(List.of(1L, 2L));
+        inOrder.verify(model3DRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+
+        // 검색 색인은 커밋 이후에 제거하고, VectorDB 삭제 메시지는 학습된 모델만 보냅니다.
+        verify(postSearchIndex).removeAfterCommit(List.of(10L, 11L));
+        verify(model3DSearchIndex).removeAfterCommit(List.of(1L, 2L));
+        verify(model3DProducer).sendDeleteMessage(List.of(1L), 7L);
+    }
+
+    @Test
+    @DisplayName("청크마다 연관 데이터를 지우고, 학습된 모델의 삭제 메시지는 모아서 한 번에 보낸다")
+    void deletesPerChunkAndSendsOneDeleteMessage() {
+        when(model3DRepository.findVectorDbTrainedIdsByIdIn(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(model3DRepository.findVectorDbTrainedIdsByIdIn(List.of(3L))).thenReturn(List.of(3L));
+        when(postRepository.findIdsByModel3DIdIn(List.of(1L, 2L))).thenReturn(List.of(10L));
+        when(postRepository.findIdsByModel3DIdIn(List.of(3L))).thenReturn(List.of());
+
+        model3DService.deleteModel3Ds(List.of(1L, 2L, 3L), 7L);
+
+        verify(model3DRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(model3DRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(model3DBookmarkRepository).bulkDeleteByModel3DIdIn(List.of(3L));
+        verify(modelDimensionsRepository).bulkDeleteByModel3DIdIn(List.of(3L));
+        verify(recommandResultRepository).deleteModel3DLinksIn(List.of(3L));
+        // 게시글이 없는 청크는 게시글 관련 DELETE를 실행하지 않습니다.
+        verify(commentRepository, never()).bulkDeleteByPostIdIn(List.of());
+        verify(model3DProducer).sendDeleteMessage(List.of(1L, 3L), 7L);
+    }
+
+    @Test
+    @DisplayName("학습된 모델이 없으면 VectorDB 삭제 메시지를 보내지 않고, 빈 목록은 아무것도 하지 않는다")
+    void skipsDeleteMessageWithoutTrainedModels() {
+        when(postRepository.findIdsByModel3DIdIn(anyList())).thenReturn(List.of());
+
+        model3DService.deleteModel3Ds(List.of(1L), 7L);
+        model3DService.deleteModel3Ds(List.of(), 7L);
+
+        verify(model3DProducer, never()).sendDeleteMessage(anyList(), any());
+        verify(model3DRepository).deleteAllByIdInBatch(List.of(1L));
+        verifyNoInteractions(commentRepository, postLikeRepository);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.myroom.domain.model3D.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.image.ImageUploadSpool;
+import com.example.myroom.domain.image.S3ImageUploadService;
+import com.example.myroom.domain.model3D.messaging.Model3DProducer;
+import com.example.myroom.domain.model3D.repository.Model3DRepository;
+import com.example.myroom.domain.socket.service.WebSocketNotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("Model3DUploadPipeline 업로드 실패 처리")
+class Model3DUploadPipelineTest {
+    private Model3DRepository model3DRepository;
+    private WebSocketNotificationService webSocketNotificationService;
+    private Model3DUploadPipeline model3DUploadPipeline;
+
+    @BeforeEach
+    void setUp() {
+        model3DRepository = mock(Model3DRepository.class);
+        webSocketNotificationService = mock(WebSocketNotificationService.class);
+        model3DUploadPipeline = new Model3DUploadPipeline(mock(S3ImageUploadService.class), mock(ImageUploadSpool.class),
+                model3DRepository, mock(Model3DProducer.class), webSocketNotificationService, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    @DisplayName("아직 UPLOADING인 모델은 FAILED로 바꾸고 실패를 알린다")
+    void marksUploadingModelAsFailed() {
+        when(model3DRepository.markFailedIfUploading(eq(1L), anyString())).thenReturn(1);
+
+        model3DUploadPipeline.fail(1L, 7L, new IllegalStateException("S3 timeout"));
+
+        verify(model3DRepository).markFailedIfUploading(1L, "이미지 업로드 실패: S3 timeout");
+        verify(webSocketNotificationService).sendModel3DUploadProgressNotification(
+                eq(7L), eq(1L), eq("FAILED"), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("그 사이 생성 요청이 나갔거나 리퍼가 정리한 모델은 덮어쓰지 않고 FAILED도 알리지 않는다")
+    void skipsModelWhoseStatusAlreadyChanged() {
+        when(model3DRepository.markFailedIfUploading(eq(1L), anyString())).thenReturn(0);
+
+        model3DUploadPipeline.fail(1L, 7L, new IllegalStateException("late failure"));
+
+        verify(model3DRepository, never()).save(any());
+        verify(webSocketNotificationService, never()).sendModel3DUploadProgressNotification(
+                any(), any(), eq("FAILED"), any(), any());
+    }
+}
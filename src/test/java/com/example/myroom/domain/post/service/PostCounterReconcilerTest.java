@@ -0,0 +1,106 @@
+package com.example.myroom.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.post.repository.PostRepository;
+import com.example.myroom.global.scheduling.SchedulerLeaseLock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("PostCounterReconciler 좋아요/댓글 수 보정")
+class PostCounterReconcilerTest {
+    private PostRepository postRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private PostCounterReconciler reconciler;
+    // 게시글 id -> {저장된 댓글 수, 실제 댓글 행 수}
+    private final Map<Long, long[]> commentCounts = new TreeMap<>();
+    // 보정 쿼리가 호출된 id 범위
+    private final List<long[]> ranges = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        SchedulerLeaseLock schedulerLeaseLock = mock(SchedulerLeaseLock.class);
+        when(schedulerLeaseLock.runExclusively(any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+        // 범위 안에서 저장된 값과 실제 행 수가 다른 게시글만 고치고 고친 건수를 반환합니다.
+        when(postRepository.reconcileCountersBetween(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long from = invocation.getArgument(0);
+            long to = invocation.getArgument(1);
+            ranges.add(new long[] {from, to});
+            int updated = 0;
+            for (Map.Entry<Long, long[]> entry : commentCounts.entrySet()) {
+                long[] counts = entry.getValue();
+                if (entry.getKey() >= from && entry.getKey() <= to && counts[0] != counts[1]) {
+                    counts[0] = counts[1];
+                    updated++;
+                }
+            }
+            return updated;
+        });
+
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new PostCounterReconciler(postRepository, schedulerLeaseLock,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+        ReflectionTestUtils.setField(reconciler, "chunkSize", 2L);
+        ReflectionTestUtils.setField(reconciler, "leaseSeconds", 1800L);
+    }
+
+    @Test
+    @DisplayName("실제 행 수와 어긋난 게시글의 댓글 수를 고치고 고친 건수를 지표로 남긴다")
+    void repairsDriftedCounters() {
+        commentCounts.put(1L, new long[] {3, 3});
+        // 대댓글 일괄 삭제로 실제보다 많이 남은 댓글 수
+        commentCounts.put(2L, new long[] {5, 2});
+        commentCounts.put(3L, new long[] {0, 0});
+        commentCounts.put(5L, new long[] {-1, 0});
+        when(postRepository.findMaxId()).thenReturn(5L);
+
+        reconciler.reconcile();
+
+        assertThat(commentCounts.get(2L)[0]).isEqualTo(2);
+        assertThat(commentCounts.get(5L)[0]).isZero();
+        assertThat(commentCounts.get(1L)[0]).isEqualTo(3);
+        assertThat(meterRegistry.counter("post.counter.reconciled").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("최대 id까지 chunk-size 범위로 나눠 보정한다")
+    void reconcilesInChunksUpToMaxId() {
+        when(postRepository.findMaxId()).thenReturn(5L);
+
+        reconciler.reconcile();
+
+        assertThat(ranges).containsExactly(new long[] {1, 2}, new long[] {3, 4}, new long[] {5, 6});
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 보정 쿼리를 실행하지 않는다")
+    void skipsWithoutPosts() {
+        when(postRepository.findMaxId()).thenReturn(null);
+
+        reconciler.reconcile();
+
+        verify(postRepository, never()).reconcileCountersBetween(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.myroom.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.domain.post.repository.PostRepository;
+
+@DisplayName("PostViewCountBuffer 동시 증가/반영")
+class PostViewCountBufferTest {
+    private static final int POSTS = 4;
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 20_000;
+
+    private PostRepository postRepository;
+    private PostViewCountBuffer buffer;
+    // DB에 반영된 조회수 (postId -> 누적 증가분)
+    private final Map<Long, LongAdder> flushed = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        buffer = new PostViewCountBuffer(postRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    @DisplayName("증가와 반영이 동시에 일어나도 조회수가 유실되거나 두 번 반영되지 않는다")
+    void conservesTotalUnderConcurrentIncrementAndFlush() throws Exception {
+        recordFlushes(0);
+
+        runConcurrently();
+
+        for (long postId = 1; postId <= POSTS; postId++) {
+            assertThat(flushed.get(postId).sum()).isEqualTo((long) THREADS * INCREMENTS_PER_THREAD / POSTS);
+            assertThat(buffer.pendingCount(postId)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("반영이 간헐적으로 실패해도 실패한 증가분은 다음 주기에 다시 반영되어 합계가 보존된다")
+    void conservesTotalWhenFlushFailsIntermittently() throws Exception {
+        recordFlushes(3);
+
+        runConcurrently();
+
+        long total = flushed.values().stream().mapToLong(LongAdder::sum).sum();
+        assertThat(total).isEqualTo((long) THREADS * INCREMENTS_PER_THREAD);
+    }
+
+    /**
+     * failEvery가 0보다 크면 failEvery번째 반영마다 예외를 던집니다. (반영하지 않음)
+     */
+    private void recordFlushes(int failEvery) {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (failEvery > 0 && calls.incrementAndGet() % failEvery == 0) {
+                throw new IllegalStateException("DB 일시 장애");
+            }
+            Map<Long, Long> increments = invocation.getArgument(0);
+            increments.forEach((postId, delta) -> flushed.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            return null;
+        }).when(postRepository).incrementViewCounts(anyMap());
+    }
+
+    private void runConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean incrementing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> incrementers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                incrementers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                        buffer.increment((long) (i % POSTS) + 1);
+                    }
+                    return null;
+                }));
+            }
+            // 증가가 진행되는 동안 반영 스케줄러처럼 계속 flush 합니다.
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (incrementing.get()) {
+                    buffer.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> incrementer : incrementers) {
+                incrementer.get(30, TimeUnit.SECONDS);
+            }
+            incrementing.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 남은 증가분(실패 후 되돌린 것 포함)을 모두 반영합니다.
+        for (int i = 0; i < 10; i++) {
+            buffer.flush();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.myroom.domain.recommand.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.example.myroom.domain.recommand.dto.message.RecommandResponseMessage;
+import com.example.myroom.domain.recommand.service.RecommandService;
+import com.example.myroom.domain.socket.service.WebSocketNotificationService;
+import com.example.myroom.global.config.RabbitConfig;
+import com.example.myroom.global.messaging.ContentNegotiatingMessageConverter;
+import com.example.myroom.global.messaging.IdempotentMessageGuard;
+import com.example.myroom.global.messaging.ListenerRetryAdvice;
+import com.example.myroom.global.messaging.MessageLatencyTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("RecommandConsumer 배치 처리/한 건씩 재처리")
+class RecommandConsumerTest {
+    private RecommandService recommandService;
+    private WebSocketNotificationService webSocketNotificationService;
+    private IdempotentMessageGuard idempotentMessageGuard;
+    private ListenerRetryAdvice listenerRetryAdvice;
+    private RecommandConsumer recommandConsumer;
+
+    @BeforeEach
+    void setUp() {
+        recommandService = mock(RecommandService.class);
+        webSocketNotificationService = mock(WebSocketNotificationService.class);
+        idempotentMessageGuard = mock(IdempotentMessageGuard.class);
+        listenerRetryAdvice = mock(ListenerRetryAdvice.class);
+        when(idempotentMessageGuard.filterUnprocessed(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        claimOnly(null);
+        when(idempotentMessageGuard.runOnce(any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        recommandConsumer = new RecommandConsumer(recommandService, webSocketNotificationService, objectMapper,
+                idempotentMessageGuard, new MessageLatencyTracker(new SimpleMeterRegistry(), 6),
+                new ContentNegotiatingMessageConverter(objectMapper, "json", 0), listenerRetryAdvice);
+    }
+
+    @Test
+    @DisplayName("__TypeId__ 헤더가 없는 응답도 응답 객체로 변환하여 한 번에 저장한다")
+    void convertsMessagesWithoutTypeHeader() {
+        Message first = response(1L, "success");
+        Message second = response(2L, "failed");
+
+        recommandConsumer.handleRecommandResponses(List.of(first, second));
+
+        ArgumentCaptor<List<RecommandResponseMessage>> saved = captureSaved();
+        assertThat(saved.getValue()).extracting(RecommandResponseMessage::getMemberId).containsExactly(1L, 2L);
+        verify(webSocketNotificationService, times(2)).sendRecommandNotification(any());
+        verify(idempotentMessageGuard).runOnceAll(eq(List.of(first, second)), any());
+        verify(idempotentMessageGuard, never()).runOnce(any(), any());
+        verify(listenerRetryAdvice, never()).recover(any(), any());
+    }
+
+    @Test
+    @DisplayName("처리 기록 선점에 실패한(이미 처리된) 응답은 저장하지 않는다")
+    void savesOnlyClaimedResponses() {
+        Message claimed = response(1L, "success");
+        Message alreadyProcessed = response(2L, "success");
+        claimOnly(claimed);
+
+        recommandConsumer.handleRecommandResponses(List.of(claimed, alreadyProcessed));
+
+        assertThat(captureSaved().getValue()).extracting(RecommandResponseMessage::getMemberId).containsExactly(1L);
+        verify(webSocketNotificationService, times(1)).sendRecommandNotification(any());
+        verify(listenerRetryAdvice, never()).recover(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 한 건씩 다시 저장하고, 실패한 메시지만 재시도로 보낸다")
+    void fallsBackToSingleSavesAndRecoversOnlyFailures() {
+        Message ok = response(1L, "success");
+        Message broken = response(2L, "success");
+        doThrow(new IllegalStateException("batch failed")).when(recommandService).saveRecommandResults(anyList());
+        doThrow(new IllegalStateException("member 2 missing")).when(recommandService)
+                .saveRecommandResult(argThat(response -> response.getMemberId() == 2L));
+
+        recommandConsumer.handleRecommandResponses(List.of(ok, broken));
+
+        verify(recommandService, times(2)).saveRecommandResult(any());
+        verify(webSocketNotificationService, times(1)).sendRecommandNotification(any());
+        verify(idempotentMessageGuard, times(2)).runOnce(any(), any());
+        verify(listenerRetryAdvice).recover(eq(broken), any(IllegalStateException.class));
+    }
+
+    @Test
+    @DisplayName("변환에 실패한 메시지만 파킹 처리로 넘기고 나머지는 저장한다")
+    void recoversUnconvertibleMessages() {
+        Message ok = response(1L, "success");
+        Message garbage = message("not json");
+
+        recommandConsumer.handleRecommandResponses(List.of(garbage, ok));
+
+        verify(listenerRetryAdvice).recover(eq(garbage), any(MessageConversionException.class));
+        assertThat(captureSaved().getValue()).extracting(RecommandResponseMessage::getMemberId).containsExactly(1L);
+        verify(idempotentMessageGuard).runOnceAll(eq(List.of(ok)), any());
+    }
+
+    // claimedMessage가 null이면 전달된 메시지를 모두 선점한 것으로 처리합니다.
+    private void claimOnly(Message claimedMessage) {
+        when(idempotentMessageGuard.runOnceAll(anyList(), any())).thenAnswer(invocation -> {
+            List<Message> claimed = claimedMessage == null ? invocation.getArgument(0) : List.of(claimedMessage);
+            invocation.<Consumer<List<Message>>>getArgument(1).accept(claimed);
+            return claimed;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<RecommandResponseMessage>> captureSaved() {
+        ArgumentCaptor<List<RecommandResponseMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(recommandService).saveRecommandResults(captor.capture());
+        return captor;
+    }
+
+    private Message response(Long memberId, String status) {
+        return message("{\"memberId\":" + memberId + ",\"status\":\"" + status + "\",\"timestamp\":1700000000000}");
+    }
+
+    // AI 서버가 보내는 것과 같이 content type만 있고 __TypeId__ 헤더는 없는 메시지
+    private Message message(String body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setConsumerQueue(RabbitConfig.RECOMMAND_RESPONSE_QUEUE);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
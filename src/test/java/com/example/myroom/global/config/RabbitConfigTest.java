@@ -0,0 +1,51 @@
+package com.example.myroom.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.amqp.autoconfigure.RabbitProperties;
+import org.springframework.boot.amqp.autoconfigure.RabbitTemplateConfigurer;
+
+@DisplayName("RabbitConfig 발행 전용 템플릿")
+class RabbitConfigTest {
+    private final RabbitConfig rabbitConfig = new RabbitConfig();
+    private final RabbitTemplateConfigurer configurer = new RabbitTemplateConfigurer(new RabbitProperties());
+
+    @Test
+    @DisplayName("발행 전용 템플릿은 발행용 연결에만 컨펌/반송을 켜고 mandatory로 발행한다")
+    void publisherTemplateUsesPublisherConnection() {
+        CachingConnectionFactory connectionFactory = new CachingConnectionFactory("localhost");
+
+        RabbitTemplate publisherTemplate = rabbitConfig.publisherRabbitTemplate(configurer, connectionFactory, 48);
+
+        CachingConnectionFactory publisherConnectionFactory =
+                (CachingConnectionFactory) connectionFactory.getPublisherConnectionFactory();
+        assertThat(publisherTemplate.getConnectionFactory()).isSameAs(publisherConnectionFactory);
+        assertThat(publisherConnectionFactory.isPublisherConfirms()).isTrue();
+        assertThat(publisherConnectionFactory.isPublisherReturns()).isTrue();
+        assertThat(publisherConnectionFactory.getChannelCacheSize()).isEqualTo(48);
+        assertThat(publisherTemplate.isMandatoryFor(null)).isTrue();
+
+        // 공용 연결(리스너/공용 템플릿)의 설정은 바뀌지 않습니다.
+        assertThat(connectionFactory.isPublisherConfirms()).isFalse();
+        assertThat(connectionFactory.isPublisherReturns()).isFalse();
+    }
+
+    @Test
+    @DisplayName("공용 템플릿은 반송 콜백이 없어 다른 컴포넌트가 등록할 수 있고, 발행 전용 템플릿에는 추가 등록할 수 없다")
+    void returnsCallbackIsOwnedByPublisherTemplate() {
+        CachingConnectionFactory connectionFactory = new CachingConnectionFactory("localhost");
+        RabbitTemplate sharedTemplate = rabbitConfig.rabbitTemplate(configurer, connectionFactory);
+        RabbitTemplate publisherTemplate = rabbitConfig.publisherRabbitTemplate(configurer, connectionFactory, 32);
+
+        sharedTemplate.setReturnsCallback(returned -> { });
+
+        assertThat(sharedTemplate.getConnectionFactory()).isSameAs(connectionFactory);
+        assertThatThrownBy(() -> publisherTemplate.setReturnsCallback(returned -> { }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
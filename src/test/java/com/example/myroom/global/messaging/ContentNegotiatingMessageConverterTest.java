@@ -0,0 +1,104 @@
+package com.example.myroom.global.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("ContentNegotiatingMessageConverter 형식별 직렬화/역직렬화")
+class ContentNegotiatingMessageConverterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("json/smile/cbor 모두 __TypeId__ 헤더만으로 원래 객체로 되돌린다")
+    void roundTripsEachFormat() {
+        Payload payload = new Payload("의자", List.of(1, 2, 3));
+        for (String format : List.of("json", "smile", "cbor")) {
+            ContentNegotiatingMessageConverter converter = new ContentNegotiatingMessageConverter(objectMapper, format, 0);
+            Message message = converter.toMessage(payload, new MessageProperties());
+
+            assertThat(message.getMessageProperties().getHeaders()).containsEntry("__TypeId__", Payload.class.getName());
+            assertThat(message.getMessageProperties().getContentEncoding()).isNotEqualTo("gzip");
+            assertThat(converter.fromMessage(message)).isEqualTo(payload);
+        }
+    }
+
+    @Test
+    @DisplayName("발신 content type과 수신 가능 형식 헤더를 지정한다")
+    void setsContentTypeAndAcceptHeader() {
+        ContentNegotiatingMessageConverter converter = new ContentNegotiatingMessageConverter(objectMapper, "smile", 0);
+        Message message = converter.toMessage(new Payload("a", List.of()), new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType())
+                .isEqualTo(ContentNegotiatingMessageConverter.CONTENT_TYPE_SMILE);
+        assertThat((String) message.getMessageProperties()
+                .getHeader(ContentNegotiatingMessageConverter.ACCEPT_CONTENT_TYPE_HEADER))
+                .isEqualTo(ContentNegotiatingMessageConverter.ACCEPTED_CONTENT_TYPES);
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상이면 gzip으로 압축하고, 수신 시 content-encoding을 보고 푼다")
+    void gzipsLargeBodies() {
+        ContentNegotiatingMessageConverter converter = new ContentNegotiatingMessageConverter(objectMapper, "json", 64);
+        Payload payload = new Payload("x".repeat(1000), Collections.nCopies(100, 7));
+        Message message = converter.toMessage(payload, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentEncoding())
+                .isEqualTo(ContentNegotiatingMessageConverter.CONTENT_ENCODING_GZIP);
+        assertThat(message.getBody().length).isLessThan(1000);
+        assertThat(converter.fromMessage(message)).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("content type이 없는 메시지는 JSON으로 읽고, 리스너 파라미터 타입을 __TypeId__ 헤더보다 우선한다")
+    void prefersInferredTypeAndDefaultsToJson() {
+        ContentNegotiatingMessageConverter converter = new ContentNegotiatingMessageConverter(objectMapper, "json", 0);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(null);
+        properties.setHeader("__TypeId__", "com.example.other.Unknown");
+        properties.setInferredArgumentType(Payload.class);
+
+        Object converted = converter.fromMessage(
+                new Message("{\"name\":\"책상\",\"values\":[4]}".getBytes(), properties));
+
+        assertThat(converted).isEqualTo(new Payload("책상", List.of(4)));
+    }
+
+    @Test
+    @DisplayName("타입 정보가 전혀 없으면 Map으로 읽는다")
+    void readsMapWithoutTypeInformation() {
+        ContentNegotiatingMessageConverter converter = new ContentNegotiatingMessageConverter(objectMapper, "json", 0);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+
+        Object converted = converter.fromMessage(new Message("{\"name\":\"책상\"}".getBytes(), properties));
+
+        assertThat(converted).isInstanceOf(Map.class);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 content type과 발신 형식은 거부한다")
+    void rejectsUnsupportedFormats() {
+        ContentNegotiatingMessageConverter converter = new ContentNegotiatingMessageConverter(objectMapper, "json", 0);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType("text/plain");
+
+        assertThatThrownBy(() -> converter.fromMessage(new Message("hello".getBytes(), properties)))
+                .isInstanceOf(MessageConversionException.class);
+        assertThatThrownBy(() -> new ContentNegotiatingMessageConverter(objectMapper, "xml", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    record Payload(String name, List<Integer> values) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.myroom.global.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.global.messaging.MessageLatencyTracker.LatencySample;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("IdempotentMessageGuard 처리 기록/커밋 이후 알림")
+class IdempotentMessageGuardTest {
+    private ProcessedMessageRepository processedMessageRepository;
+    private MessageLatencyTracker messageLatencyTracker;
+    private IdempotentMessageGuard idempotentMessageGuard;
+
+    @BeforeEach
+    void setUp() {
+        processedMessageRepository = mock(ProcessedMessageRepository.class);
+        messageLatencyTracker = new MessageLatencyTracker(new SimpleMeterRegistry(), 6);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+        idempotentMessageGuard = new IdempotentMessageGuard(processedMessageRepository, transactionTemplate,
+                new SimpleMeterRegistry(), 100, 72);
+    }
+
+    @Test
+    @DisplayName("작업 중 보낸 알림은 처리 기록과 함께 커밋된 뒤에 발송된다")
+    void deliversNotificationAfterCommit() {
+        when(processedMessageRepository.insertIfAbsent(anyString())).thenReturn(1);
+        Message message = message("m-1");
+        LatencySample latency = messageLatencyTracker.received(MessageFlow.ROOM3D, 1L, message, null, null);
+        AtomicBoolean notified = new AtomicBoolean(false);
+
+        boolean executed = idempotentMessageGuard.runOnce(message, () -> {
+            latency.deliver(() -> notified.set(true));
+            latency.finish();
+            assertThat(notified).isFalse();
+        });
+
+        assertThat(executed).isTrue();
+        assertThat(notified).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업이 실패해 롤백되면 알림은 발송되지 않는다")
+    void doesNotDeliverNotificationOnRollback() {
+        when(processedMessageRepository.insertIfAbsent(anyString())).thenReturn(1);
+        Message message = message("m-2");
+        LatencySample latency = messageLatencyTracker.received(MessageFlow.ROOM3D, 2L, message, null, null);
+        AtomicBoolean notified = new AtomicBoolean(false);
+
+        assertThatThrownBy(() -> idempotentMessageGuard.runOnce(message, () -> {
+            latency.deliver(() -> notified.set(true));
+            throw new IllegalStateException("DB 저장 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(notified).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 기록된 메시지는 작업을 실행하지 않고, 이후 같은 메시지는 캐시로 건너뛴다")
+    void skipsAlreadyProcessedMessage() {
+        when(processedMessageRepository.insertIfAbsent(anyString())).thenReturn(0);
+        Message message = message("m-3");
+        AtomicBoolean ran = new AtomicBoolean(false);
+
+        assertThat(idempotentMessageGuard.runOnce(message, () -> ran.set(true))).isFalse();
+        assertThat(idempotentMessageGuard.runOnce(message, () -> ran.set(true))).isFalse();
+
+        assertThat(ran).isFalse();
+        verify(processedMessageRepository, times(1)).insertIfAbsent(anyString());
+    }
+
+    @Test
+    @DisplayName("배치 처리는 기록 선점에 성공한 메시지만 작업에 넘기고, 알림은 커밋 이후에 발송한다")
+    void runsBatchTaskOnlyForClaimedMessages() {
+        when(processedMessageRepository.insertIfAbsent(anyString())).thenReturn(1, 0);
+        Message first = message("m-4");
+        Message duplicate = message("m-5");
+        LatencySample latency = messageLatencyTracker.received(MessageFlow.RECOMMAND, 4L, first, null, null);
+        AtomicBoolean notified = new AtomicBoolean(false);
+        List<Message> handed = new ArrayList<>();
+
+        List<Message> claimed = idempotentMessageGuard.runOnceAll(List.of(first, duplicate), messages -> {
+            handed.addAll(messages);
+            latency.deliver(() -> notified.set(true));
+            assertThat(notified).isFalse();
+        });
+
+        assertThat(claimed).containsExactly(first);
+        assertThat(handed).containsExactly(first);
+        assertThat(notified).isTrue();
+    }
+
+    private Message message(String messageId) {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(messageId);
+        properties.setConsumerQueue("room3d.response.queue");
+        return new Message("{}".getBytes(), properties);
+    }
+
+    // 트랜잭션 동기화(afterCommit 콜백)만 실제로 동작하는 트랜잭션 매니저
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
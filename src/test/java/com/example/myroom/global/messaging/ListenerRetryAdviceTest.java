@@ -0,0 +1,122 @@
+package com.example.myroom.global.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.example.myroom.global.config.RabbitConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ListenerRetryAdvice 재시도 단계/파킹 처리")
+class ListenerRetryAdviceTest {
+    private RabbitMessagePublisher rabbitMessagePublisher;
+    private ListenerRetryAdvice listenerRetryAdvice;
+
+    @BeforeEach
+    void setUp() {
+        rabbitMessagePublisher = mock(RabbitMessagePublisher.class);
+        // deliveryMode 복원은 실제 republish가 처리하고, 발행만 가짜로 완료시킵니다.
+        when(rabbitMessagePublisher.republish(anyString(), anyString(), any(Message.class))).thenCallRealMethod();
+        when(rabbitMessagePublisher.publish(anyString(), anyString(), any(Message.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        listenerRetryAdvice = new ListenerRetryAdvice(rabbitMessagePublisher, new SimpleMeterRegistry(), 5, 3, 1000);
+    }
+
+    @Test
+    @DisplayName("시도 횟수에 따라 재시도 단계가 올라가고, 마지막 단계 이후로는 마지막 단계를 유지한다")
+    void escalatesRetryTierByAttempt() {
+        String queue = RabbitConfig.MODEL3D_RESPONSE_QUEUE;
+
+        assertThat(recoverAndCaptureRoutingKey(received(queue, null), RabbitConfig.RETRY_EXCHANGE))
+                .isEqualTo(RabbitConfig.retryQueue(queue, 0));
+        assertThat(recoverAndCaptureRoutingKey(received(queue, 1), RabbitConfig.RETRY_EXCHANGE))
+                .isEqualTo(RabbitConfig.retryQueue(queue, 1));
+        assertThat(recoverAndCaptureRoutingKey(received(queue, 3), RabbitConfig.RETRY_EXCHANGE))
+                .isEqualTo(RabbitConfig.retryQueue(queue, 2));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 파킹 큐로 보낸다")
+    void parksAfterMaxAttempts() {
+        String queue = RabbitConfig.ROOM3D_RESPONSE_QUEUE;
+        Message message = received(queue, 4);
+
+        assertThat(recoverAndCaptureRoutingKey(message, RabbitConfig.DEAD_LETTER_EXCHANGE))
+                .isEqualTo(RabbitConfig.parkingLotQueue(queue));
+        assertThat((Integer) message.getMessageProperties().getHeader(RabbitConfig.RETRY_ATTEMPT_HEADER)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("변환 실패와 요청 큐 메시지는 재시도 없이 바로 파킹 큐로 보낸다")
+    void parksConversionFailuresAndRequestQueues() {
+        Message unconvertible = received(RabbitConfig.RECOMMAND_RESPONSE_QUEUE, null);
+        listenerRetryAdvice.recover(unconvertible, new MessageConversionException("bad payload"));
+        verify(rabbitMessagePublisher).publish(eq(RabbitConfig.DEAD_LETTER_EXCHANGE),
+                eq(RabbitConfig.parkingLotQueue(RabbitConfig.RECOMMAND_RESPONSE_QUEUE)), eq(unconvertible));
+
+        Message request = received(RabbitConfig.MODEL3D_QUEUE, null);
+        listenerRetryAdvice.recover(request, new IllegalStateException("boom"));
+        verify(rabbitMessagePublisher).publish(eq(RabbitConfig.DEAD_LETTER_EXCHANGE),
+                eq(RabbitConfig.parkingLotQueue(RabbitConfig.MODEL3D_QUEUE)), eq(request));
+    }
+
+    @Test
+    @DisplayName("재발행 메시지는 수신 시의 deliveryMode를 유지하고, 알 수 없으면 PERSISTENT로 발행한다")
+    void republishesWithReceivedOrPersistentDeliveryMode() {
+        Message unknown = received(RabbitConfig.MODEL3D_RESPONSE_QUEUE, null);
+        listenerRetryAdvice.recover(unknown, new IllegalStateException("boom"));
+        assertThat(unknown.getMessageProperties().getDeliveryMode()).isEqualTo(MessageDeliveryMode.PERSISTENT);
+
+        Message nonPersistent = received(RabbitConfig.MODEL3D_RESPONSE_QUEUE, null);
+        nonPersistent.getMessageProperties().setReceivedDeliveryMode(MessageDeliveryMode.NON_PERSISTENT);
+        listenerRetryAdvice.recover(nonPersistent, new IllegalStateException("boom"));
+        assertThat(nonPersistent.getMessageProperties().getDeliveryMode()).isEqualTo(MessageDeliveryMode.NON_PERSISTENT);
+    }
+
+    @Test
+    @DisplayName("재발행이 실패하면 거절하여 큐의 DLX로 넘긴다")
+    void rejectsWhenRepublishFails() {
+        when(rabbitMessagePublisher.publish(anyString(), anyString(), any(Message.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("nack")));
+
+        assertThatThrownBy(() -> listenerRetryAdvice.recover(
+                received(RabbitConfig.MODEL3D_RESPONSE_QUEUE, null), new IllegalStateException("boom")))
+                .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+    }
+
+    private String recoverAndCaptureRoutingKey(Message message, String expectedExchange) {
+        listenerRetryAdvice.recover(message, new IllegalStateException("boom"));
+        ArgumentCaptor<String> routingKey = ArgumentCaptor.forClass(String.class);
+        verify(rabbitMessagePublisher).publish(eq(expectedExchange), routingKey.capture(), eq(message));
+        return routingKey.getValue();
+    }
+
+    // 수신 메시지와 같이 deliveryMode는 비어 있고 소비 큐가 채워진 메시지
+    private Message received(String queue, Integer attempt) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(queue);
+        properties.setDeliveryMode(null);
+        if (attempt != null) {
+            properties.setHeader(RabbitConfig.RETRY_ATTEMPT_HEADER, attempt);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.myroom.global.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.myroom.global.messaging.RabbitMessagePublisher;
+
+@DisplayName("OutboxRelay 배치 발행/컨펌 처리")
+class OutboxRelayTest {
+    private OutboxMessageRepository outboxMessageRepository;
+    private RabbitMessagePublisher rabbitMessagePublisher;
+    private PlatformTransactionManager transactionManager;
+    private AmqpAdmin amqpAdmin;
+    private OutboxRelay outboxRelay;
+    // 결과 기록 트랜잭션에서 다시 읽는 행 (id -> 엔티티)
+    private final Map<Long, OutboxMessage> rows = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageRepository = mock(OutboxMessageRepository.class);
+        rabbitMessagePublisher = mock(RabbitMessagePublisher.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        amqpAdmin = mock(AmqpAdmin.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        outboxRelay = new OutboxRelay(outboxMessageRepository, rabbitMessagePublisher, transactionTemplate,
+                mock(TaskScheduler.class), amqpAdmin, 2, 24, 60, "model3d.upload.queue", 4);
+        when(outboxMessageRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<OutboxMessage> found = new ArrayList<>();
+            ids.forEach(id -> found.add(rows.get(id)));
+            return found;
+        });
+    }
+
+    @Test
+    @DisplayName("ack된 메시지만 발행 완료로 기록하고, nack/타임아웃은 재시도 대기로 돌린다")
+    void marksOnlyAckedMessagesAsPublished() {
+        OutboxMessage acked = outboxMessage(1L);
+        OutboxMessage nacked = outboxMessage(2L);
+        OutboxMessage timedOut = outboxMessage(3L);
+        when(outboxMessageRepository.findPendingForUpdate(any(), anyInt()))
+                .thenReturn(List.of(acked, nacked, timedOut), List.of());
+        when(rabbitMessagePublisher.publish(eq("model3d.exchange"), eq("model3d.upload"), any(Message.class)))
+                .thenReturn(CompletableFuture.completedFuture(null),
+                        CompletableFuture.failedFuture(new IllegalStateException("nack: queue full")),
+                        CompletableFuture.failedFuture(new TimeoutException()));
+
+        outboxRelay.drain();
+
+        assertThat(acked.getPublishedAt()).isNotNull();
+        assertThat(nacked.getPublishedAt()).isNull();
+        assertThat(nacked.getAttempts()).isEqualTo(1);
+        assertThat(nacked.getLastError()).isEqualTo("nack: queue full");
+        assertThat(timedOut.getPublishedAt()).isNull();
+        assertThat(timedOut.getLastError()).isEqualTo("confirm timeout");
+        assertThat(timedOut.getNextAttemptAt()).isAfter(timedOut.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("발행 메시지는 아웃박스 ID 기반 messageId, PERSISTENT, __TypeId__ 헤더를 가진다")
+    void buildsPersistentMessageWithStableMessageId() {
+        when(outboxMessageRepository.findPendingForUpdate(any(), anyInt()))
+                .thenReturn(List.of(outboxMessage(7L)), List.of());
+        when(rabbitMessagePublisher.publish(any(), any(), any(Message.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.drain();
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitMessagePublisher).publish(eq("model3d.exchange"), eq("model3d.upload"), captor.capture());
+        Message message = captor.getValue();
+        assertThat(message.getMessageProperties().getMessageId()).isEqualTo("outbox-7");
+        assertThat(message.getMessageProperties().getDeliveryMode()).isEqualTo(MessageDeliveryMode.PERSISTENT);
+        assertThat(message.getMessageProperties().<String>getHeader("__TypeId__")).isEqualTo("com.example.Payload");
+        assertThat(new String(message.getBody())).isEqualTo("{\"id\":7}");
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 빈 배치가 나올 때까지 이어서 발행한다")
+    void keepsDrainingWhileBatchIsFull() {
+        when(outboxMessageRepository.findPendingForUpdate(any(), anyInt()))
+                .thenReturn(List.of(outboxMessage(1L), outboxMessage(2L)), List.of(outboxMessage(3L)));
+        when(rabbitMessagePublisher.publish(any(), any(), any(Message.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.drain();
+
+        verify(outboxMessageRepository, times(2)).findPendingForUpdate(any(), eq(2));
+        verify(rabbitMessagePublisher, times(3)).publish(any(), any(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("행을 리스로 가져가는 트랜잭션을 커밋한 뒤 발행하고, 결과는 별도 트랜잭션에서 기록한다")
+    void publishesOutsideClaimTransaction() {
+        OutboxMessage outboxMessage = outboxMessage(1L);
+        when(outboxMessageRepository.findPendingForUpdate(any(), anyInt()))
+                .thenReturn(List.of(outboxMessage), List.of());
+        when(rabbitMessagePublisher.publish(any(), any(), any(Message.class)))
+                .thenAnswer(invocation -> {
+                    // 발행 시점에는 리스가 잡혀 있어 다른 릴레이가 다시 가져가지 않습니다.
+                    assertThat(outboxMessage.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+                    return CompletableFuture.completedFuture(null);
+                });
+
+        outboxRelay.drain();
+
+        InOrder inOrder = inOrder(transactionManager, outboxMessageRepository, rabbitMessagePublisher);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(outboxMessageRepository).findPendingForUpdate(any(), eq(2));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(rabbitMessagePublisher).publish(any(), any(), any(Message.class));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(outboxMessageRepository).findAllById(any());
+        inOrder.verify(transactionManager).commit(any());
+        assertThat(outboxMessage.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("우선순위 메시지는 대상 큐에 남은 자리만큼만 가져가 높은 우선순위부터 발행한다")
+    void releasesPrioritizedMessagesOnlyIntoFreeQueueSlots() {
+        when(amqpAdmin.getQueueInfo("model3d.upload.queue"))
+                .thenReturn(new QueueInformation("model3d.upload.queue", 3, 1));
+        OutboxMessage interactive = outboxMessage(1L, 8);
+        when(outboxMessageRepository.findPrioritizedPendingForUpdate(any(), anyInt()))
+                .thenReturn(List.of(interactive));
+        when(rabbitMessagePublisher.publish(any(), any(), any(Message.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.drain();
+
+        // max-queued(4) - 대기 중(3) = 1건
+        verify(outboxMessageRepository).findPrioritizedPendingForUpdate(any(), eq(1));
+        assertThat(interactive.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("대상 큐가 가득 찼거나 큐 정보를 조회하지 못하면 우선순위 메시지는 아웃박스에서 기다린다")
+    void holdsPrioritizedMessagesWhileQueueIsFull() {
+        when(amqpAdmin.getQueueInfo("model3d.upload.queue"))
+                .thenReturn(new QueueInformation("model3d.upload.queue", 4, 1))
+                .thenThrow(new AmqpConnectException(new IllegalStateException("connection refused")));
+
+        outboxRelay.drain();
+        outboxRelay.drain();
+
+        verify(outboxMessageRepository, never()).findPrioritizedPendingForUpdate(any(), anyInt());
+        verify(outboxMessageRepository, times(2)).findPendingForUpdate(any(), eq(2));
+    }
+
+    private OutboxMessage outboxMessage(Long id) {
+        return outboxMessage(id, null);
+    }
+
+    private OutboxMessage outboxMessage(Long id, Integer priority) {
+        OutboxMessage outboxMessage = OutboxMessage.builder()
+                .exchange("model3d.exchange")
+                .routingKey("model3d.upload")
+                .payloadType("com.example.Payload")
+                .payload("{\"id\":" + id + "}")
+                .priority(priority)
+                .build();
+        ReflectionTestUtils.setField(outboxMessage, "id", id);
+        rows.put(id, outboxMessage);
+        return outboxMessage;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.myroom.global.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("SchedulerLeaseLock 리스 획득/만료/반납")
+class SchedulerLeaseLockTest {
+    private static final String NAME = "test-job";
+
+    // scheduler_lease 테이블 대신 쓰는 메모리 행 (name -> 소유자/만료 시각)과 DB 시각
+    private final Map<String, Lease> leases = new HashMap<>();
+    private Instant dbNow = Instant.parse("2026-01-01T00:00:00Z");
+
+    private SchedulerLeaseLock serverA;
+    private SchedulerLeaseLock serverB;
+
+    @BeforeEach
+    void setUp() {
+        SchedulerLeaseRepository repository = mock(SchedulerLeaseRepository.class);
+        when(repository.acquireIfAvailable(anyString(), anyString(), anyLong())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            String owner = invocation.getArgument(1);
+            long seconds = invocation.getArgument(2);
+            Lease lease = leases.get(name);
+            if (lease == null || !(lease.lockedUntil().isBefore(dbNow) || lease.owner().equals(owner))) {
+                return 0;
+            }
+            leases.put(name, new Lease(owner, dbNow.plusSeconds(seconds)));
+            return 1;
+        });
+        when(repository.insertIfAbsent(anyString(), anyString(), anyLong())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            if (leases.containsKey(name)) {
+                return 0;
+            }
+            leases.put(name, new Lease(invocation.getArgument(1), dbNow.plusSeconds(invocation.<Long>getArgument(2))));
+            return 1;
+        });
+        when(repository.release(anyString(), anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            Lease lease = leases.get(name);
+            if (lease == null || !lease.owner().equals(invocation.getArgument(1))) {
+                return 0;
+            }
+            leases.put(name, new Lease(lease.owner(), dbNow));
+            return 1;
+        });
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        serverA = new SchedulerLeaseLock(repository, transactionTemplate);
+        serverB = new SchedulerLeaseLock(repository, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("리스가 살아 있는 동안에는 다른 서버가 얻지 못하고, 같은 서버는 연장할 수 있다")
+    void refusesOtherOwnerWhileLeaseIsValid() {
+        assertThat(serverA.tryAcquire(NAME, Duration.ofSeconds(60))).isTrue();
+
+        dbNow = dbNow.plusSeconds(30);
+        assertThat(serverB.tryAcquire(NAME, Duration.ofSeconds(60))).isFalse();
+        assertThat(serverA.tryAcquire(NAME, Duration.ofSeconds(60))).isTrue();
+    }
+
+    @Test
+    @DisplayName("반납하지 못한 리스도 만료되면 다른 서버가 가져간다")
+    void takesOverExpiredLease() {
+        assertThat(serverA.tryAcquire(NAME, Duration.ofSeconds(60))).isTrue();
+
+        dbNow = dbNow.plusSeconds(61);
+
+        assertThat(serverB.tryAcquire(NAME, Duration.ofSeconds(60))).isTrue();
+        assertThat(serverA.tryAcquire(NAME, Duration.ofSeconds(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면(실패해도) 리스를 바로 반납해 다른 서버가 다음 주기에 실행할 수 있다")
+    void releasesLeaseAfterTask() {
+        AtomicBoolean ran = new AtomicBoolean(false);
+        assertThat(serverA.runExclusively(NAME, Duration.ofMinutes(5), () -> ran.set(true))).isTrue();
+        assertThat(ran).isTrue();
+
+        dbNow = dbNow.plusMillis(1);
+        assertThatThrownBy(() -> serverB.runExclusively(NAME, Duration.ofMinutes(5), () -> {
+            throw new IllegalStateException("작업 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        dbNow = dbNow.plusMillis(1);
+        assertThat(serverA.tryAcquire(NAME, Duration.ofMinutes(5))).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 리스를 가지고 있으면 작업을 실행하지 않는다")
+    void skipsTaskWhenLeaseIsHeldElsewhere() {
+        serverA.tryAcquire(NAME, Duration.ofMinutes(5));
+        AtomicBoolean ran = new AtomicBoolean(false);
+
+        assertThat(serverB.runExclusively(NAME, Duration.ofMinutes(5), () -> ran.set(true))).isFalse();
+        assertThat(ran).isFalse();
+    }
+
+    private record Lease(String owner, Instant lockedUntil) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.myroom.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("InMemorySearchIndex 페이지 검색")
+class InMemorySearchIndexTest {
+    private TestIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new TestIndex();
+        ReflectionTestUtils.setField(searchIndex, "maxWindow", 100);
+        searchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("id 내림차순으로 페이지를 나누고 전체 건수를 돌려준다")
+    void pagesLatestFirst() {
+        Page<Long> page = searchIndex.searchPage("책상", null, PageRequest.of(1, 3), Function.identity(),
+                Function.identity(), id -> true);
+
+        assertThat(page.getContent()).containsExactly(7L, 6L, 5L);
+        assertThat(page.getTotalElements()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("검증에서 빠진 후보는 다음 후보로 채우고 전체 건수에서 뺀다")
+    void refillsDroppedCandidates() {
+        Set<Long> changedElsewhere = Set.of(9L, 8L);
+
+        Page<Long> page = searchIndex.searchPage("책상", null, PageRequest.of(0, 3), Function.identity(),
+                Function.identity(), id -> !changedElsewhere.contains(id));
+
+        assertThat(page.getContent()).containsExactly(10L, 7L, 6L);
+        assertThat(page.getTotalElements()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("마지막 후보까지 확인한 페이지의 전체 건수는 실제 결과와 같다")
+    void lastPageTotalIsExact() {
+        Page<Long> page = searchIndex.searchPage("책상", null, PageRequest.of(1, 8), Function.identity(),
+                Function.identity(), id -> id != 1L);
+
+        assertThat(page.getContent()).containsExactly(2L);
+        assertThat(page.getTotalElements()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("id 내림차순이 아닌 정렬과 범위를 넘는 페이지는 색인으로 처리하지 않는다")
+    void rejectsUnsupportedPages() {
+        Pageable byName = PageRequest.of(0, 10, Sort.by("name"));
+        Pageable tooDeep = PageRequest.of(10, 10);
+
+        assertThat(searchIndex.canSearch(PageRequest.of(0, 10))).isTrue();
+        assertThat(searchIndex.canSearch(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")))).isTrue();
+        assertThat(searchIndex.canSearch(byName)).isFalse();
+        assertThat(searchIndex.canSearch(tooDeep)).isFalse();
+        assertThat(searchIndex.canSearch(Pageable.unpaged())).isFalse();
+        assertThatThrownBy(() -> searchIndex.searchPage("책상", null, byName, Function.identity(),
+                Function.identity(), id -> true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchIndex.searchPage("책상", null, tooDeep, Function.identity(),
+                Function.identity(), id -> true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정렬이 없는 LIKE 검색 요청에는 색인과 같은 id 내림차순을 붙인다")
+    void latestFirstAddsIdDescending() {
+        Pageable sortedByName = PageRequest.of(0, 10, Sort.by("name"));
+
+        assertThat(InMemorySearchIndex.latestFirst(PageRequest.of(2, 10)))
+                .isEqualTo(PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "id")));
+        assertThat(InMemorySearchIndex.latestFirst(sortedByName)).isSameAs(sortedByName);
+    }
+
+    private static class TestIndex extends InMemorySearchIndex {
+        @Override
+        protected void loadAll(NgramIndex target) {
+            for (long id = 1; id <= 10; id++) {
+                target.put(id, null, "책상 " + id);
+            }
+            target.put(11L, null, "의자");
+        }
+
+        @Override
+        protected String indexName() {
+            return "test";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.myroom.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NgramIndex 검색/삭제")
+class NgramIndexTest {
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        index.put(1L, "CHAIR", "원목 의자");
+        index.put(2L, "CHAIR", "Modern  Chair");
+        index.put(3L, "TABLE", "원목 테이블");
+        index.put(4L, "TABLE", "의자 세트용 테이블");
+    }
+
+    @Test
+    @DisplayName("검색어를 포함하는 문서를 id 내림차순으로 찾는다")
+    void searchesSubstringLatestFirst() {
+        assertThat(index.search("원목", null)).containsExactly(3L, 1L);
+        assertThat(index.search("의자", null)).containsExactly(4L, 1L);
+        assertThat(index.search("테이블", null)).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram으로 찾는다")
+    void searchesSingleCharacter() {
+        assertThat(index.search("목", null)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("대소문자와 연속 공백 차이는 무시한다")
+    void ignoresCaseAndWhitespace() {
+        assertThat(index.search("modern chair", null)).containsExactly(2L);
+        assertThat(index.search("  CHAIR ", null)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("n-gram이 모두 있어도 원문에 연속으로 없으면 찾지 않는다")
+    void requiresContiguousMatch() {
+        // "원목"과 "목의" 2-gram이 모두 있지만 "원목의"는 없습니다.
+        index.put(6L, null, "원목 가구, 목의 결");
+
+        assertThat(index.search("원목의", null)).isEmpty();
+        assertThat(index.search("없는말", null)).isEmpty();
+        assertThat(index.search("  ", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필드 경계를 넘는 검색어는 찾지 않는다")
+    void doesNotMatchAcrossFields() {
+        index.put(5L, null, "소파", "베드");
+
+        assertThat(index.search("소파", null)).containsExactly(5L);
+        assertThat(index.search("파베", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태그를 주면 같은 태그의 문서만 찾는다")
+    void filtersByTag() {
+        assertThat(index.search("원목", "TABLE")).containsExactly(3L);
+        assertThat(index.search("원목", "SOFA")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("limit 개수만 id 내림차순으로 돌려주고 전체 건수는 따로 센다")
+    void limitsHitsAndCountsTotal() {
+        for (long id = 10; id < 110; id++) {
+            index.put(id, null, "책상 " + id);
+        }
+
+        NgramIndex.Hits hits = index.search("책상", null, 3);
+
+        assertThat(hits.ids()).containsExactly(109L, 108L, 107L);
+        assertThat(hits.total()).isEqualTo(100);
+        assertThat(index.search("책상", null, 0).ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제한 문서는 더 이상 검색되지 않고 포스팅 리스트에서도 빠진다")
+    void removesDocument() {
+        index.remove(1L);
+
+        assertThat(index.search("원목", null)).containsExactly(3L);
+        assertThat(index.search("의자", null)).containsExactly(4L);
+        assertThat(index.size()).isEqualTo(3);
+
+        index.remove(3L);
+        assertThat(index.search("원목", null)).isEmpty();
+
+        // 없는 id 삭제는 무시합니다.
+        index.remove(99L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 id를 다시 넣으면 이전 내용은 검색되지 않는다")
+    void replacesDocument() {
+        index.put(1L, "CHAIR", "철제 의자");
+
+        assertThat(index.search("원목", null)).containsExactly(3L);
+        assertThat(index.search("철제", null)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("matches는 색인과 같은 정규화로 포함 여부를 확인한다")
+    void matchesWithSameNormalization() {
+        assertThat(NgramIndex.matches("modern chair", "Modern  Chair")).isTrue();
+        assertThat(NgramIndex.matches("원목", null, "원목 의자")).isTrue();
+        assertThat(NgramIndex.matches("철제", "원목 의자")).isFalse();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.myroom.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+@DisplayName("CursorCodec 커서 인코딩/페이지 크기")
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 (createdAt, id)로 해석된다")
+    void roundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 45, 123_456_000);
+
+        String cursor = CursorCodec.encode(createdAt, 42L);
+
+        assertThat(CursorCodec.decode(cursor)).isEqualTo(new CursorCodec.Cursor(createdAt, 42L));
+    }
+
+    @Test
+    @DisplayName("커서는 URL-safe 문자만 쓰고 패딩이 없다")
+    void urlSafeWithoutPadding() {
+        String cursor = CursorCodec.encode(LocalDateTime.of(2025, 1, 1, 0, 0), 1L);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 모든 행보다 앞선 첫 페이지 커서를 반환한다")
+    void blankCursorReturnsFirstPage() {
+        CursorCodec.Cursor first = CursorCodec.decode(null);
+
+        assertThat(CursorCodec.decode("  ")).isEqualTo(first);
+        assertThat(first.id()).isEqualTo(Long.MAX_VALUE);
+        assertThat(first.createdAt()).isAfter(LocalDateTime.now().plusYears(100));
+    }
+
+    @Test
+    @DisplayName("Base64가 아니거나 형식이 다른 커서는 IllegalArgumentException")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> CursorCodec.decode("!!not-base64!!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> CursorCodec.decode(encodeRaw("2025-01-01T00:00")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> CursorCodec.decode(encodeRaw("yesterday|1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> CursorCodec.decode(encodeRaw("2025-01-01T00:00|abc")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 기본 20, 1 ~ 100으로 제한된다")
+    void pageSizeIsClamped() {
+        assertThat(CursorCodec.pageOf(null).getPageSize()).isEqualTo(CursorCodec.DEFAULT_SIZE);
+        assertThat(CursorCodec.pageOf(0).getPageSize()).isEqualTo(1);
+        assertThat(CursorCodec.pageOf(-5).getPageSize()).isEqualTo(1);
+        assertThat(CursorCodec.pageOf(500).getPageSize()).isEqualTo(CursorCodec.MAX_SIZE);
+
+        Pageable pageable = CursorCodec.pageOf(30);
+        assertThat(pageable.getPageSize()).isEqualTo(30);
+        assertThat(pageable.getOffset()).isZero();
+        assertThat(pageable.getSort().isUnsorted()).isTrue();
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}